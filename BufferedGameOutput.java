@@ -0,0 +1,118 @@
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A {@link GameOutput} that collects messages in a buffer and writes them to a stream in large
+ * pieces.
+ * <br>
+ * Unlike {@link System#out} this takes no lock and does not write each line as it is printed, so
+ * one game printing many lines does not make one system call per line.  The buffer is written
+ * when it fills up and when {@link BufferedGameOutput#flush()} is called, which
+ * {@link GameLoader} does before it waits for input.
+ * <br>
+ * Each game should have its own; this class is not thread safe.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+public class BufferedGameOutput implements GameOutput {
+
+  /**
+   * The buffer size used when none is given.
+   */
+  private static final int DEFAULT_SIZE = 8192;
+  /**
+   * Where the buffer is written.
+   */
+  private final OutputStream stream;
+  /**
+   * The text printed since the last write.
+   */
+  private final StringBuilder buffer;
+  /**
+   * The buffer is written once it holds this many characters.
+   */
+  private final int size;
+
+  /**
+   * Buffers up to 8192 characters.
+   *
+   * @param stream where to write.
+   */
+  public BufferedGameOutput(OutputStream stream) {
+    this(stream, DEFAULT_SIZE);
+  }
+
+  /**
+   * Creates a buffered output.
+   *
+   * @param stream where to write.
+   * @param size how many characters to collect before writing.
+   */
+  public BufferedGameOutput(OutputStream stream, int size) {
+    this.stream = stream;
+    this.size = size;
+    buffer = new StringBuilder(size);
+  }
+
+  @Override
+  public void print(String text) {
+    buffer.append(text);
+    writeIfFull();
+  }
+
+  @Override
+  public void println(String text) {
+    buffer.append(text).append('\n');
+    writeIfFull();
+  }
+
+  @Override
+  public void println(String prefix, char letter, String suffix) {
+    buffer.append(prefix).append(letter).append(suffix).append('\n');
+    writeIfFull();
+  }
+
+  /**
+   * Writes the buffer and flushes the stream.
+   *
+   * @throws UncheckedIOException if the stream cannot be written.
+   */
+  @Override
+  public void flush() {
+    write();
+    try {
+      stream.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Writes the buffer once it holds {@link BufferedGameOutput#size} characters.
+   */
+  private void writeIfFull() {
+    if (buffer.length() >= size) {
+      write();
+    }
+  }
+
+  /**
+   * Writes the buffer to the stream and empties it.
+   *
+   * @throws UncheckedIOException if the stream cannot be written.
+   */
+  private void write() {
+    if (buffer.length() == 0) {
+      return;
+    }
+    try {
+      stream.write(buffer.toString().getBytes(StandardCharsets.UTF_8));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    buffer.setLength(0);
+  }
+}
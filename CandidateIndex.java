@@ -0,0 +1,205 @@
+import java.util.Arrays;
+
+/**
+ * The dictionary laid out for {@link HangmanSolver}, so that narrowing down the words that fit a
+ * board is a few passes over bitsets instead of a pass over every word.
+ * <br>
+ * Words are grouped by length, since the length is the first thing a player sees.  Within a
+ * length the words are numbered from 0 in dictionary order, and each (position, letter) pair has a
+ * bitset with a bit set for every word with that letter at that position.  Each letter also has a
+ * bitset of the words that contain it anywhere.  A guess then narrows the candidates by ANDing
+ * these together, 64 words at a time.
+ * <br>
+ * The bitsets take {@code 26 * (length + 1)} bits per word, about 35 bytes for a ten letter word,
+ * plus the word's letters for counting.  The best first guess for each length is worked out when
+ * the index is built, since it is the most expensive move and the same for every game.
+ * <br>
+ * The index never changes and can be shared by any number of solvers.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+public final class CandidateIndex {
+
+  /**
+   * The number of letters from 'A' to 'Z'.
+   */
+  static final int ALPHABET = 26;
+  /**
+   * Stored in {@link Group#letters} for any character that is not 'A' to 'Z'.
+   */
+  static final byte OTHER = ALPHABET;
+
+  /**
+   * The dictionary.
+   */
+  private final WordStore words;
+  /**
+   * The words of each length, or {@code null} for lengths with no words.
+   */
+  private final Group[] groups;
+  /**
+   * The most words of any one length, in 64 bit blocks.
+   */
+  private final int maxBlocks;
+
+  /**
+   * Builds the index.  The store is frozen, since words added later would be missing from it.
+   *
+   * @param words the dictionary.  Words are upper cased the same way {@link Hangman} does.
+   */
+  public CandidateIndex(WordStore words) {
+    this.words = words.freeze();
+    int size = words.size();
+    int[] counts = new int[16];
+    for (int i = 0; i < size; i++) {
+      int length = words.get(i).toUpperCase().length();
+      if (length >= counts.length) {
+        counts = Arrays.copyOf(counts, Math.max(length + 1, counts.length * 2));
+      }
+      counts[length]++;
+    }
+    groups = new Group[counts.length];
+    int widest = 0;
+    for (int length = 0; length < counts.length; length++) {
+      if (counts[length] > 0) {
+        groups[length] = new Group(length, counts[length]);
+        widest = Math.max(widest, groups[length].blocks);
+      }
+    }
+    maxBlocks = widest;
+    for (int i = 0; i < size; i++) {
+      String word = words.get(i).toUpperCase();
+      groups[word.length()].add(i, word);
+    }
+    HangmanSolver solver = new HangmanSolver(this);
+    for (Group group : groups) {
+      if (group != null) {
+        group.firstGuess = solver.bestFirstGuess(group.length);
+      }
+    }
+  }
+
+  /**
+   * standard getter
+   *
+   * @return the dictionary that was indexed.
+   */
+  public WordStore getWords() {
+    return words;
+  }
+
+  /**
+   * Used to see how the words are spread over the lengths.
+   *
+   * @param length a word length.
+   * @return the number of words that long.
+   */
+  public int size(int length) {
+    Group group = group(length);
+    return group == null ? 0 : group.size;
+  }
+
+  /**
+   * Looks up the words of one length.
+   *
+   * @param length a word length.
+   * @return the group, or {@code null} if no word is that long.
+   */
+  Group group(int length) {
+    return length >= 0 && length < groups.length ? groups[length] : null;
+  }
+
+  /**
+   * standard getter
+   *
+   * @return the most words of any one length, in 64 bit blocks.
+   */
+  int maxBlocks() {
+    return maxBlocks;
+  }
+
+  /**
+   * The words of one length and their bitsets.
+   */
+  static final class Group {
+
+    /**
+     * The length of every word in the group.
+     */
+    final int length;
+    /**
+     * The number of words in the group.
+     */
+    final int size;
+    /**
+     * The number of 64 bit blocks in each bitset.
+     */
+    final int blocks;
+    /**
+     * The dictionary index of each word in the group.
+     */
+    final int[] words;
+    /**
+     * The letters of every word, {@code length} bytes per word, as 0 for 'A' to 25 for 'Z' or
+     * {@link CandidateIndex#OTHER}.
+     */
+    final byte[] letters;
+    /**
+     * The bitset of words with {@code letter} at {@code position} starts at
+     * {@code ((position * ALPHABET) + letter) * blocks}.
+     */
+    final long[] at;
+    /**
+     * The bitset of words containing {@code letter} starts at {@code letter * blocks}.
+     */
+    final long[] has;
+    /**
+     * The letter a solver should guess before it knows anything but the length.
+     */
+    char firstGuess;
+    /**
+     * The number of words added so far.
+     */
+    private int added;
+
+    /**
+     * Creates an empty group.
+     *
+     * @param length the length of every word.
+     * @param size the number of words that will be added.
+     */
+    private Group(int length, int size) {
+      this.length = length;
+      this.size = size;
+      blocks = (size + 63) >>> 6;
+      words = new int[size];
+      letters = new byte[size * length];
+      at = new long[length * ALPHABET * blocks];
+      has = new long[ALPHABET * blocks];
+    }
+
+    /**
+     * Adds the next word and sets its bits.
+     *
+     * @param index the word's position in the dictionary.
+     * @param word the word, upper cased.
+     */
+    private void add(int index, String word) {
+      int w = added++;
+      words[w] = index;
+      int block = w >>> 6;
+      long bit = 1L << w;
+      for (int p = 0; p < length; p++) {
+        int letter = word.charAt(p) - 'A';
+        if (letter < 0 || letter >= ALPHABET) {
+          letters[w * length + p] = OTHER;
+          continue;
+        }
+        letters[w * length + p] = (byte) letter;
+        at[(p * ALPHABET + letter) * blocks + block] |= bit;
+        has[letter * blocks + block] |= bit;
+      }
+    }
+  }
+}
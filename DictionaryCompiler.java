@@ -0,0 +1,64 @@
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Turns a plain text word list into the compiled form that {@link WordStore} loads without
+ * parsing.  This is an offline step, run it with
+ * {@code java DictionaryCompiler hangmanWords.txt hangmanWords.bin}.
+ * <br>
+ * The list is read by a {@link WordIngester}, so words are trimmed and upper cased, lines that are
+ * not playable words are dropped and only the first copy of each word is kept.  A game never has
+ * to clean a word up again.  {@link Hangman#readFile(String)} takes
+ * either kind of file.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+public final class DictionaryCompiler {
+
+  /**
+   * Not for creating.
+   */
+  private DictionaryCompiler() {
+  }
+
+  /**
+   * Compiles a text word list into a file.  The words are kept off-heap while they are read.
+   *
+   * @param text the word list.
+   * @param compiled where to write the compiled file.
+   * @return how many lines were read, kept and dropped.
+   * @throws IOException if either file cannot be read or written.
+   */
+  public static WordIngester.Report compile(Path text, Path compiled) throws IOException {
+    WordStore words = new WordStore(true);
+    WordIngester.Report report = new WordIngester(words).ingest(text);
+    words.writeCompiled(compiled);
+    return report;
+  }
+
+  /**
+   * Compiles a word list from the command line, then checks the file it wrote.
+   *
+   * @param args the text word list and the compiled file to write.
+   * @throws IOException if either file cannot be read or written.
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length != 2) {
+      System.out.println("Usage: java DictionaryCompiler <words.txt> <words.bin>");
+      return;
+    }
+    long start = System.nanoTime();
+    WordIngester.Report report = compile(Path.of(args[0]), Path.of(args[1]));
+    long compiled = System.nanoTime();
+    boolean valid = WordStore.verifyCompiled(Path.of(args[1]));
+    long loadStart = System.nanoTime();
+    new WordStore().load(Path.of(args[1]));
+    long loaded = System.nanoTime();
+    System.out.println(report);
+    System.out.printf(Locale.ROOT, "%,d words compiled in %d ms, checksum %s, loads in %.2f ms%n",
+        report.getAccepted(), (compiled - start) / 1_000_000, valid ? "ok" : "BAD",
+        (loaded - loadStart) / 1e6);
+  }
+}
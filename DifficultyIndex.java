@@ -0,0 +1,469 @@
+import java.util.random.RandomGenerator;
+
+/**
+ * Sorts the words of a dictionary into difficulty levels so that games can be served at a given
+ * difficulty without looking at every word.
+ * <br>
+ * A word's difficulty comes from three things, worked out once when the index is built:
+ * <ul>
+ *   <li>its length.  A game allows one miss per letter after the first, so short words leave
+ *   little room for error.</li>
+ *   <li>how many different letters it has.  Fewer letters means fewer guesses that can hit.</li>
+ *   <li>how rare its letters are, by their place in {@link GuessStrategy#FREQUENCY_ORDER}.</li>
+ * </ul>
+ * These are weighted into a level from 0 (easiest) to {@link DifficultyIndex#LEVELS} - 1.  The
+ * length and the number of different letters are also kept on their own, as buckets (see
+ * {@link DifficultyIndex#lengthBucket(String)} and {@link DifficultyIndex#letterBucket(String)}),
+ * so a game can ask for, say, easy words of eight letters or more.  A level, a length bucket and a
+ * letter bucket make a cell, and the word indices are stored grouped by cell in one array, so the
+ * index is four bytes per word.
+ * <br>
+ * The index never changes and can be shared by any number of games.  Each game draws from it
+ * through its own {@link Selection}, which remembers the words that game has used.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+public final class DifficultyIndex {
+
+  /**
+   * The number of difficulty levels.
+   */
+  public static final int LEVELS = 10;
+  /**
+   * The number of length buckets.  Bucket 0 is words of 3 letters or fewer, the last is words of
+   * 10 or more, and each bucket between holds one length.
+   */
+  public static final int LENGTHS = 8;
+  /**
+   * The number of letter buckets.  Bucket 0 is words with 2 different letters or fewer, the last
+   * is words with 9 or more, and each bucket between holds one count.
+   */
+  public static final int LETTER_COUNTS = 8;
+  /**
+   * The number of cells, one for each level, length bucket and letter bucket.
+   */
+  private static final int CELLS = LEVELS * LENGTHS * LETTER_COUNTS;
+  /**
+   * The length of the words in length bucket 0.
+   */
+  private static final int SHORTEST_LENGTH = 3;
+  /**
+   * The number of different letters of the words in letter bucket 0.
+   */
+  private static final int FEWEST_LETTERS = 2;
+  /**
+   * Words this long or longer count as the longest.
+   */
+  private static final int LONG_WORD = 16;
+  /**
+   * Words with this many different letters or more count as having the most.
+   */
+  private static final int MANY_LETTERS = 12;
+  /**
+   * How rare each letter is, from 0 for E to 25 for Z.
+   */
+  private static final int[] RARITY = new int[26];
+
+  static {
+    for (int i = 0; i < GuessStrategy.FREQUENCY_ORDER.length(); i++) {
+      RARITY[GuessStrategy.FREQUENCY_ORDER.charAt(i) - 'A'] = i;
+    }
+  }
+
+  /**
+   * The dictionary.
+   */
+  private final WordStore words;
+  /**
+   * Every word index, grouped by cell.
+   */
+  private final int[] members;
+  /**
+   * Where each cell starts in {@link DifficultyIndex#members}, plus one entry for the end.  The
+   * cells of a level are next to each other, so this is also where each level starts.
+   */
+  private final int[] starts = new int[CELLS + 1];
+
+  /**
+   * Builds the index.  The store is frozen, since words added later would be missing from it.
+   *
+   * @param words the dictionary.
+   */
+  public DifficultyIndex(WordStore words) {
+    this.words = words.freeze();
+    int size = words.size();
+    short[] cells = new short[size];
+    for (int i = 0; i < size; i++) {
+      String word = words.get(i);
+      cells[i] = (short) cell(level(word), lengthBucket(word), letterBucket(word));
+      starts[cells[i] + 1]++;
+    }
+    for (int cell = 0; cell < CELLS; cell++) {
+      starts[cell + 1] += starts[cell];
+    }
+    int[] next = starts.clone();
+    members = new int[size];
+    for (int i = 0; i < size; i++) {
+      members[next[cells[i]]++] = i;
+    }
+  }
+
+  /**
+   * Works out how hard a word is.
+   *
+   * @param word the word, in any case.
+   * @return its level, from 0 to {@link DifficultyIndex#LEVELS} - 1.
+   */
+  public static int level(String word) {
+    int letters = letters(word);
+    int distinct = Integer.bitCount(letters);
+    if (distinct == 0) {
+      return LEVELS - 1;
+    }
+    int rarity = 0;
+    for (int rest = letters; rest != 0; rest &= rest - 1) {
+      rarity += RARITY[Integer.numberOfTrailingZeros(rest)];
+    }
+    double rare = rarity / (25.0 * distinct);
+    double shortness = 1 - (Math.min(word.length(), LONG_WORD) - 1) / (double) (LONG_WORD - 1);
+    double fewLetters = 1 - (Math.min(distinct, MANY_LETTERS) - 1) / (double) (MANY_LETTERS - 1);
+    double score = 0.5 * rare + 0.25 * shortness + 0.25 * fewLetters;
+    return Math.min(LEVELS - 1, (int) (score * LEVELS));
+  }
+
+  /**
+   * Works out which length bucket a word is in.
+   *
+   * @param word the word.
+   * @return its bucket, from 0 for 3 letters or fewer to {@link DifficultyIndex#LENGTHS} - 1.
+   */
+  public static int lengthBucket(String word) {
+    return bucket(word.length() - SHORTEST_LENGTH, LENGTHS);
+  }
+
+  /**
+   * Works out which letter bucket a word is in, by how many different letters it has.
+   *
+   * @param word the word, in any case.
+   * @return its bucket, from 0 for 2 different letters or fewer to
+   *     {@link DifficultyIndex#LETTER_COUNTS} - 1.
+   */
+  public static int letterBucket(String word) {
+    return bucket(Integer.bitCount(letters(word)) - FEWEST_LETTERS, LETTER_COUNTS);
+  }
+
+  /**
+   * Finds the letters in a word.
+   *
+   * @param word the word, in any case.
+   * @return a set of letters, with bit 0 for A up to bit 25 for Z.
+   */
+  private static int letters(String word) {
+    int letters = 0;
+    for (int i = 0; i < word.length(); i++) {
+      int letter = Character.toUpperCase(word.charAt(i)) - 'A';
+      if (letter >= 0 && letter < 26) {
+        letters |= 1 << letter;
+      }
+    }
+    return letters;
+  }
+
+  /**
+   * Clamps a value into a range of buckets.
+   *
+   * @param value the value, where 0 is the first bucket.
+   * @param buckets the number of buckets.
+   * @return the bucket.
+   */
+  private static int bucket(int value, int buckets) {
+    return Math.max(0, Math.min(buckets - 1, value));
+  }
+
+  /**
+   * Numbers a cell.
+   *
+   * @param level the difficulty level.
+   * @param length the length bucket.
+   * @param letters the letter bucket.
+   * @return the cell's place in {@link DifficultyIndex#starts}.
+   */
+  private static int cell(int level, int length, int letters) {
+    return (level * LENGTHS + length) * LETTER_COUNTS + letters;
+  }
+
+  /**
+   * standard getter
+   *
+   * @return the dictionary that was indexed.
+   */
+  public WordStore getWords() {
+    return words;
+  }
+
+  /**
+   * Used to see how the words are spread over the levels.
+   *
+   * @param level a difficulty level.
+   * @return the number of words at that level.
+   */
+  public int size(int level) {
+    checkLevel(level);
+    return starts[cell(level + 1, 0, 0)] - starts[cell(level, 0, 0)];
+  }
+
+  /**
+   * Used to see how the words are spread over the cells.
+   *
+   * @param level a difficulty level.
+   * @param length a length bucket.
+   * @param letters a letter bucket.
+   * @return the number of words in that cell.
+   */
+  public int size(int level, int length, int letters) {
+    checkRange(level, level, LEVELS, "Difficulty");
+    checkRange(length, length, LENGTHS, "Length bucket");
+    checkRange(letters, letters, LETTER_COUNTS, "Letter bucket");
+    int cell = cell(level, length, letters);
+    return starts[cell + 1] - starts[cell];
+  }
+
+  /**
+   * Starts a new record of used words for one game.
+   *
+   * @return a selection with every word unused.
+   */
+  public Selection newSelection() {
+    return new Selection();
+  }
+
+  /**
+   * Throws if {@code level} is not a difficulty level.
+   *
+   * @param level the level to check.
+   */
+  private static void checkLevel(int level) {
+    checkRange(level, level, LEVELS, "Difficulty");
+  }
+
+  /**
+   * Throws if a range is not inside {@code 0} to {@code count - 1}, or is the wrong way round.
+   *
+   * @param min the start of the range.
+   * @param max the end of the range.
+   * @param count the number of values.
+   * @param name what the values are, for the message.
+   */
+  private static void checkRange(int min, int max, int count, String name) {
+    if (min < 0 || max >= count) {
+      throw new IllegalArgumentException(name + " must be from 0 to " + (count - 1) + ": " + min
+          + " to " + max);
+    }
+    if (min > max) {
+      throw new IllegalArgumentException(name + " range is the wrong way round: " + min + " to "
+          + max);
+    }
+  }
+
+  /**
+   * One game's view of the index: a {@link WordPool} per cell, made the first time the cell is
+   * drawn from, so each draw from a cell is O(1) and no word is drawn twice, whatever mix of cells
+   * is asked for.  Finding the cell takes time in the number of levels, plus the number of cells in
+   * the range when only some lengths or letter counts are asked for, but never in the number of
+   * words.
+   */
+  public final class Selection implements WordSelector {
+
+    /**
+     * The unused words of each cell, as positions within the cell, or {@code null} if nothing has
+     * been drawn from the cell.
+     */
+    private final WordPool[] pools = new WordPool[CELLS];
+    /**
+     * The number of unused words in each cell, kept apart from the pools so counting a range does
+     * not visit them.
+     */
+    private final int[] cellRemaining = new int[CELLS];
+    /**
+     * The number of unused words at each level.
+     */
+    private final int[] levelRemaining = new int[LEVELS];
+    /**
+     * The number of unused words at each level and length bucket, so a draw that takes every
+     * letter bucket can step over a whole row of cells.
+     */
+    private final int[] rowRemaining = new int[LEVELS * LENGTHS];
+    /**
+     * The number of unused words over every level.
+     */
+    private int remaining;
+
+    /**
+     * Creates a selection with every word unused.
+     */
+    private Selection() {
+      for (int level = 0; level < LEVELS; level++) {
+        levelRemaining[level] = size(level);
+      }
+      for (int cell = 0; cell < CELLS; cell++) {
+        cellRemaining[cell] = starts[cell + 1] - starts[cell];
+      }
+      for (int row = 0; row < rowRemaining.length; row++) {
+        rowRemaining[row] = starts[(row + 1) * LETTER_COUNTS] - starts[row * LETTER_COUNTS];
+      }
+      remaining = members.length;
+    }
+
+    /**
+     * Draws an unused word at any level.
+     *
+     * @param random the source of randomness.
+     * @return the index of the word in the dictionary, or -1 if every word is used.
+     */
+    @Override
+    public int draw(RandomGenerator random) {
+      return draw(0, LEVELS - 1, random);
+    }
+
+    /**
+     * Draws an unused word whose level is in a range.  Every unused word in the range is equally
+     * likely.
+     *
+     * @param minLevel the easiest level to choose from.
+     * @param maxLevel the hardest level to choose from.
+     * @param random the source of randomness.
+     * @return the index of the word in the dictionary, or -1 if every word in the range is used.
+     * @throws IllegalArgumentException if a level is out of range or minLevel is above maxLevel.
+     */
+    public int draw(int minLevel, int maxLevel, RandomGenerator random) {
+      return draw(minLevel, maxLevel, 0, LENGTHS - 1, 0, LETTER_COUNTS - 1, random);
+    }
+
+    /**
+     * Draws an unused word whose level, length bucket and letter bucket are all in ranges.  Every
+     * unused word in the ranges is equally likely.
+     *
+     * @param minLevel the easiest level to choose from.
+     * @param maxLevel the hardest level to choose from.
+     * @param minLength the shortest length bucket to choose from.
+     * @param maxLength the longest length bucket to choose from.
+     * @param minLetters the letter bucket with the fewest different letters to choose from.
+     * @param maxLetters the letter bucket with the most different letters to choose from.
+     * @param random the source of randomness.
+     * @return the index of the word in the dictionary, or -1 if every word in the ranges is used.
+     * @throws IllegalArgumentException if a range is out of bounds or the wrong way round.
+     */
+    public int draw(int minLevel, int maxLevel, int minLength, int maxLength, int minLetters,
+        int maxLetters, RandomGenerator random) {
+      int available = remaining(minLevel, maxLevel, minLength, maxLength, minLetters, maxLetters);
+      if (available == 0) {
+        return -1;
+      }
+      boolean wholeLevels = isWholeLevel(minLength, maxLength, minLetters, maxLetters);
+      boolean wholeRows = minLetters == 0 && maxLetters == LETTER_COUNTS - 1;
+      int pick = random.nextInt(available);
+      int cell = -1;
+      for (int level = minLevel; cell < 0; level++) {
+        if (wholeLevels && pick >= levelRemaining[level]) {
+          // the whole level is in range, so it can be skipped without looking at its cells
+          pick -= levelRemaining[level];
+          continue;
+        }
+        for (int length = minLength; length <= maxLength && cell < 0; length++) {
+          int row = level * LENGTHS + length;
+          if (wholeRows && pick >= rowRemaining[row]) {
+            pick -= rowRemaining[row];
+            continue;
+          }
+          for (int letters = minLetters; letters <= maxLetters; letters++) {
+            int left = cellRemaining[cell(level, length, letters)];
+            if (pick < left) {
+              cell = cell(level, length, letters);
+              break;
+            }
+            pick -= left;
+          }
+        }
+      }
+      if (pools[cell] == null) {
+        pools[cell] = new WordPool(starts[cell + 1] - starts[cell]);
+      }
+      levelRemaining[cell / (LENGTHS * LETTER_COUNTS)]--;
+      rowRemaining[cell / LETTER_COUNTS]--;
+      cellRemaining[cell]--;
+      remaining--;
+      return members[starts[cell] + pools[cell].draw(random)];
+    }
+
+    /**
+     * Used to check how many words are left in a range of levels.
+     *
+     * @param minLevel the easiest level.
+     * @param maxLevel the hardest level.
+     * @return the number of unused words from minLevel to maxLevel.
+     * @throws IllegalArgumentException if a level is out of range or minLevel is above maxLevel.
+     */
+    public int remaining(int minLevel, int maxLevel) {
+      return remaining(minLevel, maxLevel, 0, LENGTHS - 1, 0, LETTER_COUNTS - 1);
+    }
+
+    /**
+     * Used to check how many words are left in ranges of levels, length buckets and letter
+     * buckets.
+     *
+     * @param minLevel the easiest level.
+     * @param maxLevel the hardest level.
+     * @param minLength the shortest length bucket.
+     * @param maxLength the longest length bucket.
+     * @param minLetters the letter bucket with the fewest different letters.
+     * @param maxLetters the letter bucket with the most different letters.
+     * @return the number of unused words in every range.
+     * @throws IllegalArgumentException if a range is out of bounds or the wrong way round.
+     */
+    public int remaining(int minLevel, int maxLevel, int minLength, int maxLength,
+        int minLetters, int maxLetters) {
+      checkRange(minLevel, maxLevel, LEVELS, "Difficulty");
+      checkRange(minLength, maxLength, LENGTHS, "Length bucket");
+      checkRange(minLetters, maxLetters, LETTER_COUNTS, "Letter bucket");
+      int available = 0;
+      boolean wholeLevels = isWholeLevel(minLength, maxLength, minLetters, maxLetters);
+      for (int level = minLevel; level <= maxLevel; level++) {
+        if (wholeLevels) {
+          available += levelRemaining[level];
+          continue;
+        }
+        for (int length = minLength; length <= maxLength; length++) {
+          for (int letters = minLetters; letters <= maxLetters; letters++) {
+            available += cellRemaining[cell(level, length, letters)];
+          }
+        }
+      }
+      return available;
+    }
+
+    /**
+     * Used to check how many words are left.
+     *
+     * @return the number of unused words at any level.
+     */
+    @Override
+    public int remaining() {
+      return remaining;
+    }
+
+    /**
+     * Checks whether ranges of buckets cover every cell of a level.
+     *
+     * @param minLength the shortest length bucket.
+     * @param maxLength the longest length bucket.
+     * @param minLetters the letter bucket with the fewest different letters.
+     * @param maxLetters the letter bucket with the most different letters.
+     * @return {@code true} if every length and letter bucket is in range.
+     */
+    private boolean isWholeLevel(int minLength, int maxLength, int minLetters, int maxLetters) {
+      return minLength == 0 && maxLength == LENGTHS - 1 && minLetters == 0
+          && maxLetters == LETTER_COUNTS - 1;
+    }
+  }
+}
@@ -0,0 +1,158 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link DifficultyIndex}.  Draws stay inside the requested levels and never repeat a
+ * word.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+class DifficultyIndexTest {
+
+  /**
+   * Long words of common letters are easier than short words of rare ones.
+   */
+  @Test
+  void levels() {
+    int easy = DifficultyIndex.level("ETAOINSHRDLU");
+    int hard = DifficultyIndex.level("JAZZ");
+    assertTrue(easy < hard, easy + " should be easier than " + hard);
+    assertEquals(DifficultyIndex.level("JAZZ"), DifficultyIndex.level("jazz"));
+    assertTrue(hard < DifficultyIndex.LEVELS);
+    assertTrue(easy >= 0);
+    assertEquals(0, DifficultyIndex.lengthBucket("TEA"));
+    assertEquals(1, DifficultyIndex.lengthBucket("FISH"));
+    assertEquals(DifficultyIndex.LENGTHS - 1, DifficultyIndex.lengthBucket("ETAOINSHRDLU"));
+    assertEquals(0, DifficultyIndex.letterBucket("AAAA"));
+    assertEquals(2, DifficultyIndex.letterBucket("fish"));
+    assertEquals(DifficultyIndex.LETTER_COUNTS - 1, DifficultyIndex.letterBucket("ETAOINSHRDLU"));
+  }
+
+  /**
+   * Draws can be limited by length and by the number of different letters as well as by level, and
+   * only return words in every range.
+   */
+  @Test
+  void drawsByLengthAndLetters() {
+    WordStore words = RandomWords.of(5_000);
+    DifficultyIndex index = new DifficultyIndex(words);
+    int expected = 0;
+    for (String word : words) {
+      int length = DifficultyIndex.lengthBucket(word);
+      int letters = DifficultyIndex.letterBucket(word);
+      if (length <= 2 && letters >= 2 && letters <= 4) {
+        expected++;
+      }
+    }
+    assertTrue(expected > 0);
+    for (int level = 0; level < DifficultyIndex.LEVELS; level++) {
+      int cells = 0;
+      for (int length = 0; length < DifficultyIndex.LENGTHS; length++) {
+        for (int letters = 0; letters < DifficultyIndex.LETTER_COUNTS; letters++) {
+          cells += index.size(level, length, letters);
+        }
+      }
+      assertEquals(index.size(level), cells);
+    }
+
+    DifficultyIndex.Selection selection = index.newSelection();
+    int hardest = DifficultyIndex.LEVELS - 1;
+    assertEquals(expected, selection.remaining(0, hardest, 0, 2, 2, 4));
+    SplittableRandom random = new SplittableRandom(338);
+    Set<Integer> seen = new HashSet<>();
+    for (int i = 0; i < expected; i++) {
+      String word = words.get(selection.draw(0, hardest, 0, 2, 2, 4, random));
+      assertTrue(DifficultyIndex.lengthBucket(word) <= 2, word);
+      int letters = DifficultyIndex.letterBucket(word);
+      assertTrue(letters >= 2 && letters <= 4, word);
+      assertTrue(seen.add(words.indexOf(word)), word + " was drawn twice");
+    }
+    assertEquals(-1, selection.draw(0, hardest, 0, 2, 2, 4, random));
+    assertEquals(words.size() - expected, selection.remaining(0, hardest));
+  }
+
+  /**
+   * A range that is the wrong way round is a mistake, not an empty range.
+   */
+  @Test
+  void invertedRangeRejected() {
+    DifficultyIndex.Selection selection = new DifficultyIndex(RandomWords.of(100)).newSelection();
+    SplittableRandom random = new SplittableRandom(338);
+    assertThrows(IllegalArgumentException.class, () -> selection.draw(5, 4, random));
+    assertThrows(IllegalArgumentException.class, () -> selection.remaining(5, 4));
+    assertThrows(IllegalArgumentException.class, () -> selection.draw(0, 9, 3, 2, 0, 7, random));
+    assertThrows(IllegalArgumentException.class, () -> selection.draw(0, 9, 0, 7, 0, 8, random));
+    assertEquals(100, selection.remaining());
+  }
+
+  /**
+   * Draws from a range only return words at those levels, each once, until the range is empty.
+   * The rest of the words can still be drawn afterwards.
+   */
+  @Test
+  void drawsRangeOnce() {
+    WordStore words = RandomWords.of(5_000);
+    DifficultyIndex index = new DifficultyIndex(words);
+    assertTrue(words.isFrozen());
+    int inRange = 0;
+    int total = 0;
+    for (int level = 0; level < DifficultyIndex.LEVELS; level++) {
+      total += index.size(level);
+      if (level >= 5) {
+        inRange += index.size(level);
+      }
+    }
+    assertEquals(words.size(), total);
+    assertTrue(inRange > 0 && inRange < total);
+
+    DifficultyIndex.Selection selection = index.newSelection();
+    SplittableRandom random = new SplittableRandom(338);
+    Set<Integer> seen = new HashSet<>();
+    for (int i = 0; i < inRange; i++) {
+      int word = selection.draw(5, DifficultyIndex.LEVELS - 1, random);
+      assertTrue(DifficultyIndex.level(words.get(word)) >= 5);
+      assertTrue(seen.add(word), word + " was drawn twice");
+    }
+    assertEquals(-1, selection.draw(5, DifficultyIndex.LEVELS - 1, random));
+    assertEquals(total - inRange, selection.remaining());
+    for (int i = 0; i < total - inRange; i++) {
+      assertTrue(seen.add(selection.draw(0, DifficultyIndex.LEVELS - 1, random)));
+    }
+    assertEquals(0, selection.remaining());
+    assertThrows(IllegalArgumentException.class, () -> selection.draw(0, DifficultyIndex.LEVELS,
+        random));
+  }
+
+  /**
+   * Hangman can choose by difficulty, and choosing by difficulty and without it never repeats a
+   * word.
+   */
+  @Test
+  void hangmanByDifficulty() {
+    WordStore words = new WordStore();
+    for (String word : HangmanTest.DEFAULT_WORDS) {
+      words.append(word);
+    }
+    Hangman game = new Hangman(false, words, GameOutput.NONE);
+    assertThrows(IllegalStateException.class, () -> game.chooseWordAtDifficulty(0, 1));
+    DifficultyIndex index = new DifficultyIndex(words);
+    game.useDifficultyIndex(index);
+    int level = DifficultyIndex.level("FISH");
+    String chosen = game.chooseWordAtDifficulty(level, level);
+    assertEquals(level, DifficultyIndex.level(chosen));
+    Set<String> seen = new HashSet<>(Set.of(chosen));
+    while (game.getCountWordsRemaining() > 0) {
+      assertTrue(seen.add(game.chooseWord()));
+    }
+    assertEquals(HangmanTest.DEFAULT_WORDS.size(), seen.size());
+    assertThrows(IllegalStateException.class, () -> game.chooseWord());
+    assertThrows(IllegalStateException.class, () -> game.useDifficultyIndex(index));
+  }
+}
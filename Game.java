@@ -0,0 +1,69 @@
+import java.util.Scanner;
+
+/**
+ * A game that {@link GameLoader} can offer in its menu.  This is the API described in
+ * {@link GameLoader}: play, hasWon, hasLost, exit and getScore.
+ * <br>
+ * Games are made by a {@link GameProvider}, the first time a player chooses them, and then kept
+ * for as long as the loader runs.  A game is played by one player at a time, so it need not be
+ * thread safe.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+public interface Game {
+
+  /**
+   * Plays one round, reading the player's choices and printing to the player's screen.  Running
+   * out of input is the same as choosing to exit.
+   *
+   * @param in the player's keyboard.
+   * @return the score earned in the round.
+   */
+  int play(Scanner in);
+
+  /**
+   * won?
+   *
+   * @return {@code true} if the player has won the current round.
+   */
+  boolean hasWon();
+
+  /**
+   * lost?
+   *
+   * @return {@code true} if the player has lost the current round.
+   */
+  boolean hasLost();
+
+  /**
+   * Ends the current round.
+   *
+   * @return the score earned in the round, or 0 if it was not won.
+   */
+  int exit();
+
+  /**
+   * returns the score
+   *
+   * @return the score of the current round so far.
+   */
+  int getScore();
+
+  /**
+   * Starts counting and timing what happens in this game.  Does nothing unless the game records
+   * metrics.
+   *
+   * @param metrics where to record.
+   */
+  default void setMetrics(GameMetrics metrics) {
+  }
+
+  /**
+   * Called when the player leaves the loader, to save and release anything the game keeps between
+   * runs, such as open files.  The game is not played again after this.  Does nothing unless the
+   * game keeps something.
+   */
+  default void close() {
+  }
+}
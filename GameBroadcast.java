@@ -0,0 +1,538 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Streams one live game to any number of spectators.
+ * <br>
+ * Give a game a broadcast with {@link Hangman#setBroadcast(GameBroadcast)} and it publishes its
+ * whole state whenever a word is chosen, a guess changes it, a hint is used or the game is exited.
+ * Each spectator calls {@link GameBroadcast#subscribe()} for a {@link Viewer} and polls it, at its
+ * own pace, from its own thread.
+ * <br>
+ * The states go into a ring buffer of fixed slots, so publishing costs the player the same copy of
+ * a few fields and the board whether there are no spectators or ten thousand, and allocates
+ * nothing.  Spectators never take a lock the player takes: each viewer keeps its own place in the
+ * ring, and a slot carries the number of the state in it, so a viewer can tell when the player has
+ * written over a slot while it was reading and read again.
+ * <br>
+ * A viewer that falls a whole ring behind is handled by the {@link Overflow} policy.  Since every
+ * message is a whole state rather than a change, skipping to the latest state, the default, loses
+ * only the steps in between.  {@link Overflow#BLOCK} makes the player wait instead, so the
+ * slowest viewer sets the pace of the game.
+ * <br>
+ * Only one game may publish to a broadcast.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+public final class GameBroadcast {
+
+  /**
+   * What happens when a viewer falls a whole ring behind the game.
+   */
+  public enum Overflow {
+    /**
+     * The viewer skips to the latest state and counts what it missed in
+     * {@link Viewer#getDropped()}.
+     */
+    SKIP_TO_LATEST,
+    /**
+     * The viewer is disconnected and gets nothing more.
+     */
+    DISCONNECT,
+    /**
+     * The game waits for the slowest viewer before writing over a state it has not read.
+     */
+    BLOCK
+  }
+
+  /**
+   * Publishes nothing.
+   */
+  public static final GameBroadcast NONE = new GameBroadcast(1, Overflow.SKIP_TO_LATEST, 0);
+  /**
+   * The number of states a ring holds when none is given.
+   */
+  public static final int DEFAULT_CAPACITY = 256;
+  /**
+   * The game is being played.
+   */
+  private static final byte PLAYING = 0;
+  /**
+   * The game was won.
+   */
+  private static final byte WON = 1;
+  /**
+   * The game was lost or exited.
+   */
+  private static final byte LOST = 2;
+  /**
+   * Reads and writes the state numbers in {@link GameBroadcast#sequences} with memory ordering.
+   */
+  private static final VarHandle SEQUENCE = MethodHandles.arrayElementVarHandle(long[].class);
+
+  /**
+   * The number of slots, a power of two.
+   */
+  private final int capacity;
+  /**
+   * {@code capacity - 1}, to turn a state number into its slot.
+   */
+  private final int mask;
+  /**
+   * The most board characters a slot holds.
+   */
+  private final int width;
+  /**
+   * What happens to viewers that fall behind.
+   */
+  private final Overflow overflow;
+  /**
+   * The number of the state in each slot, or -1 while the slot is being written.
+   */
+  private final long[] sequences;
+  /**
+   * What changed, one of the {@link GameEventLog} events, for each slot.
+   */
+  private final byte[] events;
+  /**
+   * The letter guessed or hinted for each slot, or 0.
+   */
+  private final char[] letters;
+  /**
+   * {@link Hangman#getStateVersion()} for each slot.
+   */
+  private final int[] versions;
+  /**
+   * The guesses left for each slot.
+   */
+  private final int[] remaining;
+  /**
+   * The hints left for each slot.
+   */
+  private final int[] hints;
+  /**
+   * {@link GameBroadcast#PLAYING}, {@link GameBroadcast#WON} or {@link GameBroadcast#LOST} for
+   * each slot.
+   */
+  private final byte[] outcomes;
+  /**
+   * The length of the board in each slot.
+   */
+  private final int[] boardLengths;
+  /**
+   * The boards, {@link GameBroadcast#width} characters per slot.
+   */
+  private final char[] boards;
+  /**
+   * The viewers subscribed.
+   */
+  private final Set<Viewer> viewers = ConcurrentHashMap.newKeySet();
+  /**
+   * The number of the latest state published, or -1 before the first.
+   */
+  private volatile long cursor = -1;
+  /**
+   * The number the next state gets.  Only used by the game.
+   */
+  private long next;
+  /**
+   * The lowest state any viewer still has to read, when the game last looked.  Only used by the
+   * game, with {@link Overflow#BLOCK}.
+   */
+  private long gate;
+
+  /**
+   * Creates a broadcast with {@link GameBroadcast#DEFAULT_CAPACITY} slots that skips slow viewers
+   * to the latest state.
+   */
+  public GameBroadcast() {
+    this(DEFAULT_CAPACITY, Overflow.SKIP_TO_LATEST);
+  }
+
+  /**
+   * Creates a broadcast.
+   *
+   * @param capacity the number of states the ring holds, rounded up to a power of two.
+   * @param overflow what happens to viewers that fall a whole ring behind.
+   */
+  public GameBroadcast(int capacity, Overflow overflow) {
+    this(capacity, overflow, WordIngester.MAX_LENGTH);
+  }
+
+  /**
+   * Creates a broadcast.
+   *
+   * @param capacity the number of states the ring holds, rounded up to a power of two.
+   * @param overflow what happens to viewers that fall a whole ring behind.
+   * @param width the longest board sent.  Longer boards are cut to this length.
+   */
+  public GameBroadcast(int capacity, Overflow overflow, int width) {
+    if (capacity < 1 || capacity > 1 << 30) {
+      throw new IllegalArgumentException("Capacity must be from 1 to 2^30, not " + capacity);
+    }
+    int slots = 1;
+    while (slots < capacity) {
+      slots <<= 1;
+    }
+    this.capacity = slots;
+    this.mask = slots - 1;
+    this.width = width;
+    this.overflow = overflow;
+    sequences = new long[this.capacity];
+    Arrays.fill(sequences, -1);
+    events = new byte[this.capacity];
+    letters = new char[this.capacity];
+    versions = new int[this.capacity];
+    remaining = new int[this.capacity];
+    hints = new int[this.capacity];
+    outcomes = new byte[this.capacity];
+    boardLengths = new int[this.capacity];
+    boards = new char[this.capacity * width];
+  }
+
+  /**
+   * Starts watching the game.  The first poll returns the latest state, if there is one.
+   *
+   * @return a viewer for one spectator.
+   */
+  public Viewer subscribe() {
+    Viewer viewer = new Viewer(Math.max(cursor, 0));
+    viewers.add(viewer);
+    return viewer;
+  }
+
+  /**
+   * Used to monitor the broadcast.
+   *
+   * @return the number of viewers subscribed and not disconnected.
+   */
+  public int getViewerCount() {
+    return viewers.size();
+  }
+
+  /**
+   * standard getter
+   *
+   * @return the number of states the ring holds.
+   */
+  public int getCapacity() {
+    return capacity;
+  }
+
+  /**
+   * standard getter
+   *
+   * @return the number of states published.
+   */
+  public long getPublished() {
+    return cursor + 1;
+  }
+
+  /**
+   * Checks whether publishing does anything.
+   *
+   * @return {@code false} only for {@link GameBroadcast#NONE}.
+   */
+  boolean isEnabled() {
+    return this != NONE;
+  }
+
+  /**
+   * Publishes a state.  Only called by the one game.
+   *
+   * @param event what changed: {@link GameEventLog#WORD_CHOSEN}, {@link GameEventLog#GUESS},
+   *     {@link GameEventLog#HINT} or {@link GameEventLog#EXIT}.
+   * @param letter the letter guessed or hinted, or 0.
+   * @param board the board.
+   * @param remainingGuesses the guesses left.
+   * @param numberOfHints the hints left.
+   * @param won {@code true} if the game has been won.
+   * @param lost {@code true} if the game has been lost.
+   * @param version the game's state number.
+   */
+  void publish(byte event, char letter, StringBuilder board, int remainingGuesses,
+      int numberOfHints, boolean won, boolean lost, int version) {
+    long sequence = next;
+    if (overflow == Overflow.BLOCK && sequence - gate >= capacity) {
+      waitForViewers(sequence);
+    }
+    int slot = (int) sequence & mask;
+    SEQUENCE.setOpaque(sequences, slot, -1L);
+    VarHandle.storeStoreFence();
+    events[slot] = event;
+    letters[slot] = letter;
+    versions[slot] = version;
+    remaining[slot] = remainingGuesses;
+    hints[slot] = numberOfHints;
+    outcomes[slot] = won ? WON : lost ? LOST : PLAYING;
+    int length = Math.min(board.length(), width);
+    boardLengths[slot] = length;
+    board.getChars(0, length, boards, slot * width);
+    SEQUENCE.setRelease(sequences, slot, sequence);
+    next = sequence + 1;
+    cursor = sequence;
+  }
+
+  /**
+   * Waits until every viewer has read the state in the slot {@code sequence} will be written to.
+   *
+   * @param sequence the number of the state about to be published.
+   */
+  private void waitForViewers(long sequence) {
+    for (int spins = 0; ; spins++) {
+      long lowest = sequence;
+      for (Viewer viewer : viewers) {
+        lowest = Math.min(lowest, viewer.position);
+      }
+      gate = lowest;
+      if (sequence - gate < capacity) {
+        return;
+      }
+      if (spins < 100) {
+        Thread.onSpinWait();
+      } else {
+        LockSupport.parkNanos(10_000);
+      }
+    }
+  }
+
+  /**
+   * One spectator's place in the broadcast, and a copy of the last state it read.  Used by one
+   * thread at a time.
+   */
+  public final class Viewer implements AutoCloseable {
+
+    /**
+     * The number of the next state to read.  Read by the game with {@link Overflow#BLOCK}.
+     */
+    private volatile long position;
+    /**
+     * States skipped because the viewer fell behind.
+     */
+    private long dropped;
+    /**
+     * Set when the viewer is closed or disconnected for falling behind.
+     */
+    private volatile boolean disconnected;
+    /**
+     * What changed in the last state read.
+     */
+    private byte event;
+    /**
+     * The letter of the last state read.
+     */
+    private char letter;
+    /**
+     * The game's state number of the last state read.
+     */
+    private int version;
+    /**
+     * The guesses left in the last state read.
+     */
+    private int remainingGuesses;
+    /**
+     * The hints left in the last state read.
+     */
+    private int numberOfHints;
+    /**
+     * Whether the last state read was won, lost or being played.
+     */
+    private byte outcome;
+    /**
+     * The board of the last state read.
+     */
+    private final char[] board = new char[width];
+    /**
+     * The length of {@link Viewer#board}.
+     */
+    private int boardLength;
+
+    /**
+     * Creates a viewer.
+     *
+     * @param position the number of the first state to read.
+     */
+    private Viewer(long position) {
+      this.position = position;
+    }
+
+    /**
+     * Reads the next state, if one has been published since the last poll.  Never waits and
+     * allocates nothing.
+     *
+     * @return {@code true} if a state was read, and the getters now describe it.
+     */
+    public boolean poll() {
+      while (!disconnected) {
+        long wanted = position;
+        long latest = cursor;
+        if (wanted > latest) {
+          return false;
+        }
+        if (latest - wanted >= capacity) {
+          fellBehind(latest);
+          continue;
+        }
+        int slot = (int) wanted & mask;
+        if ((long) SEQUENCE.getAcquire(sequences, slot) != wanted) {
+          fellBehind(cursor);
+          continue;
+        }
+        event = events[slot];
+        letter = letters[slot];
+        version = versions[slot];
+        remainingGuesses = remaining[slot];
+        numberOfHints = hints[slot];
+        outcome = outcomes[slot];
+        boardLength = boardLengths[slot];
+        System.arraycopy(boards, slot * width, board, 0, Math.min(boardLength, width));
+        VarHandle.acquireFence();
+        if ((long) SEQUENCE.getOpaque(sequences, slot) != wanted) {
+          fellBehind(cursor);
+          continue;
+        }
+        position = wanted + 1;
+        return true;
+      }
+      return false;
+    }
+
+    /**
+     * Applies the {@link Overflow} policy to a viewer whose next state has been written over.
+     *
+     * @param latest the latest state published.
+     */
+    private void fellBehind(long latest) {
+      if (overflow == Overflow.DISCONNECT) {
+        close();
+        return;
+      }
+      dropped += latest - position;
+      position = latest;
+    }
+
+    /**
+     * standard getter
+     *
+     * @return what changed: {@link GameEventLog#WORD_CHOSEN}, {@link GameEventLog#GUESS},
+     *     {@link GameEventLog#HINT} or {@link GameEventLog#EXIT}.
+     */
+    public byte getEvent() {
+      return event;
+    }
+
+    /**
+     * standard getter
+     *
+     * @return the letter guessed or hinted, or 0.
+     */
+    public char getLetter() {
+      return letter;
+    }
+
+    /**
+     * standard getter
+     *
+     * @return the game's {@link Hangman#getStateVersion()} for this state.
+     */
+    public int getVersion() {
+      return version;
+    }
+
+    /**
+     * standard getter
+     *
+     * @return the guesses left.
+     */
+    public int getRemainingGuesses() {
+      return remainingGuesses;
+    }
+
+    /**
+     * standard getter
+     *
+     * @return the hints left.
+     */
+    public int getNumberOfHints() {
+      return numberOfHints;
+    }
+
+    /**
+     * standard getter
+     *
+     * @return {@code true} if the game had been won.
+     */
+    public boolean hasWon() {
+      return outcome == WON;
+    }
+
+    /**
+     * standard getter
+     *
+     * @return {@code true} if the game had been lost or exited.
+     */
+    public boolean hasLost() {
+      return outcome == LOST;
+    }
+
+    /**
+     * standard getter
+     *
+     * @return the number of characters on the board.
+     */
+    public int getBoardLength() {
+      return boardLength;
+    }
+
+    /**
+     * Reads the board without building a String.
+     *
+     * @param i from 0 to {@link Viewer#getBoardLength()} - 1.
+     * @return the character at {@code i}, a letter, or "_" where the letter has not been found.
+     */
+    public char getBoardChar(int i) {
+      return board[i];
+    }
+
+    /**
+     * Used to show the board.
+     *
+     * @return the board as a new String.
+     */
+    public String getBoard() {
+      return new String(board, 0, boardLength);
+    }
+
+    /**
+     * Used to monitor a viewer.
+     *
+     * @return the number of states skipped because this viewer fell a whole ring behind.
+     */
+    public long getDropped() {
+      return dropped;
+    }
+
+    /**
+     * Used to monitor a viewer.
+     *
+     * @return {@code true} if the viewer was closed, or disconnected for falling behind.
+     */
+    public boolean isDisconnected() {
+      return disconnected;
+    }
+
+    /**
+     * Stops watching.  A game waiting for this viewer stops waiting.
+     */
+    @Override
+    public void close() {
+      disconnected = true;
+      viewers.remove(this);
+    }
+  }
+}
@@ -0,0 +1,161 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link GameBroadcast}.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+class GameBroadcastTest {
+
+  /**
+   * A viewer sees each change once, in order, and nothing for a guess that changes nothing.
+   */
+  @Test
+  void viewersSeeEveryChange() {
+    WordStore words = new WordStore();
+    words.append("BANANAS");
+    Hangman game = new Hangman(false, words, GameOutput.NONE);
+    GameBroadcast broadcast = new GameBroadcast();
+    game.setBroadcast(broadcast);
+    GameBroadcast.Viewer viewer = broadcast.subscribe();
+    assertFalse(viewer.poll());
+
+    game.chooseWord(0);
+    game.makeGuess('a');
+    game.makeGuess('A');
+    game.getHint();
+    game.makeGuesses("ZB");
+    game.exit();
+
+    assertTrue(viewer.poll());
+    assertEquals(GameEventLog.WORD_CHOSEN, viewer.getEvent());
+    assertEquals("_______", viewer.getBoard());
+    assertEquals(6, viewer.getRemainingGuesses());
+    assertEquals(3, viewer.getNumberOfHints());
+    assertTrue(viewer.poll());
+    assertEquals(GameEventLog.GUESS, viewer.getEvent());
+    assertEquals('A', viewer.getLetter());
+    assertEquals("_A_A_A_", viewer.getBoard());
+    assertTrue(viewer.poll());
+    assertEquals(GameEventLog.HINT, viewer.getEvent());
+    assertEquals('N', viewer.getLetter());
+    assertEquals("_ANANA_", viewer.getBoard());
+    assertEquals(2, viewer.getNumberOfHints());
+    assertTrue(viewer.poll());
+    assertEquals('Z', viewer.getLetter());
+    assertEquals(5, viewer.getRemainingGuesses());
+    assertTrue(viewer.poll());
+    assertEquals('B', viewer.getBoardChar(0));
+    assertTrue(viewer.poll());
+    assertEquals(GameEventLog.EXIT, viewer.getEvent());
+    assertTrue(viewer.hasLost());
+    assertEquals(game.getStateVersion(), viewer.getVersion());
+    assertFalse(viewer.poll());
+
+    GameBroadcast.Viewer late = broadcast.subscribe();
+    assertTrue(late.poll());
+    assertEquals(GameEventLog.EXIT, late.getEvent());
+    assertFalse(late.poll());
+    assertEquals(0, viewer.getDropped() + late.getDropped());
+  }
+
+  /**
+   * A viewer a whole ring behind skips to the latest state, or is disconnected, as the broadcast
+   * says.
+   */
+  @Test
+  void slowViewers() {
+    WordStore words = RandomWords.of(100);
+    Hangman game = new Hangman(false, words, GameOutput.NONE);
+    GameBroadcast skipping = new GameBroadcast(4, GameBroadcast.Overflow.SKIP_TO_LATEST);
+    game.setBroadcast(skipping);
+    GameBroadcast.Viewer viewer = skipping.subscribe();
+    for (int i = 0; i < 10; i++) {
+      game.chooseWord(i);
+    }
+    assertTrue(viewer.poll());
+    assertEquals(game.getStateVersion(), viewer.getVersion());
+    assertEquals(9, viewer.getDropped());
+    assertFalse(viewer.poll());
+
+    GameBroadcast disconnecting = new GameBroadcast(4, GameBroadcast.Overflow.DISCONNECT);
+    game.setBroadcast(disconnecting);
+    viewer = disconnecting.subscribe();
+    for (int i = 0; i < 10; i++) {
+      game.chooseWord(i);
+    }
+    assertFalse(viewer.poll());
+    assertTrue(viewer.isDisconnected());
+    assertEquals(0, disconnecting.getViewerCount());
+  }
+
+  /**
+   * With {@link GameBroadcast.Overflow#BLOCK} the game waits for its viewers, so viewers on other
+   * threads see every state, and closing a viewer lets the game go on.
+   *
+   * @throws Exception if a thread fails.
+   */
+  @Test
+  void blockingViewersMissNothing() throws Exception {
+    WordStore words = RandomWords.of(1_000);
+    Hangman game = new Hangman(false, words, GameOutput.NONE);
+    GameBroadcast broadcast = new GameBroadcast(8, GameBroadcast.Overflow.BLOCK);
+    game.setBroadcast(broadcast);
+    List<GameBroadcast.Viewer> viewers = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      viewers.add(broadcast.subscribe());
+    }
+    GameBroadcast.Viewer idle = broadcast.subscribe();
+    idle.close();
+
+    AtomicBoolean playing = new AtomicBoolean(true);
+    ExecutorService pool = Executors.newFixedThreadPool(viewers.size());
+    try {
+      List<Future<Integer>> seen = new ArrayList<>();
+      for (GameBroadcast.Viewer viewer : viewers) {
+        seen.add(pool.submit(() -> {
+          int count = 0;
+          int version = 0;
+          while (true) {
+            boolean more = playing.get();
+            if (viewer.poll()) {
+              assertEquals(version + 1, viewer.getVersion());
+              assertTrue(viewer.getBoardLength() > 0);
+              version = viewer.getVersion();
+              count++;
+            } else if (more) {
+              Thread.yield();
+            } else {
+              break;
+            }
+          }
+          return count;
+        }));
+      }
+      for (int i = 0; i < words.size(); i++) {
+        game.chooseWord(i);
+        for (int j = 0; !game.isGameOver(); j++) {
+          game.makeGuess(GuessStrategy.FREQUENCY_ORDER.charAt(j));
+        }
+      }
+      playing.set(false);
+      for (Future<Integer> count : seen) {
+        assertEquals(broadcast.getPublished(), (long) count.get());
+      }
+    } finally {
+      pool.shutdown();
+    }
+    assertEquals(game.getStateVersion(), broadcast.getPublished());
+  }
+}
@@ -0,0 +1,567 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * An append only file of everything that changes games: each word chosen, guess, hint and exit,
+ * with the session it happened in.  {@link GameReplay} plays the events back through
+ * {@link Hangman} to rebuild any session exactly.
+ * <br>
+ * Events are small binary records, 9 to 13 bytes:
+ * <ol>
+ *   <li>the session id, 8 bytes.</li>
+ *   <li>the event, 1 byte: {@link GameEventLog#WORD_CHOSEN}, {@link GameEventLog#GUESS},
+ *   {@link GameEventLog#HINT} or {@link GameEventLog#EXIT}.</li>
+ *   <li>the word index, 4 bytes, for a word chosen, or the letter, 2 bytes, for a guess or a
+ *   hint.</li>
+ * </ol>
+ * The file starts with a header of magic, version, dictionary size and
+ * {@link WordStore#checksum()}, like a {@link GameSnapshot} file, and is refused over any other
+ * dictionary.  After it the records are written in blocks, each with its length in bytes and the
+ * time it was written in milliseconds.  A block that was only partly written when the program
+ * stopped is ignored when the file is read, and cut off when it is opened to append to again.
+ * <br>
+ * Any number of games, on any number of threads, can share one log.  Appending an event only puts
+ * it in a buffer.  The buffer is written when it is full, on {@link GameEventLog#flush()} and on
+ * {@link GameEventLog#sync()}, which also forces it to disk.  Those two are a group commit: while
+ * one thread writes, the others keep appending to a second buffer, and a thread whose events were
+ * written by another thread's call returns without writing anything itself.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+public final class GameEventLog implements Closeable {
+
+  /**
+   * Logs nothing.
+   */
+  public static final GameEventLog NONE = new GameEventLog();
+  /**
+   * A game started on a word.  The value is its index in the dictionary.
+   */
+  public static final byte WORD_CHOSEN = 1;
+  /**
+   * A letter was guessed with {@link Hangman#makeGuess(char)} or
+   * {@link Hangman#makeGuesses(CharSequence)}.  The value is the letter, upper cased.
+   */
+  public static final byte GUESS = 2;
+  /**
+   * {@link Hangman#getHint()} used up a hint.  The value is the letter it guessed, since which
+   * letter that is depends on the game's {@link HintPolicy}.
+   */
+  public static final byte HINT = 3;
+  /**
+   * {@link Hangman#exit()} was called.
+   */
+  public static final byte EXIT = 4;
+  /**
+   * The first bytes of a log file, "HMEL".
+   */
+  private static final int MAGIC = 0x484D454C;
+  /**
+   * The version of the file format.
+   */
+  private static final int VERSION = 2;
+  /**
+   * Bytes before the first block: magic, version, dictionary size and dictionary checksum.
+   */
+  private static final int HEADER = 16;
+  /**
+   * Bytes before the records of a block: their length and the time.
+   */
+  private static final int BLOCK_HEADER = 12;
+  /**
+   * The most bytes one record takes.
+   */
+  private static final int MAX_RECORD = 13;
+  /**
+   * The size of each buffer, and so the most bytes in one block.
+   */
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  /**
+   * The file, or {@code null} for {@link GameEventLog#NONE}.
+   */
+  private final FileChannel channel;
+  /**
+   * Taken to write a block.  Always taken before the lock on this log, never after.
+   */
+  private final Object writeLock = new Object();
+  /**
+   * Where events are appended.  Guarded by this log.
+   */
+  private ByteBuffer active;
+  /**
+   * The other buffer, being written or waiting to swap with {@link GameEventLog#active}.  Guarded
+   * by {@link GameEventLog#writeLock}.
+   */
+  private ByteBuffer spare;
+  /**
+   * The number of events appended.  Guarded by this log.
+   */
+  private long appended;
+  /**
+   * The number of events written to the file.  Guarded by {@link GameEventLog#writeLock}.
+   */
+  private long written;
+  /**
+   * The number of events forced to disk.  Guarded by {@link GameEventLog#writeLock}.
+   */
+  private long synced;
+  /**
+   * Set by {@link GameEventLog#close()}.  Guarded by this log.
+   */
+  private boolean closed;
+
+  /**
+   * Creates {@link GameEventLog#NONE}.
+   */
+  private GameEventLog() {
+    channel = null;
+  }
+
+  /**
+   * Opens a log to append to, creating it if it does not exist.  A block at the end that was only
+   * partly written is cut off, so that new blocks follow the last whole one.
+   *
+   * @param file the file.
+   * @param words the dictionary every logged game uses.
+   * @throws IOException if the file cannot be written, is not a log, or was started with a
+   *     different dictionary.
+   */
+  public GameEventLog(Path file, WordStore words) throws IOException {
+    long end = -1;
+    if (Files.exists(file) && Files.size(file) > 0) {
+      try (Reader reader = new Reader(file, words)) {
+        end = reader.endOfLastBlock();
+      }
+    }
+    channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+        StandardOpenOption.APPEND);
+    try {
+      if (end >= 0) {
+        channel.truncate(end);
+      } else {
+        ByteBuffer header = ByteBuffer.allocate(HEADER).putInt(MAGIC).putInt(VERSION)
+            .putInt(words.size()).putInt(words.checksum()).flip();
+        while (header.hasRemaining()) {
+          channel.write(header);
+        }
+      }
+    } catch (IOException e) {
+      channel.close();
+      throw e;
+    }
+    active = ByteBuffer.allocateDirect(BUFFER_SIZE).position(BLOCK_HEADER);
+    spare = ByteBuffer.allocateDirect(BUFFER_SIZE).position(BLOCK_HEADER);
+  }
+
+  /**
+   * Logs that a game started on a word.
+   *
+   * @param session the session.
+   * @param index the position of the word in the dictionary.
+   */
+  void wordChosen(long session, int index) {
+    append(session, WORD_CHOSEN, index);
+  }
+
+  /**
+   * Logs a guess.
+   *
+   * @param session the session.
+   * @param letter the letter, upper cased.
+   */
+  void guessed(long session, char letter) {
+    append(session, GUESS, letter);
+  }
+
+  /**
+   * Logs a hint.
+   *
+   * @param session the session.
+   * @param letter the letter the hint guessed, upper cased.
+   */
+  void hinted(long session, char letter) {
+    append(session, HINT, letter);
+  }
+
+  /**
+   * Logs an exit.
+   *
+   * @param session the session.
+   */
+  void exited(long session) {
+    append(session, EXIT, 0);
+  }
+
+  /**
+   * standard getter
+   *
+   * @return the number of events appended, written or not.
+   */
+  public synchronized long getCount() {
+    return appended;
+  }
+
+  /**
+   * Writes every event appended so far to the file, so they survive the program stopping.
+   *
+   * @throws IOException if the file cannot be written.
+   */
+  public void flush() throws IOException {
+    write(false);
+  }
+
+  /**
+   * Writes every event appended so far to the file and forces them to disk, so they survive the
+   * machine stopping.
+   *
+   * @throws IOException if the file cannot be written.
+   */
+  public void sync() throws IOException {
+    write(true);
+  }
+
+  /**
+   * Syncs and closes the file.  Games still using the log fail with
+   * {@link IllegalStateException} on their next event.
+   *
+   * @throws IOException if the file cannot be written.
+   */
+  @Override
+  public void close() throws IOException {
+    if (channel == null) {
+      return;
+    }
+    synchronized (this) {
+      closed = true;
+    }
+    try (channel) {
+      sync();
+    }
+  }
+
+  /**
+   * Adds a record to the active buffer, writing the buffer first if it is full.
+   *
+   * @param session the session.
+   * @param type the event.
+   * @param value the word index or letter, if the event has one.
+   * @throws UncheckedIOException if a full buffer cannot be written.
+   * @throws IllegalStateException if the log is closed.
+   */
+  private void append(long session, byte type, int value) {
+    if (channel == null) {
+      return;
+    }
+    while (true) {
+      synchronized (this) {
+        if (closed) {
+          throw new IllegalStateException("The event log is closed");
+        }
+        if (active.remaining() >= MAX_RECORD) {
+          active.putLong(session).put(type);
+          if (type == WORD_CHOSEN) {
+            active.putInt(value);
+          } else if (type == GUESS || type == HINT) {
+            active.putChar((char) value);
+          }
+          appended++;
+          return;
+        }
+      }
+      try {
+        write(false);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+
+  /**
+   * Swaps the buffers and writes out the one that was active as a block, unless another thread
+   * already wrote everything appended before this was called.
+   *
+   * @param force {@code true} to force the file to disk as well.
+   * @throws IOException if the file cannot be written.
+   */
+  private void write(boolean force) throws IOException {
+    if (channel == null) {
+      return;
+    }
+    long target = getCount();
+    synchronized (writeLock) {
+      if (written >= target && (!force || synced >= target)) {
+        return;
+      }
+      ByteBuffer block;
+      long upTo;
+      synchronized (this) {
+        block = active;
+        active = spare;
+        spare = block;
+        upTo = appended;
+      }
+      if (block.position() > BLOCK_HEADER) {
+        block.putInt(0, block.position() - BLOCK_HEADER).putLong(4, System.currentTimeMillis());
+        block.flip();
+        while (block.hasRemaining()) {
+          channel.write(block);
+        }
+      }
+      block.clear().position(BLOCK_HEADER);
+      written = upTo;
+      if (force) {
+        channel.force(false);
+        synced = upTo;
+      }
+    }
+  }
+
+  /**
+   * Reads a log one event at a time.  {@link Reader#next()} moves to the next event and the
+   * getters describe it, so reading allocates nothing per event.
+   */
+  public static final class Reader implements Closeable {
+
+    /**
+     * The file.
+     */
+    private final FileChannel channel;
+    /**
+     * Bytes read from the file and not yet decoded.  Large enough for several blocks.
+     */
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE * 16);
+    /**
+     * Where the block being read ends in {@link Reader#buffer}.
+     */
+    private int blockEnd;
+    /**
+     * When the block being read was written.
+     */
+    private long time;
+    /**
+     * The session of the current event.
+     */
+    private long session;
+    /**
+     * The current event.
+     */
+    private byte type;
+    /**
+     * The word index or letter of the current event.
+     */
+    private int value;
+    /**
+     * The number of events read.
+     */
+    private long count;
+    /**
+     * Set when the file ends part way through a block.
+     */
+    private boolean truncated;
+
+    /**
+     * Opens a log file.
+     *
+     * @param file the file.
+     * @param words the dictionary the games were logged with.
+     * @throws IOException if the file cannot be read, is not a log, or was started with a
+     *     different dictionary.
+     */
+    public Reader(Path file, WordStore words) throws IOException {
+      channel = FileChannel.open(file, StandardOpenOption.READ);
+      try {
+        buffer.limit(0);
+        fill(HEADER);
+        if (buffer.remaining() < HEADER || buffer.getInt() != MAGIC
+            || buffer.getInt() != VERSION) {
+          throw new IOException(file + " is not an event log");
+        }
+        int wordCount = buffer.getInt();
+        if (wordCount != words.size()) {
+          throw new IOException(file + " was logged with " + wordCount + " words, not "
+              + words.size());
+        }
+        if (buffer.getInt() != words.checksum()) {
+          throw new IOException(file + " was logged with a different dictionary of " + wordCount
+              + " words");
+        }
+        blockEnd = buffer.position();
+      } catch (IOException e) {
+        channel.close();
+        throw e;
+      }
+    }
+
+    /**
+     * Moves to the next event.
+     *
+     * @return {@code false} if there are no more events.
+     * @throws IOException if the file cannot be read, or a block holds something that is not an
+     *     event.
+     */
+    public boolean next() throws IOException {
+      if (buffer.position() == blockEnd && !nextBlock()) {
+        return false;
+      }
+      session = buffer.getLong();
+      type = buffer.get();
+      if (type == WORD_CHOSEN) {
+        value = buffer.getInt();
+      } else if (type == GUESS || type == HINT) {
+        value = buffer.getChar();
+      } else if (type == EXIT) {
+        value = 0;
+      } else {
+        throw new IOException("Event " + count + " has unknown type " + type);
+      }
+      if (buffer.position() > blockEnd) {
+        throw new IOException("Event " + count + " runs past the end of its block");
+      }
+      count++;
+      return true;
+    }
+
+    /**
+     * standard getter
+     *
+     * @return the session of the current event.
+     */
+    public long getSession() {
+      return session;
+    }
+
+    /**
+     * standard getter
+     *
+     * @return the current event, {@link GameEventLog#WORD_CHOSEN}, {@link GameEventLog#GUESS},
+     *     {@link GameEventLog#HINT} or {@link GameEventLog#EXIT}.
+     */
+    public byte getType() {
+      return type;
+    }
+
+    /**
+     * standard getter
+     *
+     * @return the word index of a {@link GameEventLog#WORD_CHOSEN} event.
+     */
+    public int getWordIndex() {
+      return value;
+    }
+
+    /**
+     * standard getter
+     *
+     * @return the letter of a {@link GameEventLog#GUESS} or {@link GameEventLog#HINT} event.
+     */
+    public char getLetter() {
+      return (char) value;
+    }
+
+    /**
+     * standard getter
+     *
+     * @return when the current event was written, in milliseconds since the epoch.  Events are
+     *     timed by block, so this is when the event reached the file, not when it happened.
+     */
+    public long getTime() {
+      return time;
+    }
+
+    /**
+     * standard getter
+     *
+     * @return the number of events read so far.
+     */
+    public long getCount() {
+      return count;
+    }
+
+    /**
+     * Checks whether the last block was cut short, as it is if the program stopped while writing
+     * it.  Only meaningful once {@link Reader#next()} has returned {@code false}.
+     *
+     * @return {@code true} if events at the end of the file were ignored.
+     */
+    public boolean isTruncated() {
+      return truncated;
+    }
+
+    @Override
+    public void close() throws IOException {
+      channel.close();
+    }
+
+    /**
+     * Skips every block left.
+     *
+     * @return the length of the file up to the end of the last whole block.
+     * @throws IOException if the file cannot be read.
+     */
+    long endOfLastBlock() throws IOException {
+      long end = channel.position() - buffer.limit() + blockEnd;
+      buffer.position(blockEnd);
+      while (nextBlock()) {
+        end = channel.position() - buffer.limit() + blockEnd;
+        buffer.position(blockEnd);
+      }
+      return end;
+    }
+
+    /**
+     * Moves to the first event of the next block that has any.
+     *
+     * @return {@code false} if the file ends first.
+     * @throws IOException if the file cannot be read.
+     */
+    private boolean nextBlock() throws IOException {
+      do {
+        fill(BLOCK_HEADER);
+        if (buffer.remaining() < BLOCK_HEADER) {
+          truncated = buffer.hasRemaining();
+          return false;
+        }
+        int length = buffer.getInt(buffer.position());
+        if (length < 0 || length > BUFFER_SIZE - BLOCK_HEADER) {
+          throw new IOException("Block after event " + count + " has length " + length);
+        }
+        fill(BLOCK_HEADER + length);
+        if (buffer.remaining() < BLOCK_HEADER + length) {
+          truncated = true;
+          return false;
+        }
+        buffer.getInt();
+        time = buffer.getLong();
+        blockEnd = buffer.position() + length;
+      } while (buffer.position() == blockEnd);
+      return true;
+    }
+
+    /**
+     * Reads from the file until at least {@code bytes} are buffered or the file ends.
+     *
+     * @param bytes the number of bytes wanted.
+     * @throws IOException if the file cannot be read.
+     */
+    private void fill(int bytes) throws IOException {
+      if (buffer.remaining() >= bytes) {
+        return;
+      }
+      buffer.compact();
+      while (buffer.position() < bytes) {
+        if (channel.read(buffer) < 0) {
+          break;
+        }
+      }
+      buffer.flip();
+    }
+  }
+}
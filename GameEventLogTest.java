@@ -0,0 +1,214 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link GameEventLog} and {@link GameReplay}.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+class GameEventLogTest {
+
+  /**
+   * Replaying a log rebuilds every session, open or closed, exactly as it was played.
+   *
+   * @param dir a temporary directory.
+   * @throws IOException if the log cannot be written.
+   */
+  @Test
+  void replaysSessions(@TempDir Path dir) throws IOException {
+    WordStore words = RandomWords.of(1_000);
+    Path file = dir.resolve("events.log");
+    SessionManager manager = new SessionManager(words);
+    Map<Long, Integer> closedScores = new HashMap<>();
+    try (GameEventLog events = new GameEventLog(file, words)) {
+      manager.setEventLog(events);
+      SplittableRandom random = new SplittableRandom(21);
+      List<Long> ids = new ArrayList<>();
+      for (int i = 0; i < 300; i++) {
+        ids.add(manager.open());
+      }
+      for (int move = 0; move < 20_000; move++) {
+        long id = ids.get(random.nextInt(ids.size()));
+        if (manager.isGameOver(id)) {
+          manager.nextWord(id);
+        } else if (random.nextInt(15) == 0) {
+          manager.hint(id);
+        } else {
+          manager.guess(id, (char) ('a' + random.nextInt(26)));
+        }
+      }
+      for (long id = 1; id <= 300; id += 3) {
+        closedScores.put(id, manager.close(id));
+      }
+    }
+
+    GameReplay replay = new GameReplay(words);
+    Map<Long, Hangman> games = replay.replay(file);
+    assertEquals(300, games.size());
+    assertEquals(0, replay.getSkipped());
+    for (Map.Entry<Long, Hangman> entry : games.entrySet()) {
+      Hangman game = entry.getValue();
+      Integer closedScore = closedScores.get(entry.getKey());
+      if (closedScore == null) {
+        assertEquals(manager.state(entry.getKey()), game.displayGameState());
+      } else {
+        assertEquals(closedScore, game.hasWon() ? game.getScore() : 0);
+        assertEquals(0, game.getRemainingGuesses());
+      }
+    }
+    assertEquals(manager.state(200), replay.replay(file, 200).displayGameState());
+    assertNull(replay.replay(file, 301));
+  }
+
+  /**
+   * A hint is replayed as the letter it revealed, so a game whose hints follow another
+   * {@link HintPolicy} replays the same.  Hints asked for after they run out change nothing and
+   * are not logged.
+   *
+   * @param dir a temporary directory.
+   * @throws IOException if the log cannot be written.
+   */
+  @Test
+  void replaysHintLetters(@TempDir Path dir) throws IOException {
+    WordStore words = new WordStore();
+    words.append("BANANAS");
+    Path file = dir.resolve("events.log");
+    Hangman game = new Hangman(false, words, GameOutput.NONE);
+    game.setHintPolicy(HintPolicy.LEFT_TO_RIGHT);
+    long hints;
+    try (GameEventLog events = new GameEventLog(file, words)) {
+      game.setEventLog(events, 1);
+      game.chooseWord(0);
+      game.getHint();
+      assertEquals("B______", game.getGuessedWordString());
+      while (game.getHint() > 0) {
+        assertFalse(game.isGameOver());
+      }
+      hints = events.getCount() - 1;
+      game.getHint();
+      assertEquals(hints + 1, events.getCount());
+    }
+    Hangman replayed = new GameReplay(words).replay(file, 1);
+    assertEquals(game.displayGameState(), replayed.displayGameState());
+    assertEquals(0, replayed.getNumberOfHints());
+    assertTrue(hints > 1);
+  }
+
+  /**
+   * Events appended from many threads while others flush all reach the file, each session's in
+   * the order it appended them.
+   *
+   * @param dir a temporary directory.
+   * @throws Exception if the log cannot be written or a thread fails.
+   */
+  @Test
+  void groupCommit(@TempDir Path dir) throws Exception {
+    WordStore words = RandomWords.of(10);
+    Path file = dir.resolve("events.log");
+    int threads = 4;
+    int perThread = 20_000;
+    ExecutorService pool = Executors.newFixedThreadPool(threads);
+    try (GameEventLog events = new GameEventLog(file, words)) {
+      List<Future<?>> results = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        long session = t;
+        results.add(pool.submit(() -> {
+          for (int i = 0; i < perThread; i++) {
+            events.guessed(session, (char) ('A' + i % 26));
+            if (i % 1_000 == 0) {
+              events.flush();
+            }
+          }
+          return null;
+        }));
+      }
+      for (Future<?> result : results) {
+        result.get();
+      }
+      assertEquals((long) threads * perThread, events.getCount());
+    } finally {
+      pool.shutdown();
+    }
+
+    int[] seen = new int[threads];
+    try (GameEventLog.Reader reader = new GameEventLog.Reader(file, words)) {
+      while (reader.next()) {
+        int session = (int) reader.getSession();
+        assertEquals(GameEventLog.GUESS, reader.getType());
+        assertEquals('A' + seen[session] % 26, reader.getLetter());
+        seen[session]++;
+        assertTrue(reader.getTime() > 0);
+      }
+      assertFalse(reader.isTruncated());
+    }
+    for (int count : seen) {
+      assertEquals(perThread, count);
+    }
+  }
+
+  /**
+   * A block cut short at the end of the file is ignored when reading, and cut off when the log is
+   * opened again, so later events can still be read.  Logs from other dictionaries are refused.
+   *
+   * @param dir a temporary directory.
+   * @throws IOException if the log cannot be written.
+   */
+  @Test
+  void recoversFromTornWrite(@TempDir Path dir) throws IOException {
+    WordStore words = RandomWords.of(10);
+    Path file = dir.resolve("events.log");
+    try (GameEventLog events = new GameEventLog(file, words)) {
+      events.wordChosen(1, 3);
+      events.hinted(1, 'E');
+    }
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.APPEND)) {
+      channel.write(ByteBuffer.allocate(20).putInt(100).putLong(1).putLong(7).flip());
+    }
+    try (GameEventLog.Reader reader = new GameEventLog.Reader(file, words)) {
+      assertTrue(reader.next());
+      assertEquals(3, reader.getWordIndex());
+      assertTrue(reader.next());
+      assertEquals(GameEventLog.HINT, reader.getType());
+      assertEquals('E', reader.getLetter());
+      assertFalse(reader.next());
+      assertTrue(reader.isTruncated());
+    }
+
+    try (GameEventLog events = new GameEventLog(file, words)) {
+      events.exited(1);
+    }
+    try (GameEventLog.Reader reader = new GameEventLog.Reader(file, words)) {
+      while (reader.next()) {
+        assertEquals(1, reader.getSession());
+      }
+      assertEquals(3, reader.getCount());
+      assertEquals(GameEventLog.EXIT, reader.getType());
+      assertFalse(reader.isTruncated());
+    }
+
+    assertThrows(IOException.class,
+        () -> new GameEventLog(file, RandomWords.of(11)));
+    assertThrows(IOException.class,
+        () -> new GameReplay(RandomWords.of(11)).replay(file));
+  }
+}
@@ -1,5 +1,5 @@
-import java.util.ArrayList;
-import java.util.List;
+import java.io.InputStream;
+import java.io.PrintStream;
 import java.util.Scanner;
 
 /**
@@ -17,26 +17,33 @@ import java.util.Scanner;
  *   <li>exit</li>
  *   <li>getScore</li>
  * </ol>
+ * That API is {@link Game}.  The games are found by a {@link GameRegistry}, and each one, with its words, is only
+ * made the first time the player chooses it.
  */
 public class GameLoader {
 
   /**
-   * a global hangman game
+   * The games that can be played, made when they are first chosen.
    */
-  private final Hangman hangman;
+  private final GameRegistry games;
   /**
-   * A list of games that can be played.  One day this might be a list of enums. For now, we only
-   * have one game so a String is fine.
+   * The player's keyboard.  Created from {@link System#in} the first time it is needed unless the loader was given
+   * its own input, and shared by {@link GameLoader#gameLoop()} and {@link GameLoader#hangman()}.
    */
-  private final List<String> games = new ArrayList<>();
+  private Scanner scan;
+  /**
+   * The player's screen.
+   */
+  private final GameOutput out;
 
   /**
-   * Used to run the GameLoader
+   * Used to run the GameLoader.  Hangman only remembers which words earlier runs chose if it is given a file to keep
+   * them in, such as "hangmanWords.used".
    *
-   * @param args needed for main
+   * @param args optionally, the file to record the chosen words in
    */
   public static void main(String[] args) {
-    GameLoader loader = new GameLoader();
+    GameLoader loader = new GameLoader("hangmanWords.txt", args.length > 0 ? args[0] : null);
     loader.gameLoop();
   }
 
@@ -49,119 +56,117 @@ public class GameLoader {
   }
 
   /**
-   * Initialized a hangman instance. calls {@link Hangman#readFile(String)} calls
-   * {@link GameLoader#games}.add and adds the string "Hangman"
-   *
+   * Finds the games.  Hangman reads wordsFile with {@link Hangman#readFile(String)} the first time it is chosen, not
+   * here.
    *
    * @param wordsFile a String representing a filename
    */
   public GameLoader(String wordsFile) {
-    hangman = new Hangman();
-    hangman.readFile(wordsFile);
+    this(wordsFile, null);
+  }
 
-    games.add("Hangman"); //Hangman Should NOT be a String. Make it an enum.
+  /**
+   * Finds the games.  Hangman remembers which words it has chosen in usedWordsFile, so that restarting the loader does
+   * not repeat them.  See {@link Hangman#trackUsedWords(String)}.
+   *
+   * @param wordsFile a String representing a filename
+   * @param usedWordsFile a String representing the filename of the used words, or {@code null} to not record them
+   */
+  public GameLoader(String wordsFile, String usedWordsFile) {
+    out = GameOutput.of(System.out);
+    games = new GameRegistry(new GameSettings(out, wordsFile, usedWordsFile, null));
+  }
+
+  /**
+   * Creates a loader for one player who is not at the console.  The player gets their own hangman game over a
+   * shared, {@link WordStore#freeze() frozen} word store, so many loaders can run side by side.
+   *
+   * @param words the words to play with.
+   * @param in the player's keyboard.
+   * @param out the player's screen.
+   */
+  public GameLoader(WordStore words, InputStream in, PrintStream out) {
+    this(words, in, GameOutput.of(out));
+  }
 
+  /**
+   * Creates a loader for one player who is not at the console, printing through any {@link GameOutput}.
+   *
+   * @param words the words to play with.
+   * @param in the player's keyboard.
+   * @param out the player's screen.
+   */
+  public GameLoader(WordStore words, InputStream in, GameOutput out) {
+    this.out = out;
+    scan = new Scanner(in);
+    games = new GameRegistry(new GameSettings(out, null, null, words));
   }
 
   /**
    * The main function of GameLoader.  This creates a text menu for Loading Hangman. It also keeps
-   * track of the overall score.
+   * track of the overall score.  Running out of input is the same as choosing "zz".
    *
    */
   public void gameLoop() {
-    System.out.println("Welcome to CST 338 Arcade!");
+    out.println("Welcome to CST 338 Arcade!");
 
-    Scanner scan = new Scanner(System.in);
+    Scanner scan = input();
     String choice = "";
     while (!choice.equalsIgnoreCase("zz")) {
       int score = 0;
-      System.out.println("Current score: " + score);
-      System.out.println("You may choose from the following games:");
-      for (String game : games) {
-        System.out.println("\t" + game);
+      out.println("Current score: " + score);
+      out.println("You may choose from the following games:");
+      for (String game : games.getNames()) {
+        out.println("\t" + game);
       }
-      System.out.print("Please enter your choice (zz to exit): ");
-      choice = scan.nextLine();
-
-      if (choice.equalsIgnoreCase(games.get(0))) {
-        score += hangman();
-      } else if (choice.equalsIgnoreCase("zz")) {
-        System.out.println("Thank you for playing!");
+      out.print("Please enter your choice (zz to exit): ");
+      out.flush();
+      choice = scan.hasNextLine() ? scan.nextLine() : "zz";
+
+      Game game;
+      if (choice.equalsIgnoreCase("zz")) {
+        out.println("Thank you for playing!");
+      } else if ((game = games.get(choice)) != null) {
+        score += game.play(scan);
       } else {
-        System.out.println("I am not sure what " + choice + " is...");
+        out.println("I am not sure what " + choice + " is...");
       }
 
-      System.out.println("Final Score: " + score);
+      out.println("Final Score: " + score);
     }
+    games.close();
+    out.flush();
   }
 
   /**
-   * A method that creates a hangman instance and calls the methods from Hangman. It should be
-   * fairly evident from reading the code.
+   * Plays a round of hangman, making the game the first time.  See {@link Hangman#play(Scanner)}.  Running out of
+   * input is the same as choosing exit.
    *
    * @return the score earned in hangman.
    */
   public int hangman() {
+    return games.get(HangmanProvider.NAME).play(input());
+  }
 
-    int hangmanScore = 0;
-    int choice;
-
-    Scanner scan = new Scanner(System.in);
-
-    System.out.println("Welcome to Hangman!");
-    System.out.println("Current score: " + hangmanScore);
-
-    if (hangman.getCountWordsRemaining() <= 0) {
-      System.out.println("Nothing left to guess!");
-    }
-    hangman.chooseWord();
-
-    while (!hangman.isGameOver()) {
-      hangman.displayGameState();
-      System.out.println("Your options are:");
-      System.out.println("\t 1: Guess a letter");
-      if (hangman.getNumberOfHints() > 0) {
-        System.out.println("\t 2: Get a hint");
-      }
-      System.out.println("\t 3: exit");
-
-      System.out.print("Enter your choice:");
-
-      String input = scan.nextLine();
-
-      try {
-        choice = Integer.parseInt(input);
-
-      } catch (NumberFormatException e) {
-        System.out.println(input + " is not a valid option.");
-        continue;
-      }
-
-      switch (choice) {
-        case 1: //Case 1 make a guess (these should probably be constants defined in hangman)
-          System.out.print("What is your guess: ");
-          input = scan.nextLine();
-          hangman.makeGuess(input.charAt(0));
-          break;
-
-        case 2: // 2 get a hint
-          if (hangman.getNumberOfHints() <= 0) {
-            System.out.println("No more hints!");
-            continue;
-          }
-          hangman.getHint();
-          break;
-
-        case 3: //Exit the game
-          hangmanScore += hangman.exit();
-          break;
-      }
+  /**
+   * Starts counting and timing what happens in this loader's games, including how long each
+   * {@link GameLoader#hangman()} session lasts.
+   *
+   * @param metrics where to record.  Many loaders may share one {@link GameMetrics}.
+   */
+  public void setMetrics(GameMetrics metrics) {
+    games.setMetrics(metrics);
+  }
 
-      if (hangman.hasWon()) {
-        return hangman.exit();
-      }
+  /**
+   * Returns the player's keyboard, creating it from {@link System#in} if the loader was not given one.
+   *
+   * @return the Scanner shared by {@link GameLoader#gameLoop()} and the games.
+   */
+  private Scanner input() {
+    if (scan == null) {
+      scan = new Scanner(System.in);
     }
-
-    return hangmanScore;
+    return scan;
   }
 }
\ No newline at end of file
@@ -2,12 +2,17 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.io.BufferedWriter;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Scanner;
+import java.util.concurrent.Future;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -163,4 +168,56 @@ class GameLoaderTest {
 
   }
 
+  /**
+   * Running out of input ends the game instead of throwing.
+   */
+  @Test
+  void endOfInputTest(){
+    WordStore words = new WordStore();
+    words.append(oneWord);
+    ByteArrayOutputStream screen = new ByteArrayOutputStream();
+    loader = new GameLoader(words, new ByteArrayInputStream("1\nF\n".getBytes()), new PrintStream(screen));
+    assertEquals(0, loader.hangman());
+    assertTrue(screen.toString().contains("Thanks for playing"));
+  }
+
+  /**
+   * A soak test for {@link PlayerRuntime}.  Twenty thousand scripted players, each with their own in-memory keyboard
+   * and screen, all join at once over one dictionary.  Every one of them should win and leave.  On Java 17 they share
+   * the runtime's bounded pool of platform threads.  Run with {@code -Dsoak.players=2000} for a quicker run.
+   *
+   * @throws Exception if a player fails.
+   */
+  @Test
+  void playerRuntimeSoakTest() throws Exception {
+    int playerCount = Integer.getInteger("soak.players", 20_000);
+    WordStore words = new WordStore();
+    words.append(oneWord);
+
+    StringBuilder script = new StringBuilder("Hangman\n");
+    for (char c : oneWord.toCharArray()) {
+      script.append("1\n").append(c).append("\n");
+    }
+    script.append("zz\n");
+    byte[] input = script.toString().getBytes();
+
+    List<Future<?>> players = new ArrayList<>();
+    List<ByteArrayOutputStream> screens = new ArrayList<>();
+    try (PlayerRuntime runtime = new PlayerRuntime(words)) {
+      for (int i = 0; i < playerCount; i++) {
+        ByteArrayOutputStream screen = new ByteArrayOutputStream();
+        screens.add(screen);
+        players.add(runtime.join(new ByteArrayInputStream(input), new PrintStream(screen)));
+      }
+      for (Future<?> player : players) {
+        player.get();
+      }
+    }
+    for (ByteArrayOutputStream screen : screens) {
+      String text = screen.toString();
+      assertTrue(text.contains("H was present!"), text);
+      assertTrue(text.contains("Thank you for playing!"), text);
+    }
+  }
+
 }
\ No newline at end of file
@@ -0,0 +1,404 @@
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Counts what happens in games: guesses, hits, misses, hints, wins and losses, and times word
+ * files loading, words being chosen and {@link GameLoader} sessions.
+ * <br>
+ * Any number of games, on any number of threads, can share one instance.  The totals are
+ * {@link LongAdder LongAdders} and times go into {@link LatencyHistogram LatencyHistograms}, so a
+ * busy game never waits on another one to count.  Read them with the getters, or call
+ * {@link GameMetrics#register(String)} to see them over JMX.
+ * <br>
+ * Even an uncontended {@link LongAdder} is an atomic instruction, which is a large part of a
+ * guess that prints nothing.  So each game counts into its own {@link Recorder} with plain fields,
+ * and adds those to the totals every {@link GameMetrics#FLUSH_EVERY} games and whenever it exits.
+ * The totals can lag a game in progress by that many games.  For the same reason only one word
+ * choice in {@link GameMetrics#SAMPLE_EVERY} reads the clock; the selection histogram is a sample.
+ * <br>
+ * Games start with {@link GameMetrics#NONE}, which records nothing and never reads the clock.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+public final class GameMetrics implements GameMetricsMXBean {
+
+  /**
+   * Records nothing.  Every getter returns 0.
+   */
+  public static final GameMetrics NONE = new GameMetrics(false);
+  /**
+   * A game adds its counts to the totals after this many games.
+   */
+  static final int FLUSH_EVERY = 64;
+  /**
+   * One word choice in this many is timed.  A power of two.
+   */
+  static final int SAMPLE_EVERY = 64;
+  /**
+   * Returned by {@link Recorder#startChoosing()} when the choice is not timed.
+   */
+  private static final long NOT_TIMED = Long.MIN_VALUE;
+
+  /**
+   * {@code false} only for {@link GameMetrics#NONE}.
+   */
+  private final boolean enabled;
+  /**
+   * Every letter guessed.
+   */
+  private final LongAdder guesses = new LongAdder();
+  /**
+   * Guesses that were in the word.
+   */
+  private final LongAdder hits = new LongAdder();
+  /**
+   * Guesses that cost a guess.
+   */
+  private final LongAdder misses = new LongAdder();
+  /**
+   * Letters guessed again.
+   */
+  private final LongAdder repeats = new LongAdder();
+  /**
+   * Hints taken.
+   */
+  private final LongAdder hints = new LongAdder();
+  /**
+   * Games won.
+   */
+  private final LongAdder wins = new LongAdder();
+  /**
+   * Games lost or exited.
+   */
+  private final LongAdder losses = new LongAdder();
+  /**
+   * The words left to choose, as last reported.
+   */
+  private volatile long wordsRemaining;
+  /**
+   * How long word files took to load.
+   */
+  private final LatencyHistogram loads = new LatencyHistogram();
+  /**
+   * How long choosing a word took.
+   */
+  private final LatencyHistogram selections = new LatencyHistogram();
+  /**
+   * How long {@link GameLoader#hangman()} sessions lasted.
+   */
+  private final LatencyHistogram sessions = new LatencyHistogram();
+
+  /**
+   * Creates metrics that record.
+   */
+  public GameMetrics() {
+    this(true);
+  }
+
+  /**
+   * Creates metrics.
+   *
+   * @param enabled {@code false} to record nothing.
+   */
+  private GameMetrics(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * Shows these metrics over JMX, in the platform MBean server.
+   *
+   * @param name the {@code name} key of the object name, to tell several instances apart.
+   * @return the name they were registered under, {@code hangman:type=GameMetrics,name=<name>}.
+   * @throws JMException if the name is taken or not valid.
+   */
+  public ObjectName register(String name) throws JMException {
+    ObjectName objectName = new ObjectName("hangman:type=GameMetrics,name="
+        + ObjectName.quote(name));
+    ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+    return objectName;
+  }
+
+  /**
+   * standard getter
+   *
+   * @return {@code false} if this is {@link GameMetrics#NONE}.
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Creates the counts for one game.  A recorder must only be used by one thread at a time.
+   *
+   * @return a new recorder with nothing counted.
+   */
+  Recorder newRecorder() {
+    return new Recorder();
+  }
+
+  /**
+   * Reads the clock, if anything is being recorded.  Pass the result to one of the methods that
+   * records a time.
+   *
+   * @return {@link System#nanoTime()}, or 0 if nothing is recorded.
+   */
+  long start() {
+    return enabled ? System.nanoTime() : 0;
+  }
+
+  /**
+   * Records that a word file was read.
+   *
+   * @param start what {@link GameMetrics#start()} returned before reading.
+   * @param remaining the words left to choose afterwards.
+   */
+  void loaded(long start, int remaining) {
+    if (enabled) {
+      loads.record(System.nanoTime() - start);
+      wordsRemaining = remaining;
+    }
+  }
+
+  /**
+   * Records the end of a {@link GameLoader#hangman()} session.
+   *
+   * @param start what {@link GameMetrics#start()} returned when it began.
+   */
+  void sessionEnded(long start) {
+    if (enabled) {
+      sessions.record(System.nanoTime() - start);
+    }
+  }
+
+  @Override
+  public long getGuesses() {
+    return guesses.sum();
+  }
+
+  @Override
+  public long getHits() {
+    return hits.sum();
+  }
+
+  @Override
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  @Override
+  public long getRepeats() {
+    return repeats.sum();
+  }
+
+  @Override
+  public long getHintsUsed() {
+    return hints.sum();
+  }
+
+  @Override
+  public long getWins() {
+    return wins.sum();
+  }
+
+  @Override
+  public long getLosses() {
+    return losses.sum();
+  }
+
+  @Override
+  public long getWordsRemaining() {
+    return wordsRemaining;
+  }
+
+  @Override
+  public LatencyHistogram.Summary getLoadLatency() {
+    return loads.summarize();
+  }
+
+  @Override
+  public LatencyHistogram.Summary getSelectionLatency() {
+    return selections.summarize();
+  }
+
+  @Override
+  public LatencyHistogram.Summary getSessionLatency() {
+    return sessions.summarize();
+  }
+
+  /**
+   * standard getter
+   *
+   * @return the histogram of load times, for percentiles other than the summary's.
+   */
+  public LatencyHistogram getLoadHistogram() {
+    return loads;
+  }
+
+  /**
+   * standard getter
+   *
+   * @return the histogram of word selection times.
+   */
+  public LatencyHistogram getSelectionHistogram() {
+    return selections;
+  }
+
+  /**
+   * standard getter
+   *
+   * @return the histogram of session times.
+   */
+  public LatencyHistogram getSessionHistogram() {
+    return sessions;
+  }
+
+  @Override
+  public void reset() {
+    for (LongAdder counter : new LongAdder[] {guesses, hits, misses, repeats, hints, wins,
+        losses}) {
+      counter.reset();
+    }
+    wordsRemaining = 0;
+    loads.reset();
+    selections.reset();
+    sessions.reset();
+  }
+
+  /**
+   * One game's counts, kept in plain fields since only that game writes them, until they are added
+   * to the totals.
+   */
+  final class Recorder {
+
+    /**
+     * Guesses that were in the word.
+     */
+    private long hits;
+    /**
+     * Guesses that cost a guess.
+     */
+    private long misses;
+    /**
+     * Letters guessed again.
+     */
+    private long repeats;
+    /**
+     * Hints taken.
+     */
+    private long hints;
+    /**
+     * Games won.
+     */
+    private long wins;
+    /**
+     * Games lost or exited.
+     */
+    private long losses;
+    /**
+     * Games ended since the last flush.
+     */
+    private int games;
+    /**
+     * Words chosen, to pick which choices are timed.
+     */
+    private int choices;
+    /**
+     * The words left to choose after the last choice, or -1 if nothing was chosen since the last
+     * flush.
+     */
+    private int remaining = -1;
+
+    /**
+     * Records a guess.
+     *
+     * @param result {@link Hangman#GUESS_HIT}, {@link Hangman#GUESS_MISS} or
+     *     {@link Hangman#GUESS_REPEAT}.
+     */
+    void guessed(byte result) {
+      if (result == Hangman.GUESS_HIT) {
+        hits++;
+      } else if (result == Hangman.GUESS_MISS) {
+        misses++;
+      } else {
+        repeats++;
+      }
+    }
+
+    /**
+     * Records a hint.
+     */
+    void hinted() {
+      hints++;
+    }
+
+    /**
+     * Records the end of a game, and adds the counts to the totals every
+     * {@link GameMetrics#FLUSH_EVERY} games.
+     *
+     * @param won {@code true} if the word was guessed.
+     */
+    void ended(boolean won) {
+      if (won) {
+        wins++;
+      } else {
+        losses++;
+      }
+      if (++games == FLUSH_EVERY) {
+        flush();
+      }
+    }
+
+    /**
+     * Reads the clock if this choice is one of the ones timed.
+     *
+     * @return {@link System#nanoTime()}, or a value that means the choice is not timed.
+     */
+    long startChoosing() {
+      return enabled && (choices++ & (SAMPLE_EVERY - 1)) == 0 ? System.nanoTime() : NOT_TIMED;
+    }
+
+    /**
+     * Records that a word was chosen.
+     *
+     * @param start what {@link Recorder#startChoosing()} returned.
+     * @param remaining the words left to choose afterwards.
+     */
+    void chose(long start, int remaining) {
+      this.remaining = remaining;
+      if (start != NOT_TIMED) {
+        selections.record(System.nanoTime() - start);
+      }
+    }
+
+    /**
+     * Adds the counts to the totals and starts counting from zero.
+     */
+    void flush() {
+      if (enabled) {
+        GameMetrics.this.hits.add(hits);
+        GameMetrics.this.misses.add(misses);
+        GameMetrics.this.repeats.add(repeats);
+        guesses.add(hits + misses + repeats);
+        GameMetrics.this.hints.add(hints);
+        GameMetrics.this.wins.add(wins);
+        GameMetrics.this.losses.add(losses);
+        if (remaining >= 0) {
+          wordsRemaining = remaining;
+        }
+      }
+      hits = misses = repeats = hints = wins = losses = 0;
+      games = 0;
+      remaining = -1;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "guesses " + getGuesses() + " (hits " + getHits() + ", misses " + getMisses()
+        + ", repeats " + getRepeats() + "), hints " + getHintsUsed() + ", wins " + getWins()
+        + ", losses " + getLosses() + ", words remaining " + getWordsRemaining();
+  }
+}
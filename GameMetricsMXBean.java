@@ -0,0 +1,92 @@
+/**
+ * What {@link GameMetrics} shows over JMX.  Every attribute is read only.  Latencies are
+ * {@link LatencyHistogram.Summary summaries} in nanoseconds, which JMX clients see as composite
+ * data.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+public interface GameMetricsMXBean {
+
+  /**
+   * Used to monitor play.
+   *
+   * @return the number of letters guessed, including repeats and hints.
+   */
+  long getGuesses();
+
+  /**
+   * Used to monitor play.
+   *
+   * @return the number of guesses that were in the word.
+   */
+  long getHits();
+
+  /**
+   * Used to monitor play.
+   *
+   * @return the number of guesses that cost a guess.
+   */
+  long getMisses();
+
+  /**
+   * Used to monitor play.
+   *
+   * @return the number of letters guessed again, which change nothing.
+   */
+  long getRepeats();
+
+  /**
+   * Used to monitor play.
+   *
+   * @return the number of hints taken.
+   */
+  long getHintsUsed();
+
+  /**
+   * Used to monitor play.
+   *
+   * @return the number of games won.
+   */
+  long getWins();
+
+  /**
+   * Used to monitor play.
+   *
+   * @return the number of games lost, including games exited before the end.
+   */
+  long getLosses();
+
+  /**
+   * Used to monitor the dictionary.
+   *
+   * @return the number of words left to choose, as last reported by any game.
+   */
+  long getWordsRemaining();
+
+  /**
+   * Used to monitor the dictionary.
+   *
+   * @return how long word files took to load.
+   */
+  LatencyHistogram.Summary getLoadLatency();
+
+  /**
+   * Used to monitor the dictionary.
+   *
+   * @return how long choosing a word took.
+   */
+  LatencyHistogram.Summary getSelectionLatency();
+
+  /**
+   * Used to monitor play.
+   *
+   * @return how long each {@link GameLoader#hangman()} session lasted.
+   */
+  LatencyHistogram.Summary getSessionLatency();
+
+  /**
+   * Sets every count and histogram back to zero.
+   */
+  void reset();
+}
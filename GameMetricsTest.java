@@ -0,0 +1,124 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link GameMetrics} and {@link LatencyHistogram}.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+class GameMetricsTest {
+
+  /**
+   * Every guess, hint and result is counted once, and games that are not measured count nothing.
+   */
+  @Test
+  void countsGames() {
+    WordStore words = new WordStore();
+    words.append("TEA");
+    words.append("CAB");
+    GameMetrics metrics = new GameMetrics();
+    Hangman game = new Hangman(false, words, GameOutput.NONE);
+    game.setMetrics(metrics);
+
+    game.chooseWord(0);
+    game.makeGuesses("TXTEA");
+    game.chooseWord(1);
+    game.getHint();
+    game.makeGuess('Z');
+    game.makeGuess('Q');
+    game.makeGuess('W'); // the game is already lost, so this is not a second loss
+    game.chooseWord(0);
+    assertEquals(0, metrics.getGuesses());
+    game.exit();
+
+    assertEquals(9, metrics.getGuesses());
+    assertEquals(4, metrics.getHits());
+    assertEquals(4, metrics.getMisses());
+    assertEquals(1, metrics.getRepeats());
+    assertEquals(1, metrics.getHintsUsed());
+    assertEquals(1, metrics.getWins());
+    assertEquals(2, metrics.getLosses());
+
+    // the first choice is one of the ones timed
+    game.chooseWord();
+    game.flushMetrics();
+    assertEquals(1, metrics.getSelectionLatency().getCount());
+    assertEquals(1, metrics.getWordsRemaining());
+
+    assertEquals(0, GameMetrics.NONE.getGuesses());
+    assertEquals(0, GameMetrics.NONE.getSelectionLatency().getCount());
+  }
+
+  /**
+   * A scripted {@link GameLoader} session is timed, and the counts can be read over JMX.
+   *
+   * @throws Exception if JMX fails.
+   */
+  @Test
+  void sessionsOverJmx() throws Exception {
+    WordStore words = new WordStore();
+    words.append("TEA");
+    ByteArrayInputStream in = new ByteArrayInputStream(
+        "1\nT\n1\nE\n1\nA\n".getBytes(StandardCharsets.UTF_8));
+    GameLoader loader = new GameLoader(words, in, new PrintStream(new ByteArrayOutputStream()));
+    GameMetrics metrics = new GameMetrics();
+    loader.setMetrics(metrics);
+    loader.hangman();
+
+    ObjectName name = metrics.register("sessionsOverJmx");
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    try {
+      assertEquals(1L, server.getAttribute(name, "Wins"));
+      assertEquals(3L, server.getAttribute(name, "Hits"));
+      CompositeData sessions = (CompositeData) server.getAttribute(name, "SessionLatency");
+      assertEquals(1L, sessions.get("count"));
+      assertTrue((Long) sessions.get("max") > 0);
+      server.invoke(name, "reset", null, null);
+      assertEquals(0L, server.getAttribute(name, "Wins"));
+    } finally {
+      server.unregisterMBean(name);
+    }
+  }
+
+  /**
+   * Percentiles are within the bucket width of the true values, and the max is exact.
+   */
+  @Test
+  void histogramPercentiles() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (long value = 1; value <= 100_000; value++) {
+      histogram.record(value);
+    }
+    assertEquals(100_000, histogram.getCount());
+    assertEquals(50_000.5, histogram.getMean());
+    assertEquals(100_000, histogram.getMax());
+    for (double percentile : new double[] {1, 50, 90, 99, 99.9}) {
+      long expected = (long) (percentile * 1_000);
+      long actual = histogram.getPercentile(percentile);
+      assertTrue(actual >= expected && actual <= expected * 1.04,
+          percentile + "th percentile was " + actual);
+    }
+    assertEquals(100_000, histogram.getPercentile(100));
+
+    for (long value : new long[] {0, 1, 63, 64, 65, 1_000_000_007L, Long.MAX_VALUE}) {
+      int bucket = LatencyHistogram.bucket(value);
+      assertTrue(LatencyHistogram.highest(bucket) >= value);
+      assertTrue(bucket == 0 || LatencyHistogram.highest(bucket - 1) < value);
+    }
+
+    histogram.reset();
+    assertEquals(0, histogram.getCount());
+    assertEquals(0, histogram.getPercentile(50));
+  }
+}
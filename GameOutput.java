@@ -0,0 +1,96 @@
+import java.io.PrintStream;
+
+/**
+ * Where a game's messages to the player go.
+ * <br>
+ * {@link Hangman} and {@link GameLoader} print everything through one of these, so the same game
+ * can talk to the console ({@link GameOutput#of(PrintStream)}), to nobody at all
+ * ({@link GameOutput#NONE}), to a buffered stream ({@link BufferedGameOutput}) or to a log of
+ * structured records ({@link StructuredGameOutput}).
+ * <br>
+ * Messages about a single letter, such as "E was present!", are passed as three parts so that
+ * an output that throws messages away never has to build the String.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+public interface GameOutput {
+
+  /**
+   * Throws every message away.  Use this to run games with no I/O at all.
+   */
+  GameOutput NONE = new GameOutput() {
+    @Override
+    public void print(String text) {
+    }
+
+    @Override
+    public void println(String text) {
+    }
+
+    @Override
+    public void println(String prefix, char letter, String suffix) {
+    }
+  };
+
+  /**
+   * Prints text without ending the line.  Used for prompts.
+   *
+   * @param text the text to print.
+   */
+  void print(String text);
+
+  /**
+   * Prints a line.
+   *
+   * @param text the line to print.
+   */
+  void println(String text);
+
+  /**
+   * Prints a line about a letter: {@code prefix + letter + suffix}.
+   *
+   * @param prefix the text before the letter.
+   * @param letter the letter.
+   * @param suffix the text after the letter.
+   */
+  void println(String prefix, char letter, String suffix);
+
+  /**
+   * Makes sure everything printed so far has reached the player.  Called before waiting for the
+   * player to type something.
+   */
+  default void flush() {
+  }
+
+  /**
+   * Prints to a {@link PrintStream}, such as {@link System#out}.  Every call goes straight to the
+   * stream.
+   *
+   * @param stream where to print.
+   * @return an output that prints to {@code stream}.
+   */
+  static GameOutput of(PrintStream stream) {
+    return new GameOutput() {
+      @Override
+      public void print(String text) {
+        stream.print(text);
+      }
+
+      @Override
+      public void println(String text) {
+        stream.println(text);
+      }
+
+      @Override
+      public void println(String prefix, char letter, String suffix) {
+        stream.println(prefix + letter + suffix);
+      }
+
+      @Override
+      public void flush() {
+        stream.flush();
+      }
+    };
+  }
+}
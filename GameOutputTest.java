@@ -0,0 +1,69 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link GameOutput} implementations.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+class GameOutputTest {
+
+  /**
+   * Nothing reaches the stream until the buffer is flushed, then everything does.
+   */
+  @Test
+  void bufferedWritesOnFlush() {
+    ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    BufferedGameOutput output = new BufferedGameOutput(stream);
+    output.println("You chose: ", 'E', "");
+    output.print("Enter your choice:");
+    assertEquals(0, stream.size());
+    output.flush();
+    assertEquals("You chose: E\nEnter your choice:", stream.toString());
+  }
+
+  /**
+   * A full buffer is written without waiting for a flush.
+   */
+  @Test
+  void bufferedWritesWhenFull() {
+    ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    BufferedGameOutput output = new BufferedGameOutput(stream, 4);
+    output.println("Thanks for playing");
+    assertEquals("Thanks for playing\n", stream.toString());
+  }
+
+  /**
+   * Each message is one JSON record, with the letter when there is one.
+   */
+  @Test
+  void structuredRecords() {
+    StringBuilder log = new StringBuilder();
+    StructuredGameOutput output = new StructuredGameOutput(log);
+    output.println("", 'E', " was present!");
+    output.print("Say \"hi\":");
+    String[] lines = log.toString().split("\n");
+    assertEquals(2, lines.length);
+    assertEquals("{\"seq\": 1, \"message\": \"E was present!\", \"letter\": \"E\"}", lines[0]);
+    assertEquals("{\"seq\": 2, \"message\": \"Say \\\"hi\\\":\", \"prompt\": true}", lines[1]);
+  }
+
+  /**
+   * A whole game can be played through a game with no output.
+   */
+  @Test
+  void gameWithNoOutput() {
+    WordStore words = new WordStore();
+    words.append("FISH");
+    Hangman game = new Hangman(false, words, GameOutput.NONE);
+    game.chooseWord();
+    for (char c : "FISH".toCharArray()) {
+      assertTrue(game.makeGuess(c));
+    }
+    assertTrue(game.hasWon());
+  }
+}
@@ -0,0 +1,29 @@
+/**
+ * Makes a {@link Game} for {@link GameRegistry}.
+ * <br>
+ * Providers are found with {@link java.util.ServiceLoader}: a game outside this project lists its
+ * provider's class name in {@code META-INF/services/GameProvider} on the class path.  Every
+ * provider is created when the registry is, so a provider must be cheap to create, with a public
+ * no parameter constructor, and leave loading words and other resources to
+ * {@link GameProvider#create(GameSettings)}.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+public interface GameProvider {
+
+  /**
+   * The name shown in the menu.  The player chooses the game by typing it, in any case.
+   *
+   * @return the name of the game.
+   */
+  String getName();
+
+  /**
+   * Makes the game.  Called once, the first time the player chooses it.
+   *
+   * @param settings what the loader was given: the player's screen and where to find words.
+   * @return a new game.
+   */
+  Game create(GameSettings settings);
+}
@@ -0,0 +1,162 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * The games a {@link GameLoader} can offer, found with {@link ServiceLoader} and made the first
+ * time they are chosen.
+ * <br>
+ * Every {@link GameProvider} on the class path is created along with the registry, which is cheap,
+ * but no {@link Game} is made, and so no words are read, until a player chooses it.  A loader whose
+ * player never picks Hangman never reads the dictionary.  Choices are looked up by name in a hash
+ * map, ignoring case.  If two providers have the same name, the first one found is kept.
+ * <br>
+ * {@link HangmanProvider} is built in, so Hangman is offered even if
+ * {@code META-INF/services/GameProvider} is not on the class path.
+ * <br>
+ * Used by one loader, so not thread safe.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+public final class GameRegistry {
+
+  /**
+   * Passed to each provider.
+   */
+  private final GameSettings settings;
+  /**
+   * The providers, by name in lower case.
+   */
+  private final Map<String, GameProvider> providers = new HashMap<>();
+  /**
+   * The games made so far, by name in lower case.
+   */
+  private final Map<String, Game> games = new HashMap<>();
+  /**
+   * The names of the games, in the order they were found.
+   */
+  private final List<String> names = new ArrayList<>();
+  /**
+   * Given to each game, or {@code null} if {@link GameRegistry#setMetrics(GameMetrics)} has not
+   * been called.
+   */
+  private GameMetrics metrics;
+
+  /**
+   * Finds the games on the class path.
+   *
+   * @param settings passed to each provider when its game is made.
+   */
+  public GameRegistry(GameSettings settings) {
+    this(settings, ServiceLoader.load(GameProvider.class));
+  }
+
+  /**
+   * Offers the given games, and Hangman.
+   *
+   * @param settings passed to each provider when its game is made.
+   * @param found the providers, in the order they should be shown.
+   */
+  GameRegistry(GameSettings settings, Iterable<GameProvider> found) {
+    this.settings = settings;
+    for (GameProvider provider : found) {
+      register(provider);
+    }
+    register(new HangmanProvider());
+  }
+
+  /**
+   * Adds a game to the end of the menu, unless one with the same name is already there.
+   *
+   * @param provider makes the game.
+   * @return {@code true} if it was added.
+   */
+  public boolean register(GameProvider provider) {
+    if (providers.putIfAbsent(key(provider.getName()), provider) != null) {
+      return false;
+    }
+    names.add(provider.getName());
+    return true;
+  }
+
+  /**
+   * Used to build the menu.
+   *
+   * @return the names of the games, in order.
+   */
+  public List<String> getNames() {
+    return Collections.unmodifiableList(names);
+  }
+
+  /**
+   * Gets a game by name, making it if it is the first time it was chosen.
+   *
+   * @param name what the player typed, in any case.
+   * @return the game, or {@code null} if there is no game with that name.
+   */
+  public Game get(String name) {
+    String key = key(name);
+    Game game = games.get(key);
+    if (game == null) {
+      GameProvider provider = providers.get(key);
+      if (provider == null) {
+        return null;
+      }
+      game = provider.create(settings);
+      if (metrics != null) {
+        game.setMetrics(metrics);
+      }
+      games.put(key, game);
+    }
+    return game;
+  }
+
+  /**
+   * Used to check whether a game has been made yet.
+   *
+   * @param name the name of the game, in any case.
+   * @return {@code true} if {@link GameRegistry#get(String)} has made it.
+   */
+  public boolean isLoaded(String name) {
+    return games.containsKey(key(name));
+  }
+
+  /**
+   * Starts counting and timing what happens in every game, now for the games already made and when
+   * they are made for the others.
+   *
+   * @param metrics where to record.
+   */
+  public void setMetrics(GameMetrics metrics) {
+    this.metrics = metrics;
+    for (Game game : games.values()) {
+      game.setMetrics(metrics);
+    }
+  }
+
+  /**
+   * Calls {@link Game#close()} on every game made so far and forgets them, so a game chosen after
+   * this is made again.
+   */
+  public void close() {
+    for (Game game : games.values()) {
+      game.close();
+    }
+    games.clear();
+  }
+
+  /**
+   * Turns a name into a key for the maps.
+   *
+   * @param name the name, in any case.
+   * @return the name in lower case.
+   */
+  private static String key(String name) {
+    return name.toLowerCase(Locale.ROOT);
+  }
+}
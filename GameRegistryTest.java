@@ -0,0 +1,98 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.ServiceLoader;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link GameRegistry}.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+class GameRegistryTest {
+
+  /**
+   * Hangman is found through {@link ServiceLoader}, and only made when it is chosen, in any case.
+   */
+  @Test
+  void findsHangman() {
+    assertTrue(ServiceLoader.load(GameProvider.class).stream()
+        .anyMatch(provider -> provider.type() == HangmanProvider.class));
+    WordStore words = new WordStore();
+    words.append("FISH");
+    GameRegistry registry = new GameRegistry(new GameSettings(GameOutput.NONE, null, null, words));
+    assertEquals(List.of("Hangman"), registry.getNames());
+    assertFalse(registry.isLoaded("Hangman"));
+
+    Game game = registry.get("HANGMAN");
+    assertInstanceOf(Hangman.class, game);
+    assertTrue(registry.isLoaded("hangman"));
+    assertSame(game, registry.get("hangman"));
+    assertNull(registry.get("Chess"));
+  }
+
+  /**
+   * Each game is made once, the first time it is chosen, with the metrics set before then, and a
+   * second game with the same name is not added.
+   */
+  @Test
+  void makesGamesWhenChosen() {
+    WordStore words = new WordStore();
+    words.append("FISH");
+    Counting coins = new Counting("Coins");
+    GameRegistry registry = new GameRegistry(new GameSettings(GameOutput.NONE, null, null, words),
+        List.of(coins));
+    assertEquals(List.of("Coins", "Hangman"), registry.getNames());
+    assertFalse(registry.register(new Counting("COINS")));
+    GameMetrics metrics = new GameMetrics();
+    registry.setMetrics(metrics);
+    assertEquals(0, coins.made);
+
+    Hangman game = (Hangman) registry.get("coins");
+    registry.get("Coins");
+    assertEquals(1, coins.made);
+    assertSame(metrics, game.getMetrics());
+    assertFalse(registry.isLoaded("Hangman"));
+  }
+
+  /**
+   * Makes hangman games under another name and counts them.
+   */
+  private static final class Counting implements GameProvider {
+
+    /**
+     * The name shown in the menu.
+     */
+    private final String name;
+    /**
+     * The number of games made.
+     */
+    private int made;
+
+    /**
+     * Creates a provider.
+     *
+     * @param name the name shown in the menu.
+     */
+    Counting(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+
+    @Override
+    public Game create(GameSettings settings) {
+      made++;
+      return new Hangman(false, settings.getWords(), settings.getOutput());
+    }
+  }
+}
@@ -0,0 +1,149 @@
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Rebuilds games from a {@link GameEventLog} by playing every event back through
+ * {@link Hangman}: a word chosen calls {@link Hangman#chooseWord(int)}, a guess
+ * {@link Hangman#makeGuess(char)}, a hint uses up a hint on the letter that was logged for it, and
+ * an exit {@link Hangman#exit()}.  Each session gets its own game, so each ends up with the same board,
+ * score and hints it had when the events were logged.
+ * <br>
+ * Replayed games print nothing and log nothing.  A session whose first logged event is not a word
+ * chosen started before the log did, so its events are skipped and counted in
+ * {@link GameReplay#getSkipped()}.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+public final class GameReplay {
+
+  /**
+   * The dictionary the games were logged with.
+   */
+  private final WordStore words;
+  /**
+   * Events skipped by the last replay.
+   */
+  private long skipped;
+  /**
+   * Events played by the last replay.
+   */
+  private long played;
+
+  /**
+   * Creates a replay engine.
+   *
+   * @param words the dictionary the games were logged with.
+   */
+  public GameReplay(WordStore words) {
+    this.words = words;
+  }
+
+  /**
+   * Replays every session in a log.
+   *
+   * @param file a file written by {@link GameEventLog}.
+   * @return the game of each session, by session id, as it was after its last event.
+   * @throws IOException if the file cannot be read or was logged with other words.
+   */
+  public Map<Long, Hangman> replay(Path file) throws IOException {
+    Map<Long, Hangman> games = new HashMap<>();
+    skipped = 0;
+    played = 0;
+    try (GameEventLog.Reader reader = new GameEventLog.Reader(file, words)) {
+      long lastSession = 0;
+      Hangman last = null;
+      while (reader.next()) {
+        long session = reader.getSession();
+        Hangman game = last != null && session == lastSession ? last : games.get(session);
+        if (game == null) {
+          if (reader.getType() != GameEventLog.WORD_CHOSEN) {
+            skipped++;
+            continue;
+          }
+          game = new Hangman(false, words, GameOutput.NONE);
+          games.put(session, game);
+        }
+        apply(reader, game);
+        lastSession = session;
+        last = game;
+      }
+    }
+    return games;
+  }
+
+  /**
+   * Replays one session in a log, skipping the others' events.
+   *
+   * @param file a file written by {@link GameEventLog}.
+   * @param session the session to rebuild.
+   * @return the session's game as it was after its last event, or {@code null} if the log has no
+   *     word chosen for that session.
+   * @throws IOException if the file cannot be read or was logged with other words.
+   */
+  public Hangman replay(Path file, long session) throws IOException {
+    Hangman game = null;
+    skipped = 0;
+    played = 0;
+    try (GameEventLog.Reader reader = new GameEventLog.Reader(file, words)) {
+      while (reader.next()) {
+        if (reader.getSession() != session) {
+          continue;
+        }
+        if (game == null) {
+          if (reader.getType() != GameEventLog.WORD_CHOSEN) {
+            skipped++;
+            continue;
+          }
+          game = new Hangman(false, words, GameOutput.NONE);
+        }
+        apply(reader, game);
+      }
+    }
+    return game;
+  }
+
+  /**
+   * Used to check a replay.
+   *
+   * @return the number of events played back by the last replay.
+   */
+  public long getPlayed() {
+    return played;
+  }
+
+  /**
+   * Used to check a replay.
+   *
+   * @return the number of events the last replay skipped because their session had no word.
+   */
+  public long getSkipped() {
+    return skipped;
+  }
+
+  /**
+   * Plays the reader's current event on a game.
+   *
+   * @param reader a reader on an event.
+   * @param game the game of the event's session.
+   */
+  private void apply(GameEventLog.Reader reader, Hangman game) {
+    switch (reader.getType()) {
+      case GameEventLog.WORD_CHOSEN:
+        game.chooseWord(reader.getWordIndex());
+        break;
+      case GameEventLog.GUESS:
+        game.makeGuess(reader.getLetter());
+        break;
+      case GameEventLog.HINT:
+        game.hint(reader.getLetter());
+        break;
+      default:
+        game.exit();
+        break;
+    }
+    played++;
+  }
+}
@@ -0,0 +1,571 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Plays Hangman over TCP with a line protocol, so players do not need the console that
+ * {@link GameLoader} reads.
+ * <br>
+ * Every connection gets its own {@link Hangman} over one shared, frozen {@link WordStore}.  The
+ * connections are multiplexed on a few threads, each running a {@link Selector} loop, so a
+ * connection waiting for its player costs its game and two small buffers, not a thread.  The first
+ * loop also accepts connections and hands them out to the loops in turn.
+ * <br>
+ * The protocol is one command per line, answered by one line.  On connecting the server sends
+ * {@code HELLO Hangman}, the menu of games.  The commands, upper or lower case, are:
+ * <ul>
+ *   <li>{@code N} starts a game on a new word, like choosing Hangman from the menu.</li>
+ *   <li>{@code G x} guesses the letter {@code x}.</li>
+ *   <li>{@code H} takes a hint.</li>
+ *   <li>{@code S} shows the game again.</li>
+ *   <li>{@code X} exits: the server answers {@code BYE score} and closes the connection.</li>
+ * </ul>
+ * The first four answer {@code result board remaining hints state}, for example
+ * {@code HIT _A__E 4 1 PLAY}.  The result is {@code NEW}, {@code HIT}, {@code MISS},
+ * {@code REPEAT}, {@code HINT} or {@code STATE}, the board is
+ * {@link Hangman#getGuessedWordString()}, and the state is {@code PLAY}, {@code WON} or
+ * {@code LOST}.  Anything that cannot be done answers {@code ERR} and a reason.  Commands may be
+ * sent before the answer to the last one arrives, and are answered in order.  If the server
+ * itself fails part way through a command it answers {@code ERR server error} and closes that
+ * connection, and every other connection carries on.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+public class GameServer implements AutoCloseable {
+
+  /**
+   * The port used by {@link GameServer#main(String[])} when none is given.
+   */
+  public static final int DEFAULT_PORT = 3380;
+  /**
+   * The longest command line accepted, with its line break.  A longer one gets an error and the
+   * connection is closed.
+   */
+  static final int MAX_LINE = 64;
+  /**
+   * The most bytes one answer takes.
+   */
+  private static final int MAX_REPLY = 128;
+  /**
+   * The size of each connection's output buffer.
+   */
+  private static final int OUT_SIZE = 4 * 1024;
+
+  /**
+   * The dictionary shared by every connection.
+   */
+  private final WordStore words;
+  /**
+   * Gives each connection its own random number stream.
+   */
+  private final RandomSource randomness = RandomSource.unseeded();
+  /**
+   * Numbers the connections for {@link GameServer#randomness} and the event log.
+   */
+  private final AtomicInteger nextId = new AtomicInteger();
+  /**
+   * The number of connections open.
+   */
+  private final AtomicInteger open = new AtomicInteger();
+  /**
+   * Listens for connections.
+   */
+  private final ServerSocketChannel server;
+  /**
+   * One selector loop per thread.
+   */
+  private final Loop[] loops;
+  /**
+   * The threads running {@link GameServer#loops}.
+   */
+  private final Thread[] threads;
+  /**
+   * The loop given the next connection.  Only used by the first loop.
+   */
+  private int nextLoop;
+  /**
+   * Where every connection's games log their events.
+   */
+  private volatile GameEventLog events = GameEventLog.NONE;
+  /**
+   * Cleared by {@link GameServer#close()}.
+   */
+  private volatile boolean running = true;
+
+  /**
+   * Runs a server until the process is stopped.  Use {@code java GameServer [port] [threads]
+   * [words file]}.
+   *
+   * @param args optionally, the port, the number of threads and the word file.
+   * @throws IOException if the word file cannot be read or the port cannot be opened.
+   */
+  public static void main(String[] args) throws IOException {
+    int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+    int threads = args.length > 1 ? Integer.parseInt(args[1])
+        : Runtime.getRuntime().availableProcessors();
+    WordStore words = new WordStore();
+    new WordIngester(words).ingest(Path.of(args.length > 2 ? args[2] : "hangmanWords.txt"));
+    GameServer server = new GameServer(words, new InetSocketAddress(port), threads);
+    System.out.println("Hangman server on port " + server.getPort() + " with " + threads
+        + " threads");
+  }
+
+  /**
+   * Opens the port and starts the threads.  The store is frozen so that every connection can share
+   * it.
+   *
+   * @param words the dictionary.
+   * @param address where to listen.  Port 0 picks a free port, see {@link GameServer#getPort()}.
+   * @param threads the number of selector loops.
+   * @throws IOException if the port cannot be opened.
+   */
+  public GameServer(WordStore words, InetSocketAddress address, int threads) throws IOException {
+    if (threads < 1) {
+      throw new IllegalArgumentException("Need at least one thread, not " + threads);
+    }
+    this.words = words.freeze();
+    server = ServerSocketChannel.open();
+    loops = new Loop[threads];
+    this.threads = new Thread[threads];
+    try {
+      server.bind(address, 1024);
+      server.configureBlocking(false);
+      for (int i = 0; i < threads; i++) {
+        loops[i] = new Loop();
+      }
+      server.register(loops[0].selector, SelectionKey.OP_ACCEPT);
+    } catch (IOException e) {
+      for (Loop loop : loops) {
+        if (loop != null) {
+          loop.selector.close();
+        }
+      }
+      server.close();
+      throw e;
+    }
+    for (int i = 0; i < threads; i++) {
+      this.threads[i] = new Thread(loops[i], "GameServer-" + i);
+      this.threads[i].start();
+    }
+  }
+
+  /**
+   * standard getter
+   *
+   * @return the port the server listens on.
+   */
+  public int getPort() {
+    return server.socket().getLocalPort();
+  }
+
+  /**
+   * Used to monitor the server.
+   *
+   * @return the number of connections open.
+   */
+  public int getConnectionCount() {
+    return open.get();
+  }
+
+  /**
+   * Logs the events of every game on connections opened from now on, under the connection's
+   * number.
+   *
+   * @param events the log, over the same words, or {@link GameEventLog#NONE} to stop.
+   */
+  public void setEventLog(GameEventLog events) {
+    this.events = events;
+  }
+
+  /**
+   * Stops accepting, closes every connection and waits for the threads to stop.
+   */
+  @Override
+  public void close() {
+    running = false;
+    for (Loop loop : loops) {
+      loop.selector.wakeup();
+    }
+    for (Thread thread : threads) {
+      try {
+        thread.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+    try {
+      server.close();
+    } catch (IOException e) {
+      // nothing more can be done with it
+    }
+  }
+
+  /**
+   * One thread's selector and the connections registered with it.
+   */
+  private final class Loop implements Runnable {
+
+    /**
+     * Waits for the connections to be ready.
+     */
+    private final Selector selector;
+    /**
+     * Connections accepted for this loop and not yet registered.
+     */
+    private final Queue<SocketChannel> pending = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Opens the selector.
+     *
+     * @throws IOException if it cannot be opened.
+     */
+    Loop() throws IOException {
+      selector = Selector.open();
+    }
+
+    @Override
+    public void run() {
+      try (selector) {
+        while (running) {
+          selector.select();
+          for (SocketChannel channel = pending.poll(); channel != null; channel = pending.poll()) {
+            register(channel);
+          }
+          Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+          while (keys.hasNext()) {
+            SelectionKey key = keys.next();
+            keys.remove();
+            if (!key.isValid()) {
+              continue;
+            }
+            if (key.isAcceptable()) {
+              accept();
+            } else {
+              ((Connection) key.attachment()).ready(key);
+            }
+          }
+        }
+        for (SelectionKey key : selector.keys()) {
+          if (key.attachment() instanceof Connection) {
+            ((Connection) key.attachment()).close(key);
+          }
+        }
+        for (SocketChannel channel = pending.poll(); channel != null; channel = pending.poll()) {
+          channel.close();
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    /**
+     * Accepts every waiting connection and gives each to the next loop.
+     *
+     * @throws IOException if accepting fails.
+     */
+    private void accept() throws IOException {
+      for (SocketChannel channel = server.accept(); channel != null; channel = server.accept()) {
+        channel.configureBlocking(false);
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        Loop loop = loops[nextLoop];
+        nextLoop = (nextLoop + 1) % loops.length;
+        if (loop == this) {
+          register(channel);
+        } else {
+          loop.pending.add(channel);
+          loop.selector.wakeup();
+        }
+      }
+    }
+
+    /**
+     * Registers a new connection and greets it.
+     *
+     * @param channel the connection.
+     */
+    private void register(SocketChannel channel) {
+      Connection connection = new Connection(channel, nextId.incrementAndGet());
+      open.incrementAndGet();
+      try {
+        SelectionKey key = channel.register(selector, SelectionKey.OP_READ, connection);
+        connection.reply.append("HELLO Hangman");
+        connection.endReply();
+        connection.flush(key);
+      } catch (IOException e) {
+        connection.close(null);
+      }
+    }
+  }
+
+  /**
+   * One player: their game and the bytes on their way in and out.  Only used by the loop it is
+   * registered with.
+   */
+  private final class Connection {
+
+    /**
+     * The socket.
+     */
+    private final SocketChannel channel;
+    /**
+     * The connection's number.
+     */
+    private final int id;
+    /**
+     * Bytes read and not yet handled.
+     */
+    private final ByteBuffer in = ByteBuffer.allocate(MAX_LINE);
+    /**
+     * Answers not yet written.
+     */
+    private final ByteBuffer out = ByteBuffer.allocate(OUT_SIZE);
+    /**
+     * The answer being built.
+     */
+    private final StringBuilder reply = new StringBuilder(MAX_REPLY);
+    /**
+     * Room for the letter of a guess.
+     */
+    private final char[] letter = new char[1];
+    /**
+     * The game, created by the first {@code N}.
+     */
+    private Hangman game;
+    /**
+     * Set once the connection should close after its answers are written.
+     */
+    private boolean closing;
+
+    /**
+     * Creates the state for a new connection.
+     *
+     * @param channel the socket.
+     * @param id the connection's number.
+     */
+    Connection(SocketChannel channel, int id) {
+      this.channel = channel;
+      this.id = id;
+    }
+
+    /**
+     * Reads and answers what it can, or writes answers that did not fit in the socket before.
+     * Anything that goes wrong closes this connection only, so the loop keeps serving the others.
+     *
+     * @param key the connection's key, ready for reading or writing.
+     */
+    void ready(SelectionKey key) {
+      try {
+        if (key.isWritable()) {
+          flush(key);
+          return;
+        }
+        if (channel.read(in) < 0) {
+          close(key);
+          return;
+        }
+        handleLines();
+        flush(key);
+      } catch (IOException | RuntimeException e) {
+        close(key);
+      }
+    }
+
+    /**
+     * Answers every whole line in {@link Connection#in} while there is room for the answers.  The
+     * rest wait until the answers are written.
+     */
+    private void handleLines() {
+      in.flip();
+      int start = in.position();
+      int i = start;
+      for (; i < in.limit() && !closing && out.remaining() >= MAX_REPLY; i++) {
+        if (in.get(i) == '\n') {
+          int end = i > start && in.get(i - 1) == '\r' ? i - 1 : i;
+          handle(start, end);
+          endReply();
+          start = i + 1;
+        }
+      }
+      boolean noLineBreak = i == in.limit();
+      in.position(start);
+      in.compact();
+      if (noLineBreak && !in.hasRemaining() && !closing) {
+        reply.append("ERR line too long");
+        endReply();
+        closing = true;
+      }
+    }
+
+    /**
+     * Builds the answer to one command.  A command the game refuses is answered with its reason.
+     * Any other failure, such as the event log not being writable, is answered with
+     * {@code ERR server error} and closes the connection, since its game may be part way through
+     * the command.
+     *
+     * @param start where the line starts in {@link Connection#in}.
+     * @param end where the line ends, without the line break.
+     */
+    private void handle(int start, int end) {
+      if (start == end) {
+        reply.append("ERR empty command");
+        return;
+      }
+      char command = Character.toUpperCase((char) in.get(start));
+      try {
+        if (command == 'X') {
+          closing = true;
+          reply.append("BYE ").append(game == null ? 0 : game.exit());
+        } else if (command == 'N') {
+          newGame();
+        } else if (game == null) {
+          reply.append("ERR no game, send N");
+        } else if (command == 'S') {
+          state("STATE");
+        } else if (game.isGameOver()) {
+          reply.append("ERR game over, send N");
+        } else if (command == 'G') {
+          guess(start, end);
+        } else if (command == 'H') {
+          hint();
+        } else {
+          reply.append("ERR unknown command");
+        }
+      } catch (IllegalStateException e) {
+        reply.setLength(0);
+        reply.append("ERR ").append(e.getMessage());
+      } catch (RuntimeException e) {
+        reply.setLength(0);
+        reply.append("ERR server error");
+        closing = true;
+      }
+    }
+
+    /**
+     * Starts a game on a new word.
+     */
+    private void newGame() {
+      if (game == null) {
+        game = new Hangman(false, words, GameOutput.NONE, randomness.streamFor(id));
+        game.setEventLog(events, id);
+      }
+      if (game.getCountWordsRemaining() <= 0) {
+        reply.append("ERR no words left");
+        return;
+      }
+      game.chooseWord();
+      state("NEW");
+    }
+
+    /**
+     * Makes a guess.
+     *
+     * @param start where the line starts in {@link Connection#in}.
+     * @param end where the line ends.
+     */
+    private void guess(int start, int end) {
+      int at = start + 1;
+      while (at < end && in.get(at) == ' ') {
+        at++;
+      }
+      if (at == start + 1 || at + 1 != end) {
+        reply.append("ERR guess one letter, like G E");
+        return;
+      }
+      letter[0] = (char) in.get(at);
+      byte result = game.makeGuesses(letter)[0];
+      state(result == Hangman.GUESS_HIT ? "HIT" : result == Hangman.GUESS_MISS ? "MISS"
+          : "REPEAT");
+    }
+
+    /**
+     * Takes a hint.
+     */
+    private void hint() {
+      if (game.getNumberOfHints() <= 0) {
+        reply.append("ERR no more hints");
+        return;
+      }
+      game.getHint();
+      state("HINT");
+    }
+
+    /**
+     * Builds an answer that shows the game.
+     *
+     * @param result what the command did.
+     */
+    private void state(String result) {
+      reply.append(result).append(' ').append(game.getGuessedWordString()).append(' ')
+          .append(game.getRemainingGuesses()).append(' ').append(game.getNumberOfHints())
+          .append(game.hasWon() ? " WON" : game.hasLost() ? " LOST" : " PLAY");
+    }
+
+    /**
+     * Moves the answer that was built to {@link Connection#out}, ending it with a line break.
+     */
+    void endReply() {
+      int length = Math.min(reply.length(), MAX_REPLY - 1);
+      for (int i = 0; i < length; i++) {
+        out.put((byte) reply.charAt(i));
+      }
+      out.put((byte) '\n');
+      reply.setLength(0);
+    }
+
+    /**
+     * Writes as many answers as the socket takes.  If some are left, waits to write instead of
+     * reading, so a player who does not read cannot fill the server with answers.
+     *
+     * @param key the connection's key.
+     * @throws IOException if the socket cannot be written.
+     */
+    void flush(SelectionKey key) throws IOException {
+      out.flip();
+      channel.write(out);
+      out.compact();
+      if (out.position() > 0) {
+        key.interestOps(SelectionKey.OP_WRITE);
+      } else if (closing) {
+        close(key);
+      } else {
+        key.interestOps(SelectionKey.OP_READ);
+        if (in.position() > 0 && out.remaining() >= MAX_REPLY) {
+          handleLines();
+          if (out.position() > 0) {
+            flush(key);
+          }
+        }
+      }
+    }
+
+    /**
+     * Closes the socket.
+     *
+     * @param key the connection's key, or {@code null} if it was never registered.
+     */
+    void close(SelectionKey key) {
+      if (key != null) {
+        key.cancel();
+      }
+      try {
+        channel.close();
+      } catch (IOException e) {
+        // already as closed as it can be
+      }
+      open.decrementAndGet();
+    }
+  }
+}
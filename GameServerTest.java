@@ -0,0 +1,244 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link GameServer}, over loopback.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+class GameServerTest {
+
+  /**
+   * The server under test, with two threads and one word.
+   */
+  private GameServer server;
+
+  /**
+   * Starts a server on a free port before each test.
+   *
+   * @throws IOException if the port cannot be opened.
+   */
+  @BeforeEach
+  void setUp() throws IOException {
+    WordStore words = new WordStore();
+    words.append("TEA");
+    server = new GameServer(words, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 2);
+  }
+
+  /**
+   * Stops the server after each test.
+   */
+  @AfterEach
+  void tearDown() {
+    server.close();
+  }
+
+  /**
+   * A whole game can be played, with every command answered as the protocol says.
+   *
+   * @throws IOException if the connection fails.
+   */
+  @Test
+  void playsAGame() throws IOException {
+    try (Player player = new Player()) {
+      assertEquals("HELLO Hangman", player.read());
+      assertEquals("ERR no game, send N", player.send("G E"));
+      assertEquals("NEW ___ 2 1 PLAY", player.send("n"));
+      assertEquals("HIT _E_ 2 1 PLAY", player.send("g e"));
+      assertEquals("REPEAT _E_ 2 1 PLAY", player.send("G E"));
+      assertEquals("MISS _E_ 1 1 PLAY", player.send("G Z"));
+      assertEquals("HINT TE_ 1 0 PLAY", player.send("H"));
+      assertEquals("ERR no more hints", player.send("H"));
+      assertEquals("ERR guess one letter, like G E", player.send("G AB"));
+      assertEquals("ERR unknown command", player.send("Q"));
+      assertEquals("HIT TEA 1 0 WON", player.send("G A"));
+      assertEquals("ERR game over, send N", player.send("G B"));
+      assertEquals("STATE TEA 1 0 WON", player.send("S"));
+      assertEquals("BYE 3", player.send("X"));
+      assertNull(player.read());
+    }
+  }
+
+  /**
+   * Commands sent together are answered in order, and a line that is too long closes the
+   * connection.
+   *
+   * @throws IOException if the connection fails.
+   */
+  @Test
+  void pipelinesAndLimitsLines() throws IOException {
+    try (Player player = new Player()) {
+      player.read();
+      player.write("N\r\nG T\nG E\nS\n");
+      assertEquals("NEW ___ 2 1 PLAY", player.read());
+      assertEquals("HIT T__ 2 1 PLAY", player.read());
+      assertEquals("HIT TE_ 2 1 PLAY", player.read());
+      assertEquals("STATE TE_ 2 1 PLAY", player.read());
+      player.write("G" + " ".repeat(GameServer.MAX_LINE));
+      assertEquals("ERR line too long", player.read());
+      assertNull(player.read());
+    }
+  }
+
+  /**
+   * Many connections at once each get their own game, and are counted until they close.
+   *
+   * @throws IOException if a connection fails.
+   * @throws InterruptedException if interrupted while waiting for the server to see the closes.
+   */
+  @Test
+  void manyConnections() throws IOException, InterruptedException {
+    List<Player> players = new ArrayList<>();
+    try {
+      for (int i = 0; i < 200; i++) {
+        Player player = new Player();
+        players.add(player);
+        player.read();
+        player.write("N\nG T\n");
+      }
+      for (Player player : players) {
+        assertEquals("NEW ___ 2 1 PLAY", player.read());
+        assertEquals("HIT T__ 2 1 PLAY", player.read());
+      }
+      assertEquals(200, server.getConnectionCount());
+    } finally {
+      for (Player player : players) {
+        player.close();
+      }
+    }
+    for (int i = 0; i < 500 && server.getConnectionCount() > 0; i++) {
+      Thread.sleep(10);
+    }
+    assertEquals(0, server.getConnectionCount());
+  }
+
+  /**
+   * A connection whose event log cannot be written gets an error and is closed, and the server
+   * goes on serving new connections.
+   *
+   * @param dir a temporary directory.
+   * @throws IOException if a connection fails.
+   */
+  @Test
+  void failingEventLogClosesOneConnection(@TempDir Path dir) throws IOException {
+    server.close();
+    WordStore words = RandomWords.of(10_000);
+    server = new GameServer(words, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1);
+    GameEventLog events = new GameEventLog(dir.resolve("events.log"), words);
+    events.exited(0);
+    // writing while interrupted closes the log's file, so every later write fails
+    Thread.currentThread().interrupt();
+    assertThrows(IOException.class, events::flush);
+    Thread.interrupted();
+    server.setEventLog(events);
+
+    try (Player player = new Player()) {
+      player.read();
+      // each new word is logged, so enough of them fill the log's buffer and it has to write
+      String answer = player.send("N");
+      int games = 0;
+      while (answer != null && answer.startsWith("NEW") && games < words.size()) {
+        games++;
+        answer = player.send("N");
+      }
+      assertEquals("ERR server error", answer);
+      assertNull(player.read());
+      assertTrue(games > 0 && games < words.size() - 1, games + " games");
+    }
+    try (Player player = new Player()) {
+      assertEquals("HELLO Hangman", player.read());
+      assertTrue(player.send("N").startsWith("NEW"));
+    }
+    assertThrows(IOException.class, events::close);
+  }
+
+  /**
+   * A blocking client.  A read that waits more than ten seconds fails, so a server that stopped
+   * answering fails the test instead of hanging it.
+   */
+  private final class Player implements AutoCloseable {
+
+    /**
+     * The connection.
+     */
+    private final Socket socket;
+    /**
+     * Answers from the server.
+     */
+    private final BufferedReader in;
+    /**
+     * Commands to the server.
+     */
+    private final OutputStream out;
+
+    /**
+     * Connects to the server.
+     *
+     * @throws IOException if the connection fails.
+     */
+    Player() throws IOException {
+      socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+      socket.setSoTimeout(10_000);
+      in = new BufferedReader(new InputStreamReader(socket.getInputStream(),
+          StandardCharsets.US_ASCII));
+      out = socket.getOutputStream();
+    }
+
+    /**
+     * Sends a command and waits for the answer.
+     *
+     * @param command the command, without a line break.
+     * @return the answer.
+     * @throws IOException if the connection fails.
+     */
+    String send(String command) throws IOException {
+      write(command + "\n");
+      return read();
+    }
+
+    /**
+     * Sends text as it is.
+     *
+     * @param text the text.
+     * @throws IOException if the connection fails.
+     */
+    void write(String text) throws IOException {
+      out.write(text.getBytes(StandardCharsets.US_ASCII));
+      out.flush();
+    }
+
+    /**
+     * Waits for an answer.
+     *
+     * @return the answer, or {@code null} if the server closed the connection.
+     * @throws IOException if the connection fails.
+     */
+    String read() throws IOException {
+      return in.readLine();
+    }
+
+    @Override
+    public void close() throws IOException {
+      socket.close();
+    }
+  }
+}
@@ -0,0 +1,77 @@
+/**
+ * What a {@link GameLoader} was given, passed to each {@link GameProvider} when its game is made.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+public final class GameSettings {
+
+  /**
+   * The player's screen.
+   */
+  private final GameOutput out;
+  /**
+   * The file to read words from, or {@code null}.
+   */
+  private final String wordsFile;
+  /**
+   * The file to record used words in, or {@code null}.
+   */
+  private final String usedWordsFile;
+  /**
+   * Words already loaded, or {@code null}.
+   */
+  private final WordStore words;
+
+  /**
+   * Creates settings.
+   *
+   * @param out the player's screen.
+   * @param wordsFile the file to read words from, or {@code null} if {@code words} is given.
+   * @param usedWordsFile the file to record used words in, or {@code null} to not record them.
+   * @param words words already loaded, and {@link WordStore#freeze() frozen} if they are shared,
+   *     or {@code null} to read {@code wordsFile}.
+   */
+  public GameSettings(GameOutput out, String wordsFile, String usedWordsFile, WordStore words) {
+    this.out = out;
+    this.wordsFile = wordsFile;
+    this.usedWordsFile = usedWordsFile;
+    this.words = words;
+  }
+
+  /**
+   * standard getter
+   *
+   * @return out
+   */
+  public GameOutput getOutput() {
+    return out;
+  }
+
+  /**
+   * standard getter
+   *
+   * @return wordsFile, or {@code null}.
+   */
+  public String getWordsFile() {
+    return wordsFile;
+  }
+
+  /**
+   * standard getter
+   *
+   * @return usedWordsFile, or {@code null}.
+   */
+  public String getUsedWordsFile() {
+    return usedWordsFile;
+  }
+
+  /**
+   * standard getter
+   *
+   * @return words, or {@code null}.
+   */
+  public WordStore getWords() {
+    return words;
+  }
+}
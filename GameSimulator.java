@@ -0,0 +1,315 @@
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+/**
+ * Plays Hangman headlessly, many games per word, to score a {@link GuessStrategy} against a
+ * dictionary.
+ * <br>
+ * The words are split into ranges and played on a {@link ForkJoinPool}, so every core is used.
+ * Each range gets its own {@link Hangman} with {@link GameOutput#NONE} and its own strategy.  Word
+ * {@code i} is always played with randomness seeded from the run's seed and {@code i}, so the
+ * results for a seed are the same however the work is split.
+ * <br>
+ * Run it with {@code java GameSimulator [wordFile] [gamesPerWord] [seed]}.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+public class GameSimulator {
+
+  /**
+   * Ranges with fewer words than this are played without splitting further.
+   */
+  private static final int WORDS_PER_TASK = 256;
+  /**
+   * A game that has not ended after this many moves is exited and counted as a loss.  This stops
+   * a strategy that keeps repeating a letter from running forever.
+   */
+  private static final int MAX_MOVES = 64;
+
+  /**
+   * The dictionary, shared by every worker.
+   */
+  private final WordStore words;
+  /**
+   * Creates one strategy per task.
+   */
+  private final Supplier<GuessStrategy> strategies;
+  /**
+   * Runs the tasks.
+   */
+  private final ForkJoinPool pool;
+
+  /**
+   * Creates a simulator that uses the common fork/join pool.
+   *
+   * @param words the dictionary.  It is frozen so the workers can share it.
+   * @param strategies creates the strategy for each task.
+   */
+  public GameSimulator(WordStore words, Supplier<GuessStrategy> strategies) {
+    this(words, strategies, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Creates a simulator.
+   *
+   * @param words the dictionary.  It is frozen so the workers can share it.
+   * @param strategies creates the strategy for each task.
+   * @param pool runs the games.
+   */
+  public GameSimulator(WordStore words, Supplier<GuessStrategy> strategies, ForkJoinPool pool) {
+    this.words = words.freeze();
+    this.strategies = strategies;
+    this.pool = pool;
+  }
+
+  /**
+   * Plays {@code gamesPerWord} games on every word.
+   *
+   * @param gamesPerWord how many times to play each word.
+   * @param seed the seed for every game's randomness.
+   * @return the totals over every game.
+   */
+  public Result run(int gamesPerWord, long seed) {
+    return pool.invoke(new Games(0, words.size(), gamesPerWord, seed));
+  }
+
+  /**
+   * Plays every game for the words in a range.
+   *
+   * @param from the first word.
+   * @param to one past the last word.
+   * @param gamesPerWord how many times to play each word.
+   * @param seed the seed for the run.
+   * @return the totals for the range.
+   */
+  private Result play(int from, int to, int gamesPerWord, long seed) {
+    Hangman game = new Hangman(false, words, GameOutput.NONE);
+    GuessStrategy strategy = strategies.get();
+    Result result = new Result();
+    for (int index = from; index < to; index++) {
+      SplittableRandom random = RandomSource.stream(seed, index);
+      for (int g = 0; g < gamesPerWord; g++) {
+        game.chooseWord(index);
+        strategy.newGame(game);
+        // score carries over between games, so only count what this game adds to it
+        int carried = game.getScore() - game.getRemainingGuesses();
+        int hints = game.getNumberOfHints();
+        for (int moves = 0; !game.isGameOver(); moves++) {
+          if (moves == MAX_MOVES) {
+            game.exit();
+            break;
+          }
+          if (game.getNumberOfHints() > 0 && strategy.wantsHint(game)) {
+            game.getHint();
+          } else {
+            game.makeGuess(strategy.nextGuess(game, random));
+          }
+        }
+        result.games++;
+        result.wins += game.hasWon() ? 1 : 0;
+        result.totalScore += game.getScore() - carried;
+        result.hintsUsed += hints - game.getNumberOfHints();
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Runs a simulation from the command line and prints the result and the games per second.
+   *
+   * @param args optionally a word file, the number of games per word and a seed.  Without a word
+   *     file, 100,000 random words are used.
+   * @throws IOException if the word file cannot be read.
+   */
+  public static void main(String[] args) throws IOException {
+    WordStore words;
+    if (args.length > 0) {
+      words = new WordStore();
+      new WordIngester(words).ingest(Path.of(args[0]));
+    } else {
+      words = RandomWords.of(100_000);
+    }
+    int gamesPerWord = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+    long seed = args.length > 2 ? Long.parseLong(args[2]) : 338;
+
+    GameSimulator simulator = new GameSimulator(words, GuessStrategy::frequency);
+    simulator.run(1, seed); // warm up
+    long start = System.nanoTime();
+    Result result = simulator.run(gamesPerWord, seed);
+    double seconds = (System.nanoTime() - start) / 1e9;
+    System.out.println(result);
+    System.out.printf(Locale.ROOT, "%,.0f games/s on %d threads%n", result.games / seconds,
+        simulator.pool.getParallelism());
+  }
+
+  /**
+   * Splits a range of words in half until it is small enough to play.
+   */
+  private final class Games extends RecursiveTask<Result> {
+
+    private static final long serialVersionUID = 1L;
+    /**
+     * The first word.
+     */
+    private final int from;
+    /**
+     * One past the last word.
+     */
+    private final int to;
+    /**
+     * How many times to play each word.
+     */
+    private final int gamesPerWord;
+    /**
+     * The seed for the run.
+     */
+    private final long seed;
+
+    /**
+     * Creates a task for a range of words.
+     *
+     * @param from the first word.
+     * @param to one past the last word.
+     * @param gamesPerWord how many times to play each word.
+     * @param seed the seed for the run.
+     */
+    Games(int from, int to, int gamesPerWord, long seed) {
+      this.from = from;
+      this.to = to;
+      this.gamesPerWord = gamesPerWord;
+      this.seed = seed;
+    }
+
+    @Override
+    protected Result compute() {
+      if (to - from <= WORDS_PER_TASK) {
+        return play(from, to, gamesPerWord, seed);
+      }
+      int mid = (from + to) >>> 1;
+      Games left = new Games(from, mid, gamesPerWord, seed);
+      left.fork();
+      Result right = new Games(mid, to, gamesPerWord, seed).compute();
+      return right.add(left.join());
+    }
+  }
+
+  /**
+   * Totals over a set of games.
+   */
+  public static final class Result {
+
+    /**
+     * The number of games played.
+     */
+    private long games;
+    /**
+     * The number of games won.
+     */
+    private long wins;
+    /**
+     * The sum of {@link Hangman#getScore()} at the end of each game.
+     */
+    private long totalScore;
+    /**
+     * The number of hints taken.
+     */
+    private long hintsUsed;
+
+    /**
+     * Adds another result to this one.
+     *
+     * @param other the result to add.
+     * @return this result.
+     */
+    private Result add(Result other) {
+      games += other.games;
+      wins += other.wins;
+      totalScore += other.totalScore;
+      hintsUsed += other.hintsUsed;
+      return this;
+    }
+
+    /**
+     * standard getter
+     *
+     * @return the number of games played.
+     */
+    public long getGames() {
+      return games;
+    }
+
+    /**
+     * standard getter
+     *
+     * @return the number of games won.
+     */
+    public long getWins() {
+      return wins;
+    }
+
+    /**
+     * standard getter
+     *
+     * @return the number of hints taken.
+     */
+    public long getHintsUsed() {
+      return hintsUsed;
+    }
+
+    /**
+     * Used to compare strategies.
+     *
+     * @return the fraction of games won, from 0 to 1.
+     */
+    public double getWinRate() {
+      return games == 0 ? 0 : (double) wins / games;
+    }
+
+    /**
+     * Used to compare strategies.
+     *
+     * @return the average score per game.
+     */
+    public double getAverageScore() {
+      return games == 0 ? 0 : (double) totalScore / games;
+    }
+
+    /**
+     * Used to compare strategies.
+     *
+     * @return the average number of hints per game.
+     */
+    public double getAverageHints() {
+      return games == 0 ? 0 : (double) hintsUsed / games;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Result)) {
+        return false;
+      }
+      Result other = (Result) o;
+      return games == other.games && wins == other.wins && totalScore == other.totalScore
+          && hintsUsed == other.hintsUsed;
+    }
+
+    @Override
+    public int hashCode() {
+      return Long.hashCode(games) * 31 * 31 * 31 + Long.hashCode(wins) * 31 * 31
+          + Long.hashCode(totalScore) * 31 + Long.hashCode(hintsUsed);
+    }
+
+    @Override
+    public String toString() {
+      return String.format(Locale.ROOT,
+          "%,d games, win rate %.4f, average score %.3f, average hints %.3f",
+          games, getWinRate(), getAverageScore(), getAverageHints());
+    }
+  }
+}
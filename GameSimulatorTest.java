@@ -0,0 +1,44 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link GameSimulator}.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+class GameSimulatorTest {
+
+  /**
+   * The same seed gives the same result, whatever the number of threads.
+   */
+  @Test
+  void seedIsReproducible() {
+    WordStore words = RandomWords.of(2_000);
+    GameSimulator.Result one = new GameSimulator(words, GuessStrategy::random,
+        new ForkJoinPool(1)).run(3, 42);
+    GameSimulator.Result many = new GameSimulator(words, GuessStrategy::random,
+        new ForkJoinPool(4)).run(3, 42);
+    assertEquals(6_000, one.getGames());
+    assertEquals(one, many);
+  }
+
+  /**
+   * Every game of the frequency strategy on a single word plays out the same way.
+   */
+  @Test
+  void frequencyOnOneWord() {
+    WordStore words = new WordStore();
+    words.append("TEA");
+    GameSimulator.Result result = new GameSimulator(words, GuessStrategy::frequency).run(10, 1);
+    assertEquals(10, result.getGames());
+    assertEquals(1.0, result.getWinRate());
+    // T, E and A are the first three guesses, so every game is won with both guesses left
+    assertEquals(3 + 2, result.getAverageScore());
+    assertEquals(0, result.getHintsUsed());
+    assertTrue(result.toString().contains("10 games"));
+  }
+}
@@ -0,0 +1,379 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Saves a game in progress in a few dozen bytes, and puts it back exactly.
+ * <br>
+ * A snapshot holds the game by its word's index in the dictionary rather than the word, and the
+ * guesses as one byte each rather than the board.  Everything else about the board follows from
+ * those.  It is, in order:
+ * <ol>
+ *   <li>the word index, 4 bytes.</li>
+ *   <li>the score from correct letters over every game so far, 4 bytes.</li>
+ *   <li>the remaining guesses and remaining hints, 2 bytes each.</li>
+ *   <li>the number of guesses, 1 byte.</li>
+ *   <li>each guess in the order it was made: 0 for 'A' to 25 for 'Z', or {@code 0xFF} followed
+ *   by the 2 byte character for anything else.</li>
+ * </ol>
+ * The order of the guesses is kept, rather than just which letters were guessed, since
+ * {@link Hangman#getGuessedLetters()} shows them in that order.  A game with twelve guesses is 25
+ * bytes.
+ * <br>
+ * A snapshot only makes sense with the dictionary it was taken with.  Files written by
+ * {@link Writer} start with the dictionary's size and {@link WordStore#checksum()}, and are refused
+ * by a {@link Reader} over any other dictionary, even one of the same size.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+public final class GameSnapshot {
+
+  /**
+   * The most guesses a snapshot can hold.  A game can only get past 26 by guessing characters
+   * that are not letters.
+   */
+  public static final int MAX_GUESSES = 255;
+  /**
+   * The most bytes one snapshot can take.
+   */
+  public static final int MAX_BYTES = 13 + 3 * MAX_GUESSES;
+  /**
+   * The first bytes of a snapshot file, "HMSS".
+   */
+  private static final int MAGIC = 0x484D5353;
+  /**
+   * The version of the file format.
+   */
+  private static final int VERSION = 2;
+  /**
+   * Bytes before the first record: magic, version, dictionary size, record count and dictionary
+   * checksum.
+   */
+  private static final int HEADER = 20;
+  /**
+   * Where the record count is in the header.
+   */
+  private static final int COUNT_OFFSET = 12;
+  /**
+   * Marks a guess that is not 'A' to 'Z'.
+   */
+  private static final byte ESCAPE = (byte) 0xFF;
+  /**
+   * The size of the buffers used for files.
+   */
+  private static final int BUFFER_SIZE = 1 << 20;
+
+  /**
+   * Only static methods and the file classes.
+   */
+  private GameSnapshot() {
+  }
+
+  /**
+   * Saves a game.
+   *
+   * @param game a game that has chosen a word.
+   * @param out where the snapshot is written, at its position.
+   * @return the number of bytes written.
+   * @throws IllegalStateException if no word has been chosen, or the game has more than
+   *     {@link GameSnapshot#MAX_GUESSES} guesses.
+   * @throws BufferOverflowException if {@code out} runs out of room.
+   */
+  public static int write(Hangman game, ByteBuffer out) {
+    int index = game.getWordIndex();
+    if (index < 0) {
+      throw new IllegalStateException("No word has been chosen");
+    }
+    int guesses = game.getGuessCount();
+    if (guesses > MAX_GUESSES) {
+      throw new IllegalStateException("Too many guesses to save: " + guesses);
+    }
+    int start = out.position();
+    out.putInt(index)
+        .putInt(game.getScore() - game.getRemainingGuesses())
+        .putShort((short) game.getRemainingGuesses())
+        .putShort((short) game.getNumberOfHints())
+        .put((byte) guesses);
+    for (int i = 0; i < guesses; i++) {
+      char letter = game.getGuess(i);
+      if (letter >= 'A' && letter <= 'Z') {
+        out.put((byte) (letter - 'A'));
+      } else {
+        out.put(ESCAPE).putChar(letter);
+      }
+    }
+    return out.position() - start;
+  }
+
+  /**
+   * Puts a saved game back.  Nothing is printed or counted in the game's metrics.
+   *
+   * @param in where the snapshot is read, at its position.
+   * @param game the game to overwrite.  It must have the same dictionary the snapshot was taken
+   *     with.  Its record of used words is left alone.
+   * @param scratch room for at least {@link GameSnapshot#MAX_GUESSES} guesses, so that reading
+   *     many snapshots allocates only what the game itself needs.
+   */
+  public static void read(ByteBuffer in, Hangman game, char[] scratch) {
+    int index = in.getInt();
+    int score = in.getInt();
+    int remainingGuesses = in.getShort();
+    int numberOfHints = in.getShort();
+    int guesses = in.get() & 0xFF;
+    for (int i = 0; i < guesses; i++) {
+      byte code = in.get();
+      scratch[i] = code == ESCAPE ? in.getChar() : (char) ('A' + code);
+    }
+    game.restore(index, scratch, guesses, score, remainingGuesses, numberOfHints);
+  }
+
+  /**
+   * Same as {@link GameSnapshot#read(ByteBuffer, Hangman, char[])}, with its own scratch space.
+   *
+   * @param in where the snapshot is read, at its position.
+   * @param game the game to overwrite.
+   */
+  public static void read(ByteBuffer in, Hangman game) {
+    read(in, game, new char[MAX_GUESSES]);
+  }
+
+  /**
+   * Streams many snapshots to a file, each with a session id.  Records are buffered and written
+   * in large blocks.  The record count is written to the header by {@link Writer#close()}, so a
+   * file that was not closed is refused when it is read.
+   */
+  public static final class Writer implements Closeable {
+
+    /**
+     * The file.
+     */
+    private final FileChannel channel;
+    /**
+     * Records waiting to be written.
+     */
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    /**
+     * The number of records written.
+     */
+    private int count;
+
+    /**
+     * Creates or replaces a snapshot file.
+     *
+     * @param file the file.
+     * @param words the dictionary every game uses.
+     * @throws IOException if the file cannot be written.
+     */
+    public Writer(Path file, WordStore words) throws IOException {
+      channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+          StandardOpenOption.TRUNCATE_EXISTING);
+      buffer.putInt(MAGIC).putInt(VERSION).putInt(words.size()).putInt(0)
+          .putInt(words.checksum());
+    }
+
+    /**
+     * Adds a game.
+     *
+     * @param id the session the game belongs to.
+     * @param game a game that has chosen a word.
+     * @throws IOException if the file cannot be written.
+     * @throws IllegalStateException if the game cannot be saved.  Nothing is written for it.
+     */
+    public void write(long id, Hangman game) throws IOException {
+      if (buffer.remaining() < Long.BYTES + MAX_BYTES) {
+        drain();
+      }
+      int start = buffer.position();
+      try {
+        buffer.putLong(id);
+        GameSnapshot.write(game, buffer);
+      } catch (IllegalStateException e) {
+        buffer.position(start);
+        throw e;
+      }
+      count++;
+    }
+
+    /**
+     * standard getter
+     *
+     * @return the number of games written.
+     */
+    public int getCount() {
+      return count;
+    }
+
+    /**
+     * Writes what is buffered, then the record count, and closes the file.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    @Override
+    public void close() throws IOException {
+      try (channel) {
+        drain();
+        channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, count), COUNT_OFFSET);
+      }
+    }
+
+    /**
+     * Writes the buffer to the file and empties it.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    private void drain() throws IOException {
+      buffer.flip();
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      buffer.clear();
+    }
+  }
+
+  /**
+   * Reads back a file written by {@link Writer}, one game at a time.
+   */
+  public static final class Reader implements Closeable {
+
+    /**
+     * The file.
+     */
+    private final FileChannel channel;
+    /**
+     * Bytes read from the file and not yet decoded.
+     */
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    /**
+     * Room for the guesses of one game.
+     */
+    private final char[] scratch = new char[MAX_GUESSES];
+    /**
+     * The number of records in the file.
+     */
+    private final int count;
+    /**
+     * The number of records read.
+     */
+    private int read;
+
+    /**
+     * Opens a snapshot file.
+     *
+     * @param file the file.
+     * @param words the dictionary the games were saved with.
+     * @throws IOException if the file cannot be read, is not a snapshot file, or was saved with a
+     *     different dictionary.
+     */
+    public Reader(Path file, WordStore words) throws IOException {
+      channel = FileChannel.open(file, StandardOpenOption.READ);
+      try {
+        buffer.limit(0);
+        fill(HEADER);
+        if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+          throw new IOException(file + " is not a snapshot file");
+        }
+        int wordCount = buffer.getInt();
+        if (wordCount != words.size()) {
+          throw new IOException(file + " was saved with " + wordCount + " words, not "
+              + words.size());
+        }
+        count = buffer.getInt();
+        if (buffer.getInt() != words.checksum()) {
+          throw new IOException(file + " was saved with a different dictionary of "
+              + wordCount + " words");
+        }
+      } catch (IOException e) {
+        channel.close();
+        throw e;
+      }
+    }
+
+    /**
+     * standard getter
+     *
+     * @return the number of games in the file.
+     */
+    public int getCount() {
+      return count;
+    }
+
+    /**
+     * Checks whether there is another game to read.
+     *
+     * @return {@code true} if {@link Reader#next(Hangman)} will return a game.
+     */
+    public boolean hasNext() {
+      return read < count;
+    }
+
+    /**
+     * Looks at the session id of the next game without reading it, so the caller can set up the
+     * game for that session first.
+     *
+     * @return the session id the next game was saved with.
+     * @throws IOException if the file is cut short or there are no more games.
+     */
+    public long peekId() throws IOException {
+      if (!hasNext()) {
+        throw new IOException("No more games");
+      }
+      fill(Long.BYTES + MAX_BYTES);
+      if (buffer.remaining() < Long.BYTES) {
+        throw new IOException("The file ends after " + read + " of " + count + " games");
+      }
+      return buffer.getLong(buffer.position());
+    }
+
+    /**
+     * Reads the next game.
+     *
+     * @param game the game to overwrite.
+     * @return the session id the game was saved with.
+     * @throws IOException if the file is cut short or there are no more games.
+     */
+    public long next(Hangman game) throws IOException {
+      if (!hasNext()) {
+        throw new IOException("No more games");
+      }
+      fill(Long.BYTES + MAX_BYTES);
+      try {
+        long id = buffer.getLong();
+        GameSnapshot.read(buffer, game, scratch);
+        read++;
+        return id;
+      } catch (BufferUnderflowException e) {
+        throw new IOException("The file ends after " + read + " of " + count + " games", e);
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      channel.close();
+    }
+
+    /**
+     * Reads from the file until at least {@code bytes} are buffered or the file ends.
+     *
+     * @param bytes the number of bytes wanted.
+     * @throws IOException if the file cannot be read.
+     */
+    private void fill(int bytes) throws IOException {
+      if (buffer.remaining() >= bytes) {
+        return;
+      }
+      buffer.compact();
+      while (buffer.position() < bytes) {
+        if (channel.read(buffer) < 0) {
+          break;
+        }
+      }
+      buffer.flip();
+    }
+  }
+}
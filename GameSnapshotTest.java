@@ -0,0 +1,127 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link GameSnapshot} and {@link SessionManager#checkpoint(Path)}.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+class GameSnapshotTest {
+
+  /**
+   * A restored game looks the same as the original and plays on the same way, at every point in
+   * many games.
+   */
+  @Test
+  void restoresExactly() {
+    WordStore words = RandomWords.of(500);
+    Hangman game = new Hangman(false, words, GameOutput.NONE);
+    Hangman copy = new Hangman(false, words, GameOutput.NONE);
+    ByteBuffer buffer = ByteBuffer.allocate(GameSnapshot.MAX_BYTES);
+    SplittableRandom random = new SplittableRandom(8);
+    for (int i = 0; i < 500; i++) {
+      game.chooseWord(random.nextInt(words.size()));
+      while (!game.isGameOver()) {
+        int move = random.nextInt(20);
+        if (move == 0) {
+          game.getHint();
+        } else if (move == 1) {
+          game.makeGuess('#');
+        } else if (move == 2 && i % 10 == 0) {
+          game.exit();
+        } else {
+          game.makeGuess((char) ('A' + random.nextInt(26)));
+        }
+        buffer.clear();
+        int size = GameSnapshot.write(game, buffer);
+        assertEquals(size, buffer.position());
+        buffer.flip();
+        GameSnapshot.read(buffer, copy);
+        assertEquals(size, buffer.position());
+        assertSameGame(game, copy);
+      }
+    }
+    copy.makeGuess('E');
+    game.makeGuess('E');
+    assertSameGame(game, copy);
+  }
+
+  /**
+   * Twelve letter guesses take 25 bytes.
+   */
+  @Test
+  void compact() {
+    WordStore words = new WordStore();
+    words.append("ABCDEFGHIJKLMNOPQRSTUVWXYZ");
+    Hangman game = new Hangman(false, words, GameOutput.NONE);
+    game.chooseWord(0);
+    game.makeGuesses("ETAOINSHRDLU");
+    assertEquals(25, GameSnapshot.write(game, ByteBuffer.allocate(GameSnapshot.MAX_BYTES)));
+    assertThrows(IllegalStateException.class, () -> GameSnapshot.write(
+        new Hangman(false, words, GameOutput.NONE), ByteBuffer.allocate(GameSnapshot.MAX_BYTES)));
+  }
+
+  /**
+   * Every session comes back from a checkpoint with its id and game, and new sessions do not
+   * reuse the ids.  Files from other dictionaries, and cut short files, are refused.
+   *
+   * @param dir a temporary directory.
+   * @throws IOException if the file cannot be written.
+   */
+  @Test
+  void checkpointSessions(@TempDir Path dir) throws IOException {
+    WordStore words = RandomWords.of(1_000);
+    SessionManager manager = new SessionManager(words);
+    long[] ids = new long[3_000];
+    for (int i = 0; i < ids.length; i++) {
+      ids[i] = manager.open();
+      for (int j = 0; j < i % 7; j++) {
+        manager.guess(ids[i], GuessStrategy.FREQUENCY_ORDER.charAt(j));
+      }
+    }
+    Path file = dir.resolve("sessions.snap");
+    assertEquals(ids.length, manager.checkpoint(file));
+
+    SessionManager restored = new SessionManager(words);
+    assertEquals(ids.length, restored.restore(file));
+    for (long id : ids) {
+      assertEquals(manager.state(id), restored.state(id));
+    }
+    assertEquals(ids.length + 1, restored.open());
+
+    assertThrows(IOException.class,
+        () -> new SessionManager(RandomWords.of(999)).restore(file));
+    assertThrows(IOException.class,
+        () -> new SessionManager(RandomWords.of(1_000, 4, 12)).restore(file));
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+      channel.truncate(Files.size(file) - 5);
+    }
+    assertThrows(IOException.class, () -> new SessionManager(words).restore(file));
+  }
+
+  /**
+   * Checks that two games look the same from outside.
+   *
+   * @param expected the original game.
+   * @param actual the restored game.
+   */
+  private static void assertSameGame(Hangman expected, Hangman actual) {
+    assertEquals(expected.displayGameState(), actual.displayGameState());
+    assertEquals(expected.getSecretWord(), actual.getSecretWord());
+    assertEquals(expected.getWordIndex(), actual.getWordIndex());
+    assertEquals(expected.getScore(), actual.getScore());
+    assertEquals(expected.hasWon(), actual.hasWon());
+    assertEquals(expected.hasLost(), actual.hasLost());
+  }
+}
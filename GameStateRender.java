@@ -0,0 +1,195 @@
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The text a {@link Hangman} shows for its state, kept between calls.
+ * <br>
+ * The game numbers its states, adding one whenever a word is chosen, a guess changes the board
+ * or the guesses left, a hint is used or the game is exited.  Each text here remembers the state
+ * it was built for and is only built again, once, when asked for after a change.  So a caller that
+ * polls a game that is not changing gets the same String or buffer back every time, with nothing
+ * allocated.
+ * <br>
+ * Used by one game, so not thread safe.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+final class GameStateRender {
+
+  /**
+   * Builds each text.
+   */
+  private final StringBuilder text = new StringBuilder(96);
+  /**
+   * What {@link Hangman#displayGameState()} returns.
+   */
+  private String state;
+  /**
+   * The state {@link GameStateRender#state} was built for.
+   */
+  private int stateVersion = -1;
+  /**
+   * What {@link Hangman#getGuessedWordString()} returns.
+   */
+  private String word;
+  /**
+   * The state {@link GameStateRender#word} was built for.
+   */
+  private int wordVersion = -1;
+  /**
+   * What {@link Hangman#getGuessedLetters()} returns.
+   */
+  private String letters;
+  /**
+   * The state {@link GameStateRender#letters} was built for.
+   */
+  private int lettersVersion = -1;
+  /**
+   * {@link GameStateRender#state} in UTF-8.  Reused until it is too small.
+   */
+  private byte[] bytes = new byte[96];
+  /**
+   * A read only view of {@link GameStateRender#bytes}, handed out by
+   * {@link GameStateRender#stateBytes(int, CharSequence, int, int, char[], int)}.
+   */
+  private ByteBuffer bytesView = ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+  /**
+   * The number of bytes used in {@link GameStateRender#bytes}.
+   */
+  private int byteCount;
+  /**
+   * The state {@link GameStateRender#bytes} was built for.
+   */
+  private int bytesVersion = -1;
+
+  /**
+   * Gets the text of the whole state, as described in {@link Hangman#displayGameState()}.
+   *
+   * @param version the game's state number.
+   * @param board the board, with a placeholder for each letter not yet found.
+   * @param remaining the guesses left.
+   * @param hints the hints left.
+   * @param guessed the characters guessed, in order.
+   * @param count the number of entries in {@code guessed}.
+   * @return the text, built again only if the state number changed.
+   */
+  String state(int version, CharSequence board, int remaining, int hints, char[] guessed,
+      int count) {
+    if (stateVersion != version) {
+      text.setLength(0);
+      text.append("Guessed Word: ").append(board)
+          .append("\nRemaining Guesses: ").append(remaining)
+          .append("\nRemaining hints: ").append(hints)
+          .append("\nGuessed Letters: ");
+      appendLetters(guessed, count);
+      state = text.toString();
+      stateVersion = version;
+    }
+    return state;
+  }
+
+  /**
+   * Gets the board.
+   *
+   * @param version the game's state number.
+   * @param board the board.
+   * @return the board as a String, copied again only if the state number changed.
+   */
+  String word(int version, CharSequence board) {
+    if (wordVersion != version) {
+      word = board.toString();
+      wordVersion = version;
+    }
+    return word;
+  }
+
+  /**
+   * Gets the characters guessed, as described in {@link Hangman#getGuessedLetters()}.
+   *
+   * @param version the game's state number.
+   * @param guessed the characters guessed, in order.
+   * @param count the number of entries in {@code guessed}.
+   * @return the text, built again only if the state number changed.
+   */
+  String letters(int version, char[] guessed, int count) {
+    if (lettersVersion != version) {
+      text.setLength(0);
+      appendLetters(guessed, count);
+      letters = text.toString();
+      lettersVersion = version;
+    }
+    return letters;
+  }
+
+  /**
+   * Gets the text of the whole state in UTF-8, ready to write to a channel.
+   *
+   * @param version the game's state number.
+   * @param board the board.
+   * @param remaining the guesses left.
+   * @param hints the hints left.
+   * @param guessed the characters guessed, in order.
+   * @param count the number of entries in {@code guessed}.
+   * @return a read only buffer from the first byte to the last.  The same buffer is returned, and
+   *     rewound, by every call, so it is only good until the next one.
+   */
+  ByteBuffer stateBytes(int version, CharSequence board, int remaining, int hints,
+      char[] guessed, int count) {
+    if (bytesVersion != version) {
+      String shown = state(version, board, remaining, hints, guessed, count);
+      byteCount = 0;
+      for (int i = 0; i < shown.length(); i++) {
+        char c = shown.charAt(i);
+        if (c >= 0x80) {
+          byteCount = -1;
+          break;
+        }
+        if (byteCount == bytes.length) {
+          growBytes(bytes.length * 2);
+        }
+        bytes[byteCount++] = (byte) c;
+      }
+      if (byteCount < 0) {
+        byte[] encoded = shown.getBytes(StandardCharsets.UTF_8);
+        growBytes(encoded.length);
+        System.arraycopy(encoded, 0, bytes, 0, encoded.length);
+        byteCount = encoded.length;
+      }
+      bytesVersion = version;
+    }
+    bytesView.limit(byteCount).position(0);
+    return bytesView;
+  }
+
+  /**
+   * Appends the characters guessed to {@link GameStateRender#text} as {@code [A, B, C]}.
+   *
+   * @param guessed the characters guessed, in order.
+   * @param count the number of entries in {@code guessed}.
+   */
+  private void appendLetters(char[] guessed, int count) {
+    text.append('[');
+    for (int i = 0; i < count; i++) {
+      if (i > 0) {
+        text.append(", ");
+      }
+      text.append(guessed[i]);
+    }
+    text.append(']');
+  }
+
+  /**
+   * Makes {@link GameStateRender#bytes} at least a given size, keeping what is in it.
+   *
+   * @param size the bytes needed.
+   */
+  private void growBytes(int size) {
+    if (size > bytes.length) {
+      byte[] grown = new byte[Math.max(size, bytes.length * 2)];
+      System.arraycopy(bytes, 0, grown, 0, bytes.length);
+      bytes = grown;
+      bytesView = ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+    }
+  }
+}
@@ -0,0 +1,96 @@
+import java.util.SplittableRandom;
+
+/**
+ * A way of playing Hangman without a person, used by {@link GameSimulator}.
+ * <br>
+ * The simulator asks the strategy whether it wants a hint and, if not, which letter to guess,
+ * until the game is over.  A strategy may keep state between moves; the simulator gives each
+ * worker thread its own instance and calls {@link GuessStrategy#newGame(Hangman)} before every
+ * game.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+public interface GuessStrategy {
+
+  /**
+   * Letters from most to least common in English words.
+   */
+  String FREQUENCY_ORDER = "ETAOINSHRDLUCMFWYPVBGKJQXZ";
+
+  /**
+   * Called when a game starts.
+   *
+   * @param game the game about to be played.
+   */
+  default void newGame(Hangman game) {
+  }
+
+  /**
+   * Picks the next letter to guess.
+   *
+   * @param game the game being played.
+   * @param random this game's source of randomness.  Using only this keeps results reproducible.
+   * @return the letter to guess.
+   */
+  char nextGuess(Hangman game, SplittableRandom random);
+
+  /**
+   * Decides whether to spend a hint instead of guessing.  Only asked while hints are left.
+   *
+   * @param game the game being played.
+   * @return {@code true} to call {@link Hangman#getHint()}.
+   */
+  default boolean wantsHint(Hangman game) {
+    return false;
+  }
+
+  /**
+   * Guesses letters from most to least common in English, and takes a hint when one wrong guess
+   * would lose the game.
+   *
+   * @return a new strategy.
+   */
+  static GuessStrategy frequency() {
+    return new GuessStrategy() {
+      @Override
+      public char nextGuess(Hangman game, SplittableRandom random) {
+        for (int i = 0; i < FREQUENCY_ORDER.length(); i++) {
+          char letter = FREQUENCY_ORDER.charAt(i);
+          if (!game.hasGuessed(letter)) {
+            return letter;
+          }
+        }
+        return 'A';
+      }
+
+      @Override
+      public boolean wantsHint(Hangman game) {
+        return game.getRemainingGuesses() == 1;
+      }
+    };
+  }
+
+  /**
+   * Guesses letters that have not been guessed yet, at random, and never takes a hint.
+   *
+   * @return a new strategy.
+   */
+  static GuessStrategy random() {
+    return (game, random) -> {
+      int left = 0;
+      for (char letter = 'A'; letter <= 'Z'; letter++) {
+        if (!game.hasGuessed(letter)) {
+          left++;
+        }
+      }
+      int pick = left == 0 ? 0 : random.nextInt(left);
+      for (char letter = 'A'; letter <= 'Z'; letter++) {
+        if (!game.hasGuessed(letter) && pick-- == 0) {
+          return letter;
+        }
+      }
+      return 'A';
+    };
+  }
+}
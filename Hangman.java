@@ -1,9 +1,14 @@
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.util.ArrayList;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Random;
 import java.util.Scanner;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 
 /**
@@ -11,22 +16,42 @@ import java.util.Scanner;
  *<br>
  * This object represents a game of Hangman.
  * <br>
- * It requires GameLoader.java to run.
+ * It requires GameLoader.java to run, which finds it through {@link HangmanProvider}.
  * <br>
  *  @author Drew "Dr.C" Clinkenbeard And Ryan Riggs
  *  @since 3 - Sep - 2025
  */
 
-public class Hangman {
+public class Hangman implements Game {
 
   /**
    * The String used to represent a letter before it has been guessed.
    */
   private static final String PLACEHOLDER = "_";
+  /**
+   * The number of letters from 'A' to 'Z'.  These letters take the fast path through the guess state.
+   */
+  private static final int ALPHABET = 26;
+  /**
+   * A result from {@link Hangman#makeGuesses(CharSequence)}: the letter was not in the word and cost a guess.
+   */
+  public static final byte GUESS_MISS = 0;
+  /**
+   * A result from {@link Hangman#makeGuesses(CharSequence)}: the letter was in the word.
+   */
+  public static final byte GUESS_HIT = 1;
+  /**
+   * A result from {@link Hangman#makeGuesses(CharSequence)}: the letter had already been guessed and nothing changed.
+   */
+  public static final byte GUESS_REPEAT = 2;
   /**
    * this is the word the user is trying to guess
    */
   private String secretWord;
+  /**
+   * The position of secretWord in {@link Hangman#allWords}, or -1 before the first word is chosen.
+   */
+  private int wordIndex = -1;
 
   /**<ul>
    *    <li> the placeholder for the word that is being guessed.  This will initially be populated with the
@@ -58,32 +83,157 @@ public class Hangman {
   /**
    * The structure used to keep track of, and display, all the letters that have been guessed.  This tracks the correct AND incorrect guesses.
    *  * Note that this is NOT the same as the StringBuilder guessedWord.
+   * <br>
+   * The letters are kept in the order they were guessed.  Only the first {@link Hangman#guessedLetterCount} are used.
+   */
+  private char[] guessedLetters = new char[ALPHABET];
+  /**
+   * The number of letters in {@link Hangman#guessedLetters}.
+   */
+  private int guessedLetterCount;
+  /**
+   * Bit {@code letter - 'A'} is set once {@code letter} has been guessed.  This answers "has 'A' to 'Z' been guessed?"
+   * without searching {@link Hangman#guessedLetters}.
+   */
+  private int guessedMask;
+  /**
+   * Where each letter from 'A' to 'Z' appears in secretWord.  The positions of {@code letter} are
+   * {@code letterPositions[letterStarts[letter - 'A']]} up to {@code letterPositions[letterStarts[letter - 'A' + 1]]}.
+   * Built once by {@link Hangman#chooseWord()}.
+   */
+  private final int[] letterStarts = new int[ALPHABET + 1];
+  /**
+   * The positions in secretWord, grouped by letter.  See {@link Hangman#letterStarts}.
+   */
+  private int[] letterPositions = new int[16];
+  /**
+   * The number of characters in guessedWord that are still {@link Hangman#PLACEHOLDER}.
+   */
+  private int hiddenCount;
+  /**
+   * The letters of secretWord, as 0 for 'A' to 25 for 'Z', in the order {@link Hangman#getHint()} reveals them.
+   * Ranked by {@link Hangman#hintPolicy} when the word is chosen.
    */
-  private List<Character> guessedLetters;
+  private final byte[] hintOrder = new byte[ALPHABET];
   /**
-   * The words that may be selected for secretWord
+   * The score of each letter in {@link Hangman#hintOrder}, only needed while ranking.
    */
-  private final List<String> allWords = new ArrayList<>();
+  private final int[] hintScores = new int[ALPHABET];
   /**
-   * The words that have been select for secretWord
+   * The number of different letters in secretWord, the used part of {@link Hangman#hintOrder}.
    */
-  private final List<String> guessedWords = new ArrayList<>();
+  private int hintLetters;
+  /**
+   * Every letter in {@link Hangman#hintOrder} before this has been guessed.  Lets {@link Hangman#getHint()} skip them.
+   */
+  private int hintPosition;
+  /**
+   * Ranks the letters of each secretWord for hints.
+   */
+  private HintPolicy hintPolicy = HintPolicy.MOST_POSITIONS;
+  /**
+   * The words that may be selected for secretWord.  Words are only decoded when they are selected.
+   */
+  private final WordStore allWords;
+  /**
+   * The indices of the words in allWords that have not been selected yet.  This is also the record of which words
+   * have been selected for secretWord, so there is no list of used words that grows with every game.
+   */
+  private final WordPool unusedWords;
   /**
    * Used as a flag to display additional information
    */
   private boolean debug = false;
+  /**
+   * Where messages to the player are printed.  This is {@link System#out} unless the game was given its own output;
+   * {@link GameOutput#NONE} plays with no I/O at all.
+   */
+  private final GameOutput out;
+  /**
+   * Chooses the words.  Each game has its own stream, so games on different threads do not share one, and a game
+   * given a seeded stream chooses the same words every time.
+   */
+  private final RandomGenerator random;
+  /**
+   * The words used in this and earlier runs, or {@code null} if used words are not being saved.
+   */
+  private UsedWords usedWords;
+  /**
+   * How many words in {@link Hangman#unusedWords} were already used in an earlier run.  Each is skipped when it is
+   * drawn.
+   */
+  private int staleWords;
+  /**
+   * The words this game can still choose, by difficulty, or {@code null} if words are chosen from
+   * {@link Hangman#unusedWords} without regard to difficulty.
+   */
+  private DifficultyIndex.Selection byDifficulty;
+  /**
+   * Where words are drawn from: {@link Hangman#unusedWords}, {@link Hangman#byDifficulty} or a pool shared with
+   * other games.
+   */
+  private WordSelector selector;
+  /**
+   * The number of words this game has drawn.
+   */
+  private int wordsDrawn;
+  /**
+   * Checks and dedupes the words read by {@link Hangman#readFile(String)}.  Created by the first call.
+   */
+  private WordIngester ingester;
+  /**
+   * What happened to the lines of the last file read, or {@code null} if no file has been read.
+   */
+  private WordIngester.Report loadReport;
+  /**
+   * Counts guesses, hints and results, and times loading and choosing words.  Records nothing unless the game is
+   * given metrics with {@link Hangman#setMetrics(GameMetrics)}.
+   */
+  private GameMetrics metrics = GameMetrics.NONE;
+  /**
+   * This game's counts, added to {@link Hangman#metrics} every {@link GameMetrics#FLUSH_EVERY} games and on
+   * {@link Hangman#exit()}.
+   */
+  private GameMetrics.Recorder recorder = metrics.newRecorder();
+  /**
+   * Where every word chosen, guess, hint and exit is written, so the game can be replayed.  Writes nothing unless the
+   * game is given a log with {@link Hangman#setEventLog(GameEventLog, long)}.
+   */
+  private GameEventLog events = GameEventLog.NONE;
+  /**
+   * Numbers the states of the game.  Goes up by one whenever anything {@link Hangman#displayGameState()} shows
+   * changes, so {@link Hangman#render} knows when its text is out of date.
+   */
+  private int stateVersion;
+  /**
+   * The text of the game's state, kept until the state changes.  Created by the first call that shows the state.
+   */
+  private GameStateRender render;
+  /**
+   * Where every change of state is published for spectators.  Publishes nothing unless the game is given a broadcast
+   * with {@link Hangman#setBroadcast(GameBroadcast)}.
+   */
+  private GameBroadcast broadcast = GameBroadcast.NONE;
+  /**
+   * The {@link Hangman#stateVersion} last published, so a guess that changes nothing is not published.
+   */
+  private int broadcastVersion = -1;
+  /**
+   * The session this game's events are logged under.
+   */
+  private long eventSession;
 
   /**
    * The chooseWord method is one of the main the methods in the Hangman assignment.
-   * This method uses a Random object to select a word from the list of unguessed words.
+   * This method uses the game's random number stream to select a word from the list of unguessed words.
    * <br>
    * @return The word that was chosen.
+   * @throws IllegalStateException if every word has already been selected.
    * <br><br>
-   * A loop is used to ensure that the String selected from the List allWords does not exist in the list guessedWords.\
-   * <br><br>
-   * If the selected word DOES exist in the list guessedWords, a new String is selected.
-   *<br><br>
-   * Once a String that has not been guessed is selected, it is added to the List guessedWords.
+   * The index of the word is drawn from {@link Hangman#unusedWords}, so a word is never selected twice
+   * and each selection takes the same time no matter how many words have been used.  If used words are being saved
+   * (see {@link Hangman#trackUsedWords(String)}), words used in an earlier run are skipped and the chosen word is
+   * recorded.
    * <br>
    * The new String is assigned to the field secretWord.
    * <br><br>
@@ -91,11 +241,12 @@ public class Hangman {
    *<br><br>
    * the field numberOfHints is set to the floor of remainingGuesses divided by 2. Use {@link Math#floorDiv} to make this easier.
    *<br><br>
-   * The field guessedLetters is initialized to a new ArrayList
+   * The field guessedLetters is emptied and the position of every letter in secretWord is indexed, so guesses do not
+   * have to search secretWord.
    * <br><br>
-   * guessedWord is initialized to a new StringBuilder of the same length as the field secretWord.
+   * guessedWord is emptied, and reused so that starting a game does not allocate a new StringBuilder.
    * <br><br>
-   * The character "_" is appended to guessedWord (I'd suggest the {@link String#repeat(int)} method)
+   * The character "_" is appended to guessedWord once for each character in secretWord
    *<br><br>
    * If debug is true, display the selected word.
    *<br><br>
@@ -103,52 +254,257 @@ public class Hangman {
    *
    */
   public String chooseWord() {
-    Random rand = new Random();
-    String word;
-    do {
-        word = allWords.get(rand.nextInt(allWords.size()));
-    } while (guessedWords.contains(word));
+    return chooseDrawnWord(0, DifficultyIndex.LEVELS - 1);
+  }
 
-    guessedWords.add(word);
+  /**
+   * Works like {@link Hangman#chooseWord()}, but only selects words in a range of difficulty.  Each selection takes
+   * the same time however many words are in the range.  Needs {@link Hangman#useDifficultyIndex(DifficultyIndex)}.
+   *
+   * @param minLevel the easiest {@link DifficultyIndex} level to select from.
+   * @param maxLevel the hardest level to select from.
+   * @return The word that was chosen.
+   * @throws IllegalStateException if there is no difficulty index or every word in the range has been selected.
+   * @throws IllegalArgumentException if a level is out of range or minLevel is above maxLevel.
+   */
+  public String chooseWordAtDifficulty(int minLevel, int maxLevel) {
+    if (byDifficulty == null) {
+        throw new IllegalStateException("Words are not indexed by difficulty");
+    }
+    return chooseDrawnWord(minLevel, maxLevel);
+  }
+
+  /**
+   * Draws a word and starts a game on it, timing both for {@link Hangman#metrics} when the choice is sampled.
+   *
+   * @param minLevel the easiest level to select from.  Ignored without a difficulty index.
+   * @param maxLevel the hardest level to select from.  Ignored without a difficulty index.
+   * @return The word that was chosen.
+   */
+  private String chooseDrawnWord(int minLevel, int maxLevel) {
+    long start = recorder.startChoosing();
+    String word = chooseWord(drawWord(minLevel, maxLevel));
+    recorder.chose(start, getCountWordsRemaining());
+    return word;
+  }
+
+  /**
+   * Draws an unused word, skipping words that an earlier run used and recording the one that is chosen.
+   *
+   * @param minLevel the easiest level to select from.  Ignored without a difficulty index.
+   * @param maxLevel the hardest level to select from.  Ignored without a difficulty index.
+   * @return the index of the word.
+   * @throws IllegalStateException if every word has already been selected.
+   */
+  private int drawWord(int minLevel, int maxLevel) {
+    while (true) {
+        int index = byDifficulty == null ? selector.draw(random) : byDifficulty.draw(minLevel, maxLevel, random);
+        if (index < 0) {
+            throw new IllegalStateException("Nothing left to guess!");
+        }
+        wordsDrawn++;
+        if (usedWords == null || usedWords.markUsed(index)) {
+            return index;
+        }
+        staleWords--;
+    }
+  }
+
+  /**
+   * Chooses words through a difficulty index from now on, so {@link Hangman#chooseWordAtDifficulty(int, int)} can be
+   * used.  {@link Hangman#chooseWord()} still selects from every word, and neither repeats a word the other chose.
+   * This must be called before the first word is chosen, and cannot be combined with
+   * {@link Hangman#useSharedPool(SharedWordPool)}.
+   *
+   * @param index an index of {@link Hangman#getAllWords()}.  It may be shared with other games.
+   * @throws IllegalArgumentException if the index is of a different store.
+   * @throws IllegalStateException if a word has already been chosen or the game uses a shared pool.
+   */
+  public void useDifficultyIndex(DifficultyIndex index) {
+    if (index.getWords() != allWords) {
+        throw new IllegalArgumentException("The index is of a different word store");
+    }
+    checkSelectorUnchanged();
+    byDifficulty = index.newSelection();
+    selector = byDifficulty;
+  }
+
+  /**
+   * Draws words from a pool shared with other games from now on, so that no two of them choose the same word.  The
+   * pool is lock free, so games on different threads never wait for each other.  This must be called before the
+   * first word is chosen, and cannot be combined with {@link Hangman#useDifficultyIndex(DifficultyIndex)} or
+   * {@link Hangman#trackUsedWords(String)}.
+   *
+   * @param pool a pool over {@link Hangman#getAllWords()}.
+   * @throws IllegalArgumentException if the pool is of a different store.
+   * @throws IllegalStateException if a word has already been chosen, the game uses a difficulty index or used words
+   *     are tracked.
+   */
+  public void useSharedPool(SharedWordPool pool) {
+    if (pool.getWords() != allWords) {
+        throw new IllegalArgumentException("The pool is of a different word store");
+    }
+    checkSelectorUnchanged();
+    if (usedWords != null) {
+        throw new IllegalStateException("Used words cannot be tracked with a shared pool");
+    }
+    selector = pool;
+  }
+
+  /**
+   * Throws if a word has been selected or the selector has already been changed, for settings that change how words
+   * are selected.
+   */
+  private void checkSelectorUnchanged() {
+    checkNothingChosen();
+    if (selector != unusedWords) {
+        throw new IllegalStateException("Words are already chosen from a difficulty index or shared pool");
+    }
+  }
+
+  /**
+   * Throws if a word has been selected.
+   */
+  private void checkNothingChosen() {
+    if (wordsDrawn > 0) {
+        throw new IllegalStateException("This must be done before the first word is chosen");
+    }
+  }
+
+  /**
+   * Starts a game on a particular word instead of a random one.  Used by simulations and replays, which need to
+   * play the same word more than once.
+   * <br>
+   * Everything else is the same as {@link Hangman#chooseWord()}, except that the word is not removed from the words
+   * that {@link Hangman#chooseWord()} can select.
+   *
+   * @param index the position of the word in {@link Hangman#getAllWords()}.
+   * @return The word that was chosen.
+   */
+  public String chooseWord(int index) {
+    String word = startWord(index);
+    events.wordChosen(eventSession, index);
+    publish(GameEventLog.WORD_CHOSEN, (char) 0);
+    return word;
+  }
+
+  /**
+   * Sets up the game for a word, as described in {@link Hangman#chooseWord()}, without logging it.
+   *
+   * @param index the position of the word in {@link Hangman#getAllWords()}.
+   * @return The word that was chosen.
+   */
+  private String startWord(int index) {
+    String word = allWords.get(index);
+
+    wordIndex = index;
     secretWord = word.toUpperCase();
     remainingGuesses = secretWord.length() - 1;
     numberOfHints = Math.floorDiv(remainingGuesses, 2);
-    guessedLetters = new ArrayList<>();
-    guessedWord = new StringBuilder(PLACEHOLDER.repeat(secretWord.length()));
+    guessedLetterCount = 0;
+    guessedMask = 0;
+    stateVersion++;
+    hiddenCount = secretWord.length();
+    hintPosition = 0;
+    indexLetters();
+    rankHints();
+    if (guessedWord == null) {
+        guessedWord = new StringBuilder(secretWord.length());
+    }
+    guessedWord.setLength(0);
+    for (int i = 0; i < secretWord.length(); i++) {
+        guessedWord.append(PLACEHOLDER);
+    }
 
-    if (debug) System.out.println("Chosen word: " + secretWord);
+    if (debug) out.println("Chosen word: " + secretWord);
     return secretWord;
   }
 
   /**
-   * Creates a File object using the parameter fileToLoad.  Creates a Scanner object.
+   * Streams the file fileToLoad into {@link Hangman#allWords}.
    * <br>
    * @param fileToLoad a String representing the filename of the file we wish to load.
    * @return boolean true if the operation completes successfully; otherwise return false.
    * <br>
-   * The Scanner is initialized in a try/catch to the file object.
+   * The file is read by a {@link WordIngester} in a try/catch.
    * <br>
    * Prints "There was an Issue creating or reading " + {fileToLoad} if there is an exception and
    * returns false.
    * <br>
-   * While there are more tokens in the Scanner, add the next line from the File to the allWords field.
+   * Every line of the file, trimmed and upper cased, becomes a word in the allWords field, unless it is blank, has
+   * anything but letters, is too short or long to play, or is already there.  See {@link Hangman#getLoadReport()}
+   * for how many lines were dropped.  A file compiled by {@link DictionaryCompiler} is mapped as it is instead,
+   * without parsing.
    * <br>
-   * If debug is true, print 'adding: + {word}' where 'word' is the String being added to allWords.
+   * If debug is true, print 'adding: + {word}' where 'word' is the String being added to allWords, and then the
+   * load report.
    *
    *
    */
   public boolean readFile(String fileToLoad){
-    try (Scanner sc = new Scanner(new File(fileToLoad))) {
-        while (sc.hasNextLine()) {
-            String word = sc.nextLine().trim();
-            allWords.add(word);
-            if (debug) System.out.println("adding" + word);
-        }
-        return true;
-    } catch (FileNotFoundException e) {
-        System.out.println("read file not implemented" + fileToLoad);
+    long start = metrics.start();
+    int first = allWords.size();
+    try {
+        if (ingester == null) ingester = new WordIngester(allWords);
+        loadReport = ingester.ingest(Path.of(fileToLoad));
+        if (usedWords != null) usedWords.ensureCapacity();
+    } catch (IOException e) {
+        out.println("There was an Issue creating or reading " + fileToLoad);
+        return false;
+    }
+    for (int i = first; i < allWords.size(); i++) {
+        unusedWords.add();
+        if (debug) out.println("adding" + allWords.get(i));
+    }
+    if (debug) out.println(fileToLoad + ": " + loadReport);
+    metrics.loaded(start, getCountWordsRemaining());
+    return true;
+  }
+
+  /**
+   * Used to check what {@link Hangman#readFile(String)} did with the lines of the last file.
+   * @return how many lines were read, added and dropped, or {@code null} if no file has been read.
+   */
+  public WordIngester.Report getLoadReport() {
+    return loadReport;
+  }
+
+  /**
+   * Saves which words have been chosen in usedWordsFile, and skips the words that an earlier run saved there.  The
+   * words must be loaded first, and this must be called before the first {@link Hangman#chooseWord()}.
+   * <br>
+   * Prints "There was an Issue creating or reading " + {usedWordsFile} if the file cannot be opened and returns false.
+   * <br>
+   * Cannot be combined with {@link Hangman#useSharedPool(SharedWordPool)}: other games draw from a shared pool too, so
+   * this game could not tell how many of the words an earlier run used are still left.  Call {@link Hangman#close()}
+   * when done to release the file.
+   * <br>
+   * @param usedWordsFile a String representing the filename of the record.  It is created if it does not exist.
+   * @return boolean true if the record was opened; otherwise return false.
+   * @throws IllegalStateException if a word has already been chosen or the game uses a shared pool.
+   * @see UsedWords
+   */
+  public boolean trackUsedWords(String usedWordsFile) {
+    checkNothingChosen();
+    if (selector instanceof SharedWordPool) {
+        throw new IllegalStateException("Used words cannot be tracked with a shared pool");
+    }
+    try {
+        usedWords = UsedWords.open(Path.of(usedWordsFile), allWords);
+    } catch (IOException e) {
+        out.println("There was an Issue creating or reading " + usedWordsFile);
         return false;
     }
+    staleWords = usedWords.usedCount();
+    return true;
+  }
+
+  /**
+   * Forces the words chosen so far to disk, if they are being saved.  Words are also forced to disk every
+   * {@link UsedWords#DEFAULT_FLUSH_EVERY} choices.
+   */
+  public void saveUsedWords() {
+    if (usedWords != null) usedWords.flush();
   }
 
   /**
@@ -160,12 +516,51 @@ public class Hangman {
   }
 
   /**
-   * All this does is set the value of debug.
+   * Calls the parameterized constructor with an empty, on-heap {@link WordStore}.
    * @param debug if this is set to {@code true} then Strings will be displayed.  See individual method documentation for details.
    */
   public Hangman(boolean debug) {
+    this(debug, new WordStore());
+  }
+
+  /**
+   * Sets the value of debug and the store that holds allWords.  Any words already in the store may be chosen.
+   * <br>
+   * Many games may share one store as long as it is {@link WordStore#freeze() frozen}; each game still keeps its own
+   * record of which words it has used.
+   * @param debug if this is set to {@code true} then Strings will be displayed.  See individual method documentation for details.
+   * @param words where the words are kept.  Use {@code new WordStore(true)} to keep them off-heap.
+   */
+  public Hangman(boolean debug, WordStore words) {
+    this(debug, words, GameOutput.of(System.out));
+  }
+
+  /**
+   * Sets the value of debug, the store that holds allWords and where messages are printed.
+   * @param debug if this is set to {@code true} then Strings will be displayed.  See individual method documentation for details.
+   * @param words where the words are kept.
+   * @param out where messages to the player are printed.
+   */
+  public Hangman(boolean debug, WordStore words, GameOutput out) {
+    this(debug, words, out, new SplittableRandom());
+  }
+
+  /**
+   * Sets the value of debug, the store that holds allWords, where messages are printed and how words are chosen.
+   * <br>
+   * Two games given streams with the same seed, over the same words, choose the same words in the same order.
+   * @param debug if this is set to {@code true} then Strings will be displayed.  See individual method documentation for details.
+   * @param words where the words are kept.
+   * @param out where messages to the player are printed.
+   * @param random chooses the words.  See {@link RandomSource}.
+   */
+  public Hangman(boolean debug, WordStore words, GameOutput out, RandomGenerator random) {
     this.debug = debug;
-    guessedLetters = new ArrayList<>();
+    this.random = random;
+    this.out = out;
+    allWords = words;
+    unusedWords = new WordPool(words.size());
+    selector = unusedWords;
   }
 
   /**
@@ -173,26 +568,216 @@ public class Hangman {
    * {@link Hangman#guessedWord}, {@link Hangman#remainingGuesses}, {@link Hangman#numberOfHints},
    * and {@link Hangman#guessedLetters} and prints that.
    * See the sample output for an example.
+   * <br>
+   * The String is kept, and returned again without being built, until a guess, hint, exit or new word changes the
+   * state.
    * @return A String representation of the game state.  Makes it testable.
    */
   public String displayGameState() {
-    return "Guessed Word: " + guessedWord + "\n"
-            + "Remaining Guesses: " + remainingGuesses + "\n"
-            + "Remaining hints: " + numberOfHints + "\n"
-            + "Guessed Letters: " + guessedLetters;
+    return rendered().state(stateVersion, guessedWord, remainingGuesses, numberOfHints, guessedLetters,
+            guessedLetterCount);
+  }
+
+  /**
+   * The text of {@link Hangman#displayGameState()} in UTF-8, for writing to a socket or file without building a
+   * String.  Like the String, the bytes are only built again after the state changes.
+   * @return a read only buffer positioned at the first byte.  The same buffer is returned, and rewound, by every
+   * call, so it is only good until the next call.
+   */
+  public ByteBuffer getGameStateBytes() {
+    return rendered().stateBytes(stateVersion, guessedWord, remainingGuesses, numberOfHints, guessedLetters,
+            guessedLetterCount);
+  }
+
+  /**
+   * Writes the text of {@link Hangman#displayGameState()} to a channel, in UTF-8, without allocating anything unless
+   * the state changed since it was last shown.
+   * @param channel a blocking channel.  A non-blocking one should write {@link Hangman#getGameStateBytes()} itself.
+   * @return the number of bytes written.
+   * @throws IOException if the channel cannot be written.
+   */
+  public int writeGameState(WritableByteChannel channel) throws IOException {
+    ByteBuffer bytes = getGameStateBytes();
+    int written = 0;
+    while (bytes.hasRemaining()) {
+        written += channel.write(bytes);
+    }
+    return written;
+  }
+
+  /**
+   * Used to tell whether the game has changed since it was last looked at, without comparing its text.
+   * @return a number that changes whenever anything {@link Hangman#displayGameState()} shows changes.
+   */
+  public int getStateVersion() {
+    return stateVersion;
+  }
+
+  /**
+   * Starts publishing every change of this game's state to spectators.  A broadcast takes one game only.
+   * @param broadcast where to publish, or {@link GameBroadcast#NONE} to stop.
+   */
+  public void setBroadcast(GameBroadcast broadcast) {
+    this.broadcast = broadcast;
+    broadcastVersion = -1;
+  }
+
+  /**
+   * Publishes the state to {@link Hangman#broadcast}, if there is one and the state changed since it was last
+   * published.
+   * @param event what changed, one of the {@link GameEventLog} events.
+   * @param letter the letter guessed or hinted, or 0.
+   */
+  private void publish(byte event, char letter) {
+    if (broadcast.isEnabled() && broadcastVersion != stateVersion) {
+        broadcastVersion = stateVersion;
+        broadcast.publish(event, letter, guessedWord, remainingGuesses, numberOfHints, hasWon(), hasLost(),
+                stateVersion);
+    }
+  }
+
+  /**
+   * Creates {@link Hangman#render} the first time it is needed.
+   * @return the game's render cache.
+   */
+  private GameStateRender rendered() {
+    if (render == null) {
+        render = new GameStateRender();
+    }
+    return render;
+  }
+
+  /**
+   * Plays one word at the keyboard: the player guesses a letter, asks for a hint or exits until the word is found or
+   * there are no guesses left.  The round is timed in {@link Hangman#getMetrics()}.
+   * <br>
+   * Prints "Nothing left to guess!" and returns 0 if every word has been used.
+   * @param in the player's keyboard.
+   * @return the score earned in the round.
+   */
+  @Override
+  public int play(Scanner in) {
+    long start = metrics.start();
+    try {
+        return playRound(in);
+    } finally {
+        out.flush();
+        recorder.flush();
+        metrics.sessionEnded(start);
+    }
+  }
+
+  /**
+   * The body of {@link Hangman#play(Scanner)}.
+   * @param in the player's keyboard.
+   * @return the score earned in the round.
+   */
+  private int playRound(Scanner in) {
+
+    int hangmanScore = 0;
+    int choice;
+
+    out.println("Welcome to Hangman!");
+    out.println("Current score: " + hangmanScore);
+
+    if (getCountWordsRemaining() <= 0) {
+        out.println("Nothing left to guess!");
+        return hangmanScore;
+    }
+    chooseWord();
+
+    while (!isGameOver()) {
+        displayGameState();
+        out.println("Your options are:");
+        out.println("\t 1: Guess a letter");
+        if (getNumberOfHints() > 0) {
+            out.println("\t 2: Get a hint");
+        }
+        out.println("\t 3: exit");
+
+        out.print("Enter your choice:");
+        out.flush();
+
+        if (!in.hasNextLine()) {
+            return hangmanScore + exit();
+        }
+        String input = in.nextLine();
+
+        try {
+            choice = Integer.parseInt(input);
+
+        } catch (NumberFormatException e) {
+            out.println(input + " is not a valid option.");
+            continue;
+        }
+
+        switch (choice) {
+            case 1: //Case 1 make a guess (these should probably be constants)
+                out.print("What is your guess: ");
+                out.flush();
+                if (!in.hasNextLine()) {
+                    return hangmanScore + exit();
+                }
+                input = in.nextLine();
+                if (input.isEmpty()) {
+                    continue;
+                }
+                makeGuess(input.charAt(0));
+                break;
+
+            case 2: // 2 get a hint
+                if (getNumberOfHints() <= 0) {
+                    out.println("No more hints!");
+                    continue;
+                }
+                getHint();
+                break;
+
+            case 3: //Exit the game
+                hangmanScore += exit();
+                break;
+        }
+
+        if (hasWon()) {
+            return exit();
+        }
+    }
+
+    return hangmanScore;
+  }
+
+  /**
+   * Saves and closes the record of used words, if there is one (see {@link Hangman#trackUsedWords(String)}).  The
+   * game cannot choose another word after this.
+   * @throws UncheckedIOException if the record cannot be closed.
+   */
+  @Override
+  public void close() {
+    if (usedWords == null) return;
+    try {
+        usedWords.close();
+    } catch (IOException e) {
+        throw new UncheckedIOException(e);
+    }
   }
 
   /**
    *
    * Used to exit Hangman. Sets {@link Hangman#remainingGuesses} to 0, prints
-   * "Thanks for playing" and returns.
+   * "Thanks for playing" and returns.  A game exited before it is over counts as lost in {@link Hangman#getMetrics()}.
    *
    * @return if the result of {@link Hangman#hasWon()} is {@code true} '
    * return {@link Hangman#getScore()} otherwise return 0
    */
+  @Override
   public int exit(){
+    if (!isGameOver()) recorder.ended(false);
+    recorder.flush();
     remainingGuesses = 0;
-    System.out.println("Thanks for playing");
+    stateVersion++;
+    events.exited(eventSession);
+    publish(GameEventLog.EXIT, (char) 0);
+    out.println("Thanks for playing");
     return hasWon() ? getScore() : 0;
   }
 
@@ -200,55 +785,121 @@ public class Hangman {
    * If {@link Hangman#numberOfHints} is less than or equal to 0, print "No more hints!" and
    * return numberOfHints.
    *<br>
-   *If there are hints remaining, iterate through all the characters in {@link Hangman#secretWord}
-   * until a character is found that is NOT contained in {@link Hangman#guessedLetters}
-   * call the {@link Hangman#makeGuess(char)} method with the character.
+   *If there are hints remaining, iterate through the letters in {@link Hangman#hintOrder}, starting at
+   * {@link Hangman#hintPosition}, until a letter is found that has NOT been guessed and
+   * call the {@link Hangman#makeGuess(char)} method with the letter.  The letters were ranked by the
+   * {@link HintPolicy} when the word was chosen, so by default this is the letter that fills in the most blanks.
    * <br>
    * Then decrement numberOfHints.
    * <br>
-   * Exit the loop.
+   * Exit the loop.  A guessed letter is never looked at again, so a whole game of hints is at most 26 steps.
    *
    * @return the number of hints remaining.
    *
    */
   public int getHint(){
     if (numberOfHints <= 0) {
-        System.out.println("No more hints!");
+        out.println("No more hints!");
         return numberOfHints;
     };
-    for (int i = 0; i < secretWord.length(); i++) {
-        char c = secretWord.charAt(i);
-        if (!guessedLetters.contains(c)) {
-            makeGuess(c);
-            numberOfHints--;
-            break;
-        }
+    while (hintPosition < hintLetters && isGuessed((char) ('A' + hintOrder[hintPosition]))) {
+        hintPosition++;
+    }
+    if (hintPosition < hintLetters) {
+        hint((char) ('A' + hintOrder[hintPosition]));
     }
 
     return numberOfHints;
   }
 
+  /**
+   * Uses up a hint on a letter that is already chosen, logging the letter.  {@link GameReplay} calls this with the
+   * letter that was logged, so a replayed hint guesses the same letter whatever {@link HintPolicy} the replaying game
+   * has.
+   *
+   * @param letter an uppercase character.
+   * @return the number of hints remaining.
+   */
+  int hint(char letter) {
+    events.hinted(eventSession, letter);
+    guess(letter);
+    numberOfHints--;
+    stateVersion++;
+    publish(GameEventLog.HINT, letter);
+    recorder.hinted();
+    return numberOfHints;
+  }
+
+  /**
+   * Changes how hints choose a letter, starting with the next word.
+   * @param hintPolicy ranks the letters of each word.  See {@link HintPolicy#MOST_POSITIONS} and the others.
+   */
+  public void setHintPolicy(HintPolicy hintPolicy) {
+    this.hintPolicy = hintPolicy;
+  }
+
+  /**
+   * Starts counting this game's guesses, hints and results, and timing how long words take to load and choose.
+   * Many games may share one {@link GameMetrics}.  Anything counted for the old metrics is added to them first.
+   * @param metrics where to record, or {@link GameMetrics#NONE} to stop recording.
+   */
+  @Override
+  public void setMetrics(GameMetrics metrics) {
+    recorder.flush();
+    this.metrics = metrics;
+    recorder = metrics.newRecorder();
+  }
+
+  /**
+   * Adds this game's counts to {@link Hangman#getMetrics()} now, instead of waiting for {@link Hangman#exit()} or
+   * the next {@link GameMetrics#FLUSH_EVERY} games.
+   */
+  public void flushMetrics() {
+    recorder.flush();
+  }
+
+  /**
+   * standard getter
+   * @return metrics, which is {@link GameMetrics#NONE} unless {@link Hangman#setMetrics(GameMetrics)} was called.
+   */
+  public GameMetrics getMetrics() {
+    return metrics;
+  }
+
+  /**
+   * Starts writing every word chosen, guess, hint and exit to a log, so that {@link GameReplay} can play the game
+   * again.  Many games may share one log.  Restoring a game with {@link GameSnapshot} is not logged.
+   * @param events where to write, or {@link GameEventLog#NONE} to stop.
+   * @param session the id the events are written under, which tells this game's events apart from other games'.
+   */
+  public void setEventLog(GameEventLog events, long session) {
+    this.events = events;
+    this.eventSession = session;
+  }
+
   /**
    * Used to check the number of words left to guess.
-   * @return the difference of {@code allWords.size()} and {@code guessedWords().size()}
+   * @return the number of words that {@link Hangman#chooseWord()} can still select.
    */
   public int getCountWordsRemaining(){
-   return allWords.size() - guessedWords.size();
+   return selector.remaining() - staleWords;
   }
 
   /**
    *  This can be done in one line... :)
    * @return {@code true} if there are no instances of {@link Hangman#PLACEHOLDER} in
-   * {@link Hangman#guessedWord} otherwise {@code false}
+   * {@link Hangman#guessedWord} otherwise {@code false}.  These are counted by {@link Hangman#hiddenCount}.
    */
+  @Override
   public boolean hasWon() {
-    return !guessedWord.toString().contains(PLACEHOLDER);
+    return hiddenCount == 0;
   }
 
   /**
    * won or lost?
    * @return {@code true} if {@link Hangman#remainingGuesses} == 0. Otherwise {@code false}
    */
+  @Override
   public boolean hasLost() {
     return remainingGuesses == 0;
   }
@@ -265,6 +916,7 @@ public class Hangman {
    * returns the score
    * @return {@link Hangman#remainingGuesses} + {@link Hangman#score}
    */
+  @Override
   public int getScore(){
     return remainingGuesses + score;
   }
@@ -276,7 +928,7 @@ public class Hangman {
    * <br>
    * Use {@link Character#toUpperCase(char)}
    * <br>
-   * If {@link Hangman#guessedLetters} contains {@code letter} print the message:
+   * If {@code letter} has already been guessed print the message:
    * "{@code letter } has already been guessed" and return {@code false}
    *
    * if the {@code letter } has NOT been guessed print the message:
@@ -285,9 +937,11 @@ public class Hangman {
    *
    * Declare a boolean to track if {@code letter } is found or not.
    * <br>
-   * Iterate through the values in {@link Hangman#secretWord} checking for {@code letter }.
-   * If {@code letter } is found, increment {@link Hangman#score} and set the corresponding location in {@link Hangman#guessedWord} to {@code letter }.
+   * Look up the positions of {@code letter } in {@link Hangman#letterPositions}.
+   * For each one, increment {@link Hangman#score} and set the corresponding location in {@link Hangman#guessedWord} to {@code letter }.
    * You will need to use {@link StringBuilder#setCharAt(int, char)}
+   * <br>
+   * Characters other than 'A' to 'Z' are not indexed, so for those {@link Hangman#secretWord} is searched instead.
    *
    * if {@code letter } was NOT found decrement {@link Hangman#remainingGuesses} print
    * {@code letter } was not present!
@@ -302,32 +956,208 @@ public class Hangman {
    */
   public boolean makeGuess(char letter) {
     letter = Character.toUpperCase(letter);
+    events.guessed(eventSession, letter);
+    boolean found = guess(letter);
+    publish(GameEventLog.GUESS, letter);
+    return found;
+  }
 
-    if (guessedLetters.contains(letter)) {
-        System.out.println(letter + " has already been guessed");
+  /**
+   * Makes a guess and prints the result, as described in {@link Hangman#makeGuess(char)}, without logging it.  Hints
+   * use this, since the hint itself is logged.
+   * @param letter an uppercase character.
+   * @return true if the character exists in {@link Hangman#secretWord} and has not been guessed
+   */
+  private boolean guess(char letter) {
+    byte result = applyGuess(letter);
+    if (result == GUESS_REPEAT) {
+        out.println("", letter, " has already been guessed");
         return false;
     }
 
-    System.out.println("You chose: " + letter);
-    guessedLetters.add(letter);
+    out.println("You chose: ", letter, "");
+    if (result == GUESS_HIT) {
+        out.println("", letter, " was present!");
+        return true;
+    } else {
+        out.println("", letter, " was not present!");
+        return false;
+    }
+  }
+
+  /**
+   * Makes a whole sequence of guesses in one call, for bots and replays.
+   * <br>
+   * Each letter is applied exactly as {@link Hangman#makeGuess(char)} would apply it, in order, until the letters run
+   * out or the game is over, so the game ends up in the same state as calling {@code makeGuess} in a loop that checks
+   * {@link Hangman#isGameOver()} first.  Nothing is printed.
+   *
+   * @param letters the characters to guess, in order.
+   * @return one of {@link Hangman#GUESS_HIT}, {@link Hangman#GUESS_MISS} or {@link Hangman#GUESS_REPEAT} for each
+   * guess that was made.  This is shorter than {@code letters} if the game ended first.
+   */
+  public byte[] makeGuesses(CharSequence letters) {
+    byte[] results = new byte[letters.length()];
+    int made = 0;
+    while (made < results.length && !isGameOver()) {
+        char letter = Character.toUpperCase(letters.charAt(made));
+        events.guessed(eventSession, letter);
+        results[made] = applyGuess(letter);
+        publish(GameEventLog.GUESS, letter);
+        made++;
+    }
+    return made == results.length ? results : Arrays.copyOf(results, made);
+  }
+
+  /**
+   * Same as {@link Hangman#makeGuesses(CharSequence)}.
+   *
+   * @param letters the characters to guess, in order.
+   * @return the result of each guess that was made.
+   */
+  public byte[] makeGuesses(char[] letters) {
+    return makeGuesses(CharBuffer.wrap(letters));
+  }
 
-    boolean found = false;
+  /**
+   * Applies one guess to the game state without printing anything.
+   * @param letter an uppercase character.
+   * @return {@link Hangman#GUESS_HIT}, {@link Hangman#GUESS_MISS} or {@link Hangman#GUESS_REPEAT}.
+   */
+  private byte applyGuess(char letter) {
+    if (isGuessed(letter)) {
+        recorder.guessed(GUESS_REPEAT);
+        return GUESS_REPEAT;
+    }
+    addGuessedLetter(letter);
+
+    int found = reveal(letter);
+    score += found;
+    hiddenCount -= found;
+    if (found > 0) {
+        recorder.guessed(GUESS_HIT);
+        if (hiddenCount == 0 && remainingGuesses > 0) recorder.ended(true);
+        return GUESS_HIT;
+    }
+    remainingGuesses--;
+    recorder.guessed(GUESS_MISS);
+    if (remainingGuesses == 0 && hiddenCount > 0) recorder.ended(false);
+    return GUESS_MISS;
+  }
+
+  /**
+   * Groups the positions of secretWord by letter into {@link Hangman#letterStarts} and
+   * {@link Hangman#letterPositions}.  This is a counting sort, so it is one pass to count and one pass to place.
+   */
+  private void indexLetters() {
+    int length = secretWord.length();
+    if (letterPositions.length < length) {
+        letterPositions = new int[length];
+    }
+    Arrays.fill(letterStarts, 0);
+    for (int i = 0; i < length; i++) {
+        int letter = secretWord.charAt(i) - 'A';
+        if (letter >= 0 && letter < ALPHABET) {
+            letterStarts[letter]++;
+        }
+    }
+    // letterStarts[letter] becomes the end of that letter's group...
+    int total = 0;
+    for (int letter = 0; letter < ALPHABET; letter++) {
+        total += letterStarts[letter];
+        letterStarts[letter] = total;
+    }
+    letterStarts[ALPHABET] = total;
+    // ...and placing the positions from right to left walks it back to the start.
+    for (int i = length - 1; i >= 0; i--) {
+        int letter = secretWord.charAt(i) - 'A';
+        if (letter >= 0 && letter < ALPHABET) {
+            letterPositions[--letterStarts[letter]] = i;
+        }
+    }
+  }
+
+  /**
+   * Ranks the different letters of secretWord into {@link Hangman#hintOrder} with {@link Hangman#hintPolicy}.  Uses
+   * the letter index, and sorts by insertion since there are at most 26 letters.
+   */
+  private void rankHints() {
+    hintLetters = 0;
+    for (int letter = 0; letter < ALPHABET; letter++) {
+        int start = letterStarts[letter];
+        int occurrences = letterStarts[letter + 1] - start;
+        if (occurrences == 0) {
+            continue;
+        }
+        int score = hintPolicy.score((char) ('A' + letter), occurrences, letterPositions[start], secretWord.length());
+        int i = hintLetters++;
+        while (i > 0 && hintScores[i - 1] < score) {
+            hintOrder[i] = hintOrder[i - 1];
+            hintScores[i] = hintScores[i - 1];
+            i--;
+        }
+        hintOrder[i] = (byte) letter;
+        hintScores[i] = score;
+    }
+  }
+
+  /**
+   * Reveals every instance of {@code letter} in {@link Hangman#guessedWord}.
+   * @param letter an uppercase character.
+   * @return the number of positions revealed.
+   */
+  private int reveal(char letter) {
+    int index = letter - 'A';
+    if (index >= 0 && index < ALPHABET) {
+        int start = letterStarts[index];
+        int end = letterStarts[index + 1];
+        for (int p = start; p < end; p++) {
+            guessedWord.setCharAt(letterPositions[p], letter);
+        }
+        return end - start;
+    }
+    int found = 0;
     for (int i = 0; i < secretWord.length(); i++) {
         if (secretWord.charAt(i) == letter) {
             guessedWord.setCharAt(i, letter);
-            score++;
-            found = true;
+            found++;
         }
     }
+    return found;
+  }
 
-    if (found) {
-        System.out.println(letter + " was present!");
-        return true;
-    } else {
-        remainingGuesses--;
-        System.out.println(letter + " was not present!");
-        return false;
+  /**
+   * Checks whether a character has been guessed.  'A' to 'Z' is a single bit test.
+   * @param letter an uppercase character.
+   * @return {@code true} if {@code letter} has been guessed.
+   */
+  private boolean isGuessed(char letter) {
+    int index = letter - 'A';
+    if (index >= 0 && index < ALPHABET) {
+        return (guessedMask & (1 << index)) != 0;
+    }
+    for (int i = 0; i < guessedLetterCount; i++) {
+        if (guessedLetters[i] == letter) {
+            return true;
+        }
+    }
+    return false;
+  }
+
+  /**
+   * Records a guess in {@link Hangman#guessedLetters} and {@link Hangman#guessedMask}.
+   * @param letter an uppercase character that has not been guessed.
+   */
+  private void addGuessedLetter(char letter) {
+    int index = letter - 'A';
+    if (index >= 0 && index < ALPHABET) {
+        guessedMask |= 1 << index;
     }
+    if (guessedLetterCount == guessedLetters.length) {
+        guessedLetters = Arrays.copyOf(guessedLetters, guessedLetterCount * 2);
+    }
+    guessedLetters[guessedLetterCount++] = letter;
+    stateVersion++;
   }
 
   /*=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
@@ -358,10 +1188,20 @@ public class Hangman {
 
   /**
    * standard getter
-   * @return guessedLetters.toString()
+   * @return the guessed letters in the same format as {@link List#toString()}, for example "[A, B]".  Kept until
+   * the next guess.
    */
   public String getGuessedLetters(){
-    return guessedLetters.toString();
+    return rendered().letters(stateVersion, guessedLetters, guessedLetterCount);
+  }
+
+  /**
+   * Checks whether a letter has been guessed, without building {@link Hangman#getGuessedLetters()}.
+   * @param letter the character to check, in either case.
+   * @return {@code true} if {@code letter} has been guessed in this game.
+   */
+  public boolean hasGuessed(char letter) {
+    return isGuessed(Character.toUpperCase(letter));
   }
 
   /**
@@ -380,11 +1220,100 @@ public class Hangman {
     return numberOfHints;
   }
 
+  /**
+   * Used to save a game without its word.  {@link Hangman#chooseWord(int)} with this index plays the same word.
+   * @return the position of secretWord in {@link Hangman#getAllWords()}, or -1 if no word has been chosen.
+   */
+  public int getWordIndex() {
+    return wordIndex;
+  }
+
+  /**
+   * Used by {@link GameSnapshot} to save the guesses without building {@link Hangman#getGuessedLetters()}.
+   * @return the number of different characters guessed in this game.
+   */
+  int getGuessCount() {
+    return guessedLetterCount;
+  }
+
+  /**
+   * Used by {@link GameSnapshot} to save the guesses in order.
+   * @param i from 0 to {@link Hangman#getGuessCount()} - 1.
+   * @return the {@code i}th character guessed, upper cased.
+   */
+  char getGuess(int i) {
+    return guessedLetters[i];
+  }
+
+  /**
+   * Puts the game back exactly as it was when it was saved by {@link GameSnapshot}.  The word is set up as by
+   * {@link Hangman#chooseWord(int)}, then each guess is revealed in order without printing or counting anything, and
+   * the counters are overwritten, since hints, {@link Hangman#exit()} and earlier games also change them.
+   * <br>
+   * The words this game has used are not part of a game, so they are left as they are.
+   * @param index the position of the word in {@link Hangman#getAllWords()}.
+   * @param guesses the characters guessed, upper cased, in order.
+   * @param guessCount the number of entries in {@code guesses}.
+   * @param score the score from correct letters, over every game so far.
+   * @param remainingGuesses what {@link Hangman#getRemainingGuesses()} returned.
+   * @param numberOfHints what {@link Hangman#getNumberOfHints()} returned.
+   */
+  void restore(int index, char[] guesses, int guessCount, int score, int remainingGuesses, int numberOfHints) {
+    boolean debug = this.debug;
+    this.debug = false;
+    startWord(index);
+    this.debug = debug;
+    for (int i = 0; i < guessCount; i++) {
+        addGuessedLetter(guesses[i]);
+        hiddenCount -= reveal(guesses[i]);
+    }
+    this.score = score;
+    this.remainingGuesses = remainingGuesses;
+    this.numberOfHints = numberOfHints;
+    stateVersion++;
+  }
+
+  /**
+   * Used by bots to read the board without building {@link Hangman#getGuessedWordString()}.
+   * @return the number of characters in secretWord.
+   */
+  public int getWordLength() {
+    return secretWord.length();
+  }
+
+  /**
+   * Used by bots to learn what a guess revealed, without building {@link Hangman#getGuessedWordString()}.
+   * @param letter the character to look up, in either case.
+   * @param positions filled with the positions where {@code letter} has been revealed, from left to right.  It must
+   * be at least {@link Hangman#getWordLength()} long.
+   * @return the number of positions written, which is 0 if {@code letter} has not been guessed or was a miss.
+   */
+  public int getRevealedPositions(char letter, int[] positions) {
+    letter = Character.toUpperCase(letter);
+    if (!isGuessed(letter)) {
+        return 0;
+    }
+    int index = letter - 'A';
+    if (index >= 0 && index < ALPHABET) {
+        int start = letterStarts[index];
+        int found = letterStarts[index + 1] - start;
+        System.arraycopy(letterPositions, start, positions, 0, found);
+        return found;
+    }
+    int found = 0;
+    for (int i = 0; i < secretWord.length(); i++) {
+        if (secretWord.charAt(i) == letter) {
+            positions[found++] = i;
+        }
+    }
+    return found;
+  }
+
   /**
    * standard getter
-   * @return guessedWord.toString()
+   * @return guessedWord.toString(), kept until the board changes.
    */
   public String getGuessedWordString() {
-    return guessedWord.toString();
+    return rendered().word(stateVersion, guessedWord);
   }
 }
@@ -0,0 +1,944 @@
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * Benchmarks for the hot paths in {@link Hangman} and {@link GameLoader}.  It is not a test, run
+ * it by hand with {@code java HangmanBenchmark [results.json]}.
+ * <br>
+ * Each scenario is run once to warm up and then timed.  A scenario only times the part it is
+ * measuring (see {@link HangmanBenchmark.Timer}), and the result is printed as nanoseconds and
+ * bytes allocated per operation.  Allocation is read from the JVM's per-thread allocation
+ * counter, so it is exact for the benchmark thread and costs nothing to collect.
+ * <br>
+ * If a file name is given the results are also written to it as JSON, so two runs can be diffed.
+ * <br>
+ * Console output from the games is thrown away while the benchmark runs.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+public class HangmanBenchmark {
+
+  /**
+   * The dictionary sizes used by the word pool scenarios.
+   */
+  private static final int[] POOL_SIZES = {10, 1_000, 100_000, 10_000_000};
+  /**
+   * The largest dictionary the old rejection loop is timed against.  It is O(n^2) to drain so
+   * anything bigger takes minutes.
+   */
+  private static final int LEGACY_LIMIT = 10_000;
+  /**
+   * The dictionary sizes used by the file loading scenarios.
+   */
+  private static final int[] FILE_SIZES = {1_000, 100_000, 1_000_000};
+  /**
+   * Small scenarios are repeated until at least this many operations have been timed.
+   */
+  private static final int MIN_OPERATIONS = 1_000_000;
+  /**
+   * The number of games played by the game scenarios.
+   */
+  private static final int GAMES = 200_000;
+  /**
+   * The number of scripted {@link GameLoader#hangman()} sessions.
+   */
+  private static final int SESSIONS = 20_000;
+  /**
+   * The dictionary sizes used by the difficulty index scenarios.
+   */
+  private static final int[] INDEX_SIZES = {1_000, 100_000, 10_000_000};
+  /**
+   * The number of threads in the contended word selection scenarios.
+   */
+  private static final int SELECTION_THREADS = 64;
+  /**
+   * The order letters are guessed in by the game scenarios, most common English letters first.
+   */
+  private static final String GUESS_ORDER = "ETAOINSHRDLUCMFWYPVBGKJQXZ";
+  /**
+   * Reads the allocation counter of the current thread.
+   */
+  private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+  /**
+   * Where the results are printed.  {@link System#out} is swapped out while the benchmark runs.
+   */
+  private static final PrintStream CONSOLE = System.out;
+  /**
+   * Every result so far, for the JSON report.
+   */
+  private static final List<Result> RESULTS = new ArrayList<>();
+  /**
+   * Results are written here so the JIT cannot throw the work away.
+   */
+  private static long sink;
+
+  /**
+   * Runs every scenario.
+   *
+   * @param args optionally, the name of a file to write the results to as JSON.
+   * @throws IOException if a temporary word file or the results cannot be written.
+   */
+  public static void main(String[] args) throws IOException {
+    System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    try {
+      runAll();
+    } finally {
+      System.setOut(CONSOLE);
+    }
+    if (args.length > 0) {
+      writeJson(Path.of(args[0]));
+    }
+    CONSOLE.println("(ignore) " + sink);
+  }
+
+  /**
+   * Runs every scenario.
+   *
+   * @throws IOException if a temporary word file cannot be written.
+   */
+  private static void runAll() throws IOException {
+    for (int size : FILE_SIZES) {
+      Path file = writeWords(size);
+      Path compiled = Files.createTempFile("benchWords", ".bin");
+      try {
+        run("Hangman.readFile", size + " words", size, timer -> readFile(timer, file));
+        DictionaryCompiler.compile(file, compiled);
+        run("Hangman.readFile", size + " words, compiled", size,
+            timer -> readFile(timer, compiled));
+      } finally {
+        Files.delete(file);
+        Files.delete(compiled);
+      }
+    }
+
+    for (int size : POOL_SIZES) {
+      int rounds = Math.max(1, MIN_OPERATIONS / size);
+      run("WordPool.draw", size + " words", (long) size * rounds,
+          timer -> drainPool(timer, size, rounds));
+    }
+    for (int size : POOL_SIZES) {
+      poolMemory(size);
+    }
+    for (int size : POOL_SIZES) {
+      if (size > LEGACY_LIMIT) {
+        break;
+      }
+      int rounds = Math.max(1, MIN_OPERATIONS / size / size);
+      run("rejection loop", size + " words", (long) size * rounds,
+          timer -> drainLegacy(timer, size, rounds));
+    }
+
+    for (int size : INDEX_SIZES) {
+      WordStore indexed = RandomWords.of(size);
+      run("DifficultyIndex build", size + " words", size,
+          timer -> buildIndex(timer, indexed));
+      DifficultyIndex index = new DifficultyIndex(indexed);
+      int hardest = DifficultyIndex.LEVELS - 1;
+      while (index.size(hardest) == 0) {
+        hardest--;
+      }
+      int level = hardest;
+      run("DifficultyIndex.draw", size + " words, all levels", MIN_OPERATIONS,
+          timer -> drawByDifficulty(timer, index, 0, DifficultyIndex.LEVELS - 1, MIN_OPERATIONS));
+      run("DifficultyIndex.draw", size + " words, level " + level, MIN_OPERATIONS,
+          timer -> drawByDifficulty(timer, index, level, level, MIN_OPERATIONS));
+    }
+
+    WordStore words = RandomWords.of(GAMES);
+    int tenth = GAMES / 10;
+    run("Hangman.chooseWord", "first 10% of the pool", tenth,
+        timer -> chooseWords(timer, words, 0, tenth));
+    run("Hangman.chooseWord", "last 10% of the pool", tenth,
+        timer -> chooseWords(timer, words, GAMES - tenth, tenth));
+    run("word selection", "1 thread, new Random each", GAMES,
+        timer -> selectWords(timer, 1, GAMES, Random::new, true));
+    run("word selection", "1 thread, SplittableRandom", GAMES,
+        timer -> selectWords(timer, 1, GAMES, SplittableRandom::new, false));
+    Random shared = new Random();
+    run("word selection", SELECTION_THREADS + " threads, shared Random", GAMES,
+        timer -> selectWords(timer, SELECTION_THREADS, GAMES / SELECTION_THREADS, () -> shared,
+            false));
+    RandomSource source = RandomSource.seeded(338);
+    run("word selection", SELECTION_THREADS + " threads, RandomSource", GAMES,
+        timer -> selectWords(timer, SELECTION_THREADS, GAMES / SELECTION_THREADS,
+            source::newStream, false));
+    GameOutput console = GameOutput.of(System.out);
+    GameOutput buffered = new BufferedGameOutput(OutputStream.nullOutputStream());
+    run("Hangman.makeGuess", "hit, System.out", GAMES,
+        timer -> guess(timer, words, true, console));
+    run("Hangman.makeGuess", "miss, System.out", GAMES,
+        timer -> guess(timer, words, false, console));
+    run("Hangman.makeGuess", "hit, buffered", GAMES,
+        timer -> guess(timer, words, true, buffered));
+    run("Hangman.makeGuess", "miss, buffered", GAMES,
+        timer -> guess(timer, words, false, buffered));
+    run("Hangman.makeGuess", "hit, no output", GAMES,
+        timer -> guess(timer, words, true, GameOutput.NONE));
+    run("Hangman.makeGuess", "miss, no output", GAMES,
+        timer -> guess(timer, words, false, GameOutput.NONE));
+    run("Hangman.getHint", "", GAMES, timer -> hint(timer, words));
+    WordStore longWords = RandomWords.of(GAMES / 10, 30, 30);
+    run("Hangman.getHint", "all hints, 30 letter word", longWords.size(),
+        timer -> allHints(timer, longWords));
+    run("List<Character> getHint", "all hints, 30 letter word", longWords.size(),
+        timer -> allLegacyHints(timer, longWords));
+    run("Hangman game", "makeGuess loop, no output", GAMES, timer -> guessAll(timer, words, false));
+    run("Hangman game", "makeGuesses batch", GAMES, timer -> guessAll(timer, words, true));
+    run("Hangman.isGameOver", "hasWon and hasLost", (long) GAMES * 10,
+        timer -> gameOver(timer, words));
+    run("Hangman.displayGameState", "", (long) GAMES * 10, timer -> display(timer, words));
+    run("Hangman game", "hint then guesses", GAMES, timer -> playGames(timer, words));
+    run("List<Character> game", "hint then guesses", GAMES,
+        timer -> playLegacyGames(timer, words));
+    run("Hangman game", "no output, metrics off", GAMES,
+        timer -> playMeasuredGames(timer, words, GameMetrics.NONE));
+    run("Hangman game", "no output, metrics on", GAMES,
+        timer -> playMeasuredGames(timer, words, new GameMetrics()));
+
+    Path file = writeWords(SESSIONS);
+    try {
+      run("GameLoader.hangman", "scripted session", SESSIONS, timer -> sessions(timer, file));
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  /**
+   * Warms up a scenario, runs it again with a fresh {@link Timer} and reports the result.
+   *
+   * @param name what is being measured.
+   * @param params the size or variant of the scenario.
+   * @param operations the number of operations the scenario times.
+   * @param scenario the code to run.
+   * @throws IOException if the scenario does.
+   */
+  private static void run(String name, String params, long operations, Scenario scenario)
+      throws IOException {
+    scenario.run(new Timer());
+    Timer timer = new Timer();
+    scenario.run(timer);
+    Result result = new Result(name, params, (double) timer.nanos / operations,
+        timer.bytes < 0 ? -1 : (double) timer.bytes / operations);
+    RESULTS.add(result);
+    CONSOLE.printf(Locale.ROOT, "%-28s %-26s %10.1f ns/op %10.1f B/op%n", name, params,
+        result.nanosPerOp, result.bytesPerOp);
+  }
+
+  /**
+   * Loads a word file into a new {@link Hangman}.
+   *
+   * @param timer times the load.
+   * @param file the word file.
+   */
+  private static void readFile(Timer timer, Path file) {
+    timer.start();
+    Hangman game = new Hangman();
+    game.readFile(file.toString());
+    timer.stop();
+    sink += game.getCountWordsRemaining();
+  }
+
+  /**
+   * Draws every word out of a {@link WordPool}, {@code rounds} times over.  Filling the pool is
+   * not timed.
+   *
+   * @param timer times the draws.
+   * @param size the number of words.
+   * @param rounds how many pools to drain.
+   */
+  private static void drainPool(Timer timer, int size, int rounds) {
+    Random rand = new Random(size);
+    for (int r = 0; r < rounds; r++) {
+      WordPool pool = new WordPool();
+      for (int i = 0; i < size; i++) {
+        pool.add();
+      }
+      timer.start();
+      for (int i = 0; i < size; i++) {
+        sink += pool.draw(rand);
+      }
+      timer.stop();
+    }
+  }
+
+  /**
+   * Drains a {@link WordPool} and prints the most memory its swap table took, which is its size at
+   * the end since it never shrinks, next to an {@code int[]} holding every index.
+   *
+   * @param size the number of words.
+   */
+  private static void poolMemory(int size) {
+    WordPool pool = new WordPool(size);
+    Random rand = new Random(size);
+    for (int i = 0; i < size; i++) {
+      sink += pool.draw(rand);
+    }
+    CONSOLE.printf(Locale.ROOT, "%-28s %-26s %,12d B table %,12d B int[]%n", "WordPool drained",
+        size + " words", pool.tableBytes(), (long) Integer.BYTES * size);
+  }
+
+  /**
+   * Draws every word the way {@link Hangman#chooseWord()} used to, retrying until it finds a word
+   * that is not in the list of used words.
+   *
+   * @param timer times the draws.
+   * @param size the number of words.
+   * @param rounds how many dictionaries to drain.
+   */
+  private static void drainLegacy(Timer timer, int size, int rounds) {
+    List<String> allWords = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      allWords.add("WORD" + i);
+    }
+    Random rand = new Random(size);
+    for (int r = 0; r < rounds; r++) {
+      List<String> guessedWords = new ArrayList<>();
+      timer.start();
+      for (int i = 0; i < size; i++) {
+        String word;
+        do {
+          word = allWords.get(rand.nextInt(allWords.size()));
+        } while (guessedWords.contains(word));
+        guessedWords.add(word);
+      }
+      timer.stop();
+      sink += guessedWords.size();
+    }
+  }
+
+  /**
+   * Times {@code count} calls to {@link Hangman#chooseWord()} after {@code skip} untimed calls.
+   *
+   * @param timer times the selected calls.
+   * @param words the dictionary.
+   * @param skip the number of words to use up first.
+   * @param count the number of calls to time.
+   */
+  private static void chooseWords(Timer timer, WordStore words, int skip, int count) {
+    Hangman game = new Hangman(false, words);
+    for (int i = 0; i < skip; i++) {
+      game.chooseWord();
+    }
+    timer.start();
+    for (int i = 0; i < count; i++) {
+      sink += game.chooseWord().length();
+    }
+    timer.stop();
+  }
+
+  /**
+   * Builds a {@link DifficultyIndex}.
+   *
+   * @param timer times the build.
+   * @param words the dictionary.
+   */
+  private static void buildIndex(Timer timer, WordStore words) {
+    timer.start();
+    DifficultyIndex index = new DifficultyIndex(words);
+    timer.stop();
+    sink += index.size(0);
+  }
+
+  /**
+   * Draws {@code draws} words in a range of levels.  When the range runs out a new selection is
+   * started, which is not timed.
+   *
+   * @param timer times the draws.
+   * @param index the index to draw from.
+   * @param minLevel the easiest level.
+   * @param maxLevel the hardest level.
+   * @param draws the number of words to draw.
+   */
+  private static void drawByDifficulty(Timer timer, DifficultyIndex index, int minLevel,
+      int maxLevel, int draws) {
+    SplittableRandom random = new SplittableRandom(338);
+    int done = 0;
+    while (done < draws) {
+      DifficultyIndex.Selection selection = index.newSelection();
+      int round = Math.min(draws - done, selection.remaining(minLevel, maxLevel));
+      timer.start();
+      for (int i = 0; i < round; i++) {
+        sink += selection.draw(minLevel, maxLevel, random);
+      }
+      timer.stop();
+      done += round;
+    }
+  }
+
+  /**
+   * Has {@code threads} threads each draw every word out of their own {@link WordPool}, the way
+   * {@link Hangman#chooseWord()} does.  The threads are started before the timer, and the bytes
+   * they allocate are added to it.
+   *
+   * @param timer times the draws, from when the threads are released until they all finish.
+   * @param threads the number of threads.
+   * @param draws the number of words each thread draws.
+   * @param randoms gives each thread its random number generator.
+   * @param perDraw if {@code true} each draw asks {@code randoms} for a new generator, the way
+   *     chooseWord used to create a new Random on every call.
+   */
+  private static void selectWords(Timer timer, int threads, int draws,
+      Supplier<RandomGenerator> randoms, boolean perDraw) {
+    CountDownLatch go = new CountDownLatch(1);
+    AtomicLong bytes = new AtomicLong();
+    Thread[] workers = new Thread[threads];
+    for (int t = 0; t < threads; t++) {
+      workers[t] = new Thread(() -> {
+        WordPool pool = new WordPool(draws);
+        awaitQuietly(go);
+        long start = allocatedBytes();
+        RandomGenerator random = randoms.get();
+        long sum = 0;
+        for (int i = 0; i < draws; i++) {
+          sum += pool.draw(perDraw ? randoms.get() : random);
+        }
+        bytes.addAndGet(allocatedBytes() - start);
+        synchronized (HangmanBenchmark.class) {
+          sink += sum;
+        }
+      });
+      workers[t].start();
+    }
+    timer.start();
+    go.countDown();
+    for (Thread worker : workers) {
+      try {
+        worker.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException(e);
+      }
+    }
+    timer.stop();
+    timer.addBytes(bytes.get());
+  }
+
+  /**
+   * Waits for a latch, for worker threads that cannot throw.
+   *
+   * @param latch the latch to wait for.
+   */
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Times one {@link Hangman#makeGuess(char)} per word.
+   *
+   * @param timer times the guesses.
+   * @param words the dictionary.
+   * @param hit if {@code true} the guess is a letter in the word, otherwise one that is not.
+   * @param output where the game prints.
+   */
+  private static void guess(Timer timer, WordStore words, boolean hit, GameOutput output) {
+    Hangman game = new Hangman(false, words, output);
+    for (int i = 0; i < words.size(); i++) {
+      String word = game.chooseWord();
+      char letter = hit ? word.charAt(0) : missingLetter(word);
+      timer.start();
+      sink += game.makeGuess(letter) ? 1 : 0;
+      timer.stop();
+    }
+  }
+
+  /**
+   * Guesses the whole of {@link HangmanBenchmark#GUESS_ORDER} on every word, either one letter at
+   * a time or as one batch.
+   *
+   * @param timer times the guesses.
+   * @param words the dictionary.
+   * @param batch if {@code true} use {@link Hangman#makeGuesses(CharSequence)}.
+   */
+  private static void guessAll(Timer timer, WordStore words, boolean batch) {
+    Hangman game = new Hangman(false, words, GameOutput.NONE);
+    for (int i = 0; i < words.size(); i++) {
+      game.chooseWord();
+      timer.start();
+      if (batch) {
+        sink += game.makeGuesses(GUESS_ORDER).length;
+      } else {
+        for (int j = 0; !game.isGameOver(); j++) {
+          sink += game.makeGuess(GUESS_ORDER.charAt(j)) ? 1 : 0;
+        }
+      }
+      timer.stop();
+    }
+  }
+
+  /**
+   * Times one {@link Hangman#getHint()} per word.
+   *
+   * @param timer times the hints.
+   * @param words the dictionary.
+   */
+  private static void hint(Timer timer, WordStore words) {
+    Hangman game = new Hangman(false, words);
+    for (int i = 0; i < words.size(); i++) {
+      game.chooseWord();
+      timer.start();
+      sink += game.getHint();
+      timer.stop();
+    }
+  }
+
+  /**
+   * Takes every hint on every word, or until the hints have won the game.
+   *
+   * @param timer times the hints.
+   * @param words the dictionary.
+   */
+  private static void allHints(Timer timer, WordStore words) {
+    Hangman game = new Hangman(false, words);
+    for (int i = 0; i < words.size(); i++) {
+      game.chooseWord();
+      timer.start();
+      while (game.getNumberOfHints() > 0 && !game.isGameOver()) {
+        sink += game.getHint();
+      }
+      timer.stop();
+    }
+  }
+
+  /**
+   * Takes every hint on every word with {@link LegacyGame}, or until the hints have won the game.
+   *
+   * @param timer times the hints.
+   * @param words the dictionary.
+   */
+  private static void allLegacyHints(Timer timer, WordStore words) {
+    LegacyGame game = new LegacyGame();
+    for (int i = 0; i < words.size(); i++) {
+      game.start(words.get(i));
+      timer.start();
+      while (game.numberOfHints > 0 && !game.isGameOver()) {
+        game.getHint();
+      }
+      timer.stop();
+      sink += game.remainingGuesses;
+    }
+  }
+
+  /**
+   * Times ten calls to {@link Hangman#isGameOver()} per word, halfway through a game.
+   *
+   * @param timer times the checks.
+   * @param words the dictionary.
+   */
+  private static void gameOver(Timer timer, WordStore words) {
+    Hangman game = new Hangman(false, words);
+    for (int i = 0; i < words.size(); i++) {
+      String word = game.chooseWord();
+      game.makeGuess(word.charAt(0));
+      timer.start();
+      for (int j = 0; j < 10; j++) {
+        sink += game.isGameOver() ? 1 : 0;
+      }
+      timer.stop();
+    }
+  }
+
+  /**
+   * Times ten calls to {@link Hangman#displayGameState()} per word, after two guesses.
+   *
+   * @param timer times the calls.
+   * @param words the dictionary.
+   */
+  private static void display(Timer timer, WordStore words) {
+    Hangman game = new Hangman(false, words);
+    for (int i = 0; i < words.size(); i++) {
+      String word = game.chooseWord();
+      game.makeGuess(word.charAt(0));
+      game.makeGuess(missingLetter(word));
+      timer.start();
+      for (int j = 0; j < 10; j++) {
+        sink += game.displayGameState().length();
+      }
+      timer.stop();
+    }
+  }
+
+  /**
+   * Plays one game on every word: a hint, then guesses in {@link HangmanBenchmark#GUESS_ORDER}
+   * until the game is over.
+   *
+   * @param timer times the games.
+   * @param words the dictionary.
+   */
+  private static void playGames(Timer timer, WordStore words) {
+    Hangman game = new Hangman(false, words);
+    timer.start();
+    for (int i = 0; i < words.size(); i++) {
+      game.chooseWord();
+      game.getHint();
+      for (int j = 0; !game.isGameOver(); j++) {
+        game.makeGuess(GUESS_ORDER.charAt(j));
+      }
+      sink += game.getScore();
+    }
+    timer.stop();
+  }
+
+  /**
+   * Plays the same games as {@link HangmanBenchmark#playGames(Timer, WordStore)} with no output,
+   * so that the cost of recording metrics is not hidden by printing.
+   *
+   * @param timer times the games.
+   * @param words the dictionary.
+   * @param metrics where the games record, or {@link GameMetrics#NONE}.
+   */
+  private static void playMeasuredGames(Timer timer, WordStore words, GameMetrics metrics) {
+    Hangman game = new Hangman(false, words, GameOutput.NONE);
+    game.setMetrics(metrics);
+    timer.start();
+    for (int i = 0; i < words.size(); i++) {
+      game.chooseWord();
+      game.getHint();
+      for (int j = 0; !game.isGameOver(); j++) {
+        game.makeGuess(GUESS_ORDER.charAt(j));
+      }
+      sink += game.getScore();
+    }
+    timer.stop();
+  }
+
+  /**
+   * Plays the same games as {@link HangmanBenchmark#playGames(Timer, WordStore)} with
+   * {@link LegacyGame}.
+   *
+   * @param timer times the games.
+   * @param words the dictionary.
+   */
+  private static void playLegacyGames(Timer timer, WordStore words) {
+    LegacyGame game = new LegacyGame();
+    timer.start();
+    for (int i = 0; i < words.size(); i++) {
+      game.start(words.get(i));
+      game.getHint();
+      for (int j = 0; !game.isGameOver(); j++) {
+        game.makeGuess(GUESS_ORDER.charAt(j));
+      }
+      sink += game.score + game.remainingGuesses;
+    }
+    timer.stop();
+  }
+
+  /**
+   * Plays one scripted {@link GameLoader#hangman()} session per word: ask for a hint, then guess
+   * letters in {@link HangmanBenchmark#GUESS_ORDER} until the game is over.  Each session is a new
+   * loader reading the script from memory, over one shared dictionary.  Loading the dictionary is
+   * not timed.
+   *
+   * @param timer times the sessions.
+   * @param file the word file.
+   * @throws IOException if the word file cannot be read.
+   */
+  private static void sessions(Timer timer, Path file) throws IOException {
+    StringBuilder script = new StringBuilder("2\n");
+    for (char c : GUESS_ORDER.toCharArray()) {
+      script.append("1\n").append(c).append('\n');
+    }
+    byte[] input = script.toString().getBytes(StandardCharsets.UTF_8);
+
+    WordStore words = new WordStore();
+    words.load(file);
+    words.freeze();
+    GameOutput screen = new BufferedGameOutput(OutputStream.nullOutputStream());
+    timer.start();
+    for (int i = 0; i < SESSIONS; i++) {
+      GameLoader loader = new GameLoader(words, new ByteArrayInputStream(input), screen);
+      sink += loader.hangman();
+    }
+    timer.stop();
+  }
+
+  /**
+   * Finds a letter that is not in a word.
+   *
+   * @param word an uppercase word.
+   * @return the first letter of {@link HangmanBenchmark#GUESS_ORDER} missing from {@code word}.
+   */
+  private static char missingLetter(String word) {
+    for (char c : GUESS_ORDER.toCharArray()) {
+      if (word.indexOf(c) < 0) {
+        return c;
+      }
+    }
+    return '1';
+  }
+
+  /**
+   * Writes a temporary word file of random words from 3 to 12 letters long.
+   *
+   * @param size the number of words.
+   * @return the file.
+   * @throws IOException if the file cannot be written.
+   */
+  private static Path writeWords(int size) throws IOException {
+    Path file = Files.createTempFile("benchWords", ".txt");
+    WordStore words = RandomWords.of(size);
+    try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+      for (String word : words) {
+        writer.write(word);
+        writer.write('\n');
+      }
+    }
+    return file;
+  }
+
+  /**
+   * Writes every result as a JSON array.
+   *
+   * @param file where to write.
+   * @throws IOException if the file cannot be written.
+   */
+  private static void writeJson(Path file) throws IOException {
+    StringBuilder json = new StringBuilder("[\n");
+    for (int i = 0; i < RESULTS.size(); i++) {
+      Result result = RESULTS.get(i);
+      json.append(String.format(Locale.ROOT,
+          "  {\"benchmark\": \"%s\", \"params\": \"%s\", \"nsPerOp\": %.2f, \"bytesPerOp\": %.2f}",
+          result.name, result.params, result.nanosPerOp, result.bytesPerOp));
+      json.append(i + 1 < RESULTS.size() ? ",\n" : "\n");
+    }
+    json.append("]\n");
+    Files.writeString(file, json);
+  }
+
+  /**
+   * Reads the number of bytes the current thread has allocated.
+   *
+   * @return the allocated bytes, or -1 if the JVM does not track them.
+   */
+  private static long allocatedBytes() {
+    if (THREADS instanceof com.sun.management.ThreadMXBean) {
+      return ((com.sun.management.ThreadMXBean) THREADS).getCurrentThreadAllocatedBytes();
+    }
+    return -1;
+  }
+
+  /**
+   * A benchmark scenario.
+   */
+  private interface Scenario {
+
+    /**
+     * Runs the scenario once.
+     *
+     * @param timer must be started and stopped around the code being measured.
+     * @throws IOException if the scenario reads or writes files.
+     */
+    void run(Timer timer) throws IOException;
+  }
+
+  /**
+   * Adds up the time and allocation between each {@link Timer#start()} and {@link Timer#stop()}.
+   */
+  private static final class Timer {
+
+    /**
+     * Total nanoseconds measured.
+     */
+    private long nanos;
+    /**
+     * Total bytes allocated, or -1 if allocation is not tracked.
+     */
+    private long bytes;
+    /**
+     * The clock when {@link Timer#start()} was called.
+     */
+    private long startNanos;
+    /**
+     * The allocation counter when {@link Timer#start()} was called.
+     */
+    private long startBytes;
+
+    /**
+     * Starts measuring.
+     */
+    void start() {
+      startBytes = allocatedBytes();
+      startNanos = System.nanoTime();
+    }
+
+    /**
+     * Stops measuring and adds what was measured to the totals.
+     */
+    void stop() {
+      long end = System.nanoTime();
+      nanos += end - startNanos;
+      bytes = startBytes < 0 || bytes < 0 ? -1 : bytes + allocatedBytes() - startBytes;
+    }
+
+    /**
+     * Adds bytes allocated by other threads while the timer was running.
+     *
+     * @param allocated the bytes to add.
+     */
+    void addBytes(long allocated) {
+      bytes = bytes < 0 ? -1 : bytes + allocated;
+    }
+  }
+
+  /**
+   * The outcome of one scenario.
+   */
+  private static final class Result {
+
+    /**
+     * What was measured.
+     */
+    private final String name;
+    /**
+     * The size or variant of the scenario.
+     */
+    private final String params;
+    /**
+     * Average time per operation.
+     */
+    private final double nanosPerOp;
+    /**
+     * Average bytes allocated per operation, or -1 if allocation is not tracked.
+     */
+    private final double bytesPerOp;
+
+    /**
+     * Creates a result.
+     *
+     * @param name what was measured.
+     * @param params the size or variant of the scenario.
+     * @param nanosPerOp average time per operation.
+     * @param bytesPerOp average bytes allocated per operation.
+     */
+    Result(String name, String params, double nanosPerOp, double bytesPerOp) {
+      this.name = name;
+      this.params = params;
+      this.nanosPerOp = nanosPerOp;
+      this.bytesPerOp = bytesPerOp;
+    }
+  }
+
+  /**
+   * The guess logic Hangman had before the letter bitmask: a {@code List<Character>} of guesses,
+   * a scan of the secret word per guess and a search for "_" to check for a win.  Kept here so
+   * the two can be compared.
+   */
+  private static class LegacyGame {
+
+    /**
+     * The word being guessed.
+     */
+    private String secretWord;
+    /**
+     * The word with unguessed letters replaced by "_".
+     */
+    private StringBuilder guessedWord;
+    /**
+     * Wrong guesses left.
+     */
+    private int remainingGuesses;
+    /**
+     * Correct letters found.
+     */
+    private int score;
+    /**
+     * Hints left.
+     */
+    private int numberOfHints;
+    /**
+     * Every letter guessed.
+     */
+    private List<Character> guessedLetters;
+
+    /**
+     * Sets up a game the way chooseWord used to.
+     *
+     * @param word the word to guess.
+     */
+    void start(String word) {
+      secretWord = word.toUpperCase();
+      remainingGuesses = secretWord.length() - 1;
+      numberOfHints = Math.floorDiv(remainingGuesses, 2);
+      score = 0;
+      guessedLetters = new ArrayList<>();
+      guessedWord = new StringBuilder("_".repeat(secretWord.length()));
+    }
+
+    /**
+     * Reveals the first unguessed letter.
+     */
+    void getHint() {
+      if (numberOfHints <= 0) {
+        System.out.println("No more hints!");
+        return;
+      }
+      for (int i = 0; i < secretWord.length(); i++) {
+        char c = secretWord.charAt(i);
+        if (!guessedLetters.contains(c)) {
+          makeGuess(c);
+          numberOfHints--;
+          break;
+        }
+      }
+    }
+
+    /**
+     * Guesses a letter.
+     *
+     * @param letter the letter to guess.
+     */
+    void makeGuess(char letter) {
+      letter = Character.toUpperCase(letter);
+      if (guessedLetters.contains(letter)) {
+        System.out.println(letter + " has already been guessed");
+        return;
+      }
+      System.out.println("You chose: " + letter);
+      guessedLetters.add(letter);
+      boolean found = false;
+      for (int i = 0; i < secretWord.length(); i++) {
+        if (secretWord.charAt(i) == letter) {
+          guessedWord.setCharAt(i, letter);
+          score++;
+          found = true;
+        }
+      }
+      if (found) {
+        System.out.println(letter + " was present!");
+      } else {
+        remainingGuesses--;
+        System.out.println(letter + " was not present!");
+      }
+    }
+
+    /**
+     * Checks for a win or a loss.
+     *
+     * @return {@code true} if the game is over.
+     */
+    boolean isGameOver() {
+      return !guessedWord.toString().contains("_") || remainingGuesses == 0;
+    }
+  }
+}
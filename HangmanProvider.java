@@ -0,0 +1,43 @@
+/**
+ * Makes the {@link Hangman} game for {@link GameRegistry}.  Listed in
+ * {@code META-INF/services/GameProvider}, and also built into the registry, so Hangman is offered
+ * even when that file is not on the class path.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+public class HangmanProvider implements GameProvider {
+
+  /**
+   * The name shown in the menu.
+   */
+  public static final String NAME = "Hangman";
+
+  @Override
+  public String getName() {
+    return NAME;
+  }
+
+  /**
+   * Makes a game over the settings' words if it has some.  Otherwise reads
+   * {@link GameSettings#getWordsFile()}, and records used words in
+   * {@link GameSettings#getUsedWordsFile()} if there is one.
+   *
+   * @param settings what the loader was given.
+   * @return a new game.
+   */
+  @Override
+  public Game create(GameSettings settings) {
+    if (settings.getWords() != null) {
+      return new Hangman(false, settings.getWords(), settings.getOutput());
+    }
+    Hangman hangman = new Hangman(false, new WordStore(), settings.getOutput());
+    if (settings.getWordsFile() != null) {
+      hangman.readFile(settings.getWordsFile());
+    }
+    if (settings.getUsedWordsFile() != null) {
+      hangman.trackUsedWords(settings.getUsedWordsFile());
+    }
+    return hangman;
+  }
+}
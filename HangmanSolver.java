@@ -0,0 +1,576 @@
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bot that keeps track of every dictionary word that still fits the board, and guesses the
+ * letter that tells it the most about which one is the secret word.
+ * <br>
+ * The candidates are a bitset over the words of the secret word's length in a
+ * {@link CandidateIndex}.  After each guess the bitset is ANDed with the index's bitsets:
+ * <ul>
+ *   <li>a miss removes every word containing the letter.</li>
+ *   <li>a hit keeps the words with the letter at exactly the revealed positions.</li>
+ * </ul>
+ * Only the blocks between the first and last candidate are touched, so the work shrinks with the
+ * candidates.
+ * <br>
+ * A guess splits the candidates into groups by where the letter would appear, or a group where it
+ * does not.  The expected information of the guess is the entropy of that split, and the letter
+ * with the most is suggested.  Ties go to the letter most likely to be in the word.  While there
+ * are more than {@link HangmanSolver#EXACT_LIMIT} candidates only the hit or miss split is
+ * counted, with one popcount per block per letter.  Below that, each candidate's letters are
+ * read to count every split exactly.  The first guess for each length is worked out exactly by the
+ * index.
+ * <br>
+ * One solver plays one game at a time and is not thread safe.  Any number of solvers can share an
+ * index.  Run {@code java HangmanSolver [wordFile] [gamesPerWord] [seed]} to measure how many games
+ * it wins.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+public final class HangmanSolver implements GuessStrategy {
+
+  /**
+   * Above this many candidates, only whether a letter hits or misses is counted.
+   */
+  private static final int EXACT_LIMIT = 2048;
+  /**
+   * Where a letter appears in words longer than this does not fit in a pattern key, so only
+   * whether it hits or misses is counted.
+   */
+  private static final int EXACT_MAX_LENGTH = 58;
+  /**
+   * Every letter from 'A' to 'Z', as a bit mask.
+   */
+  private static final int ALL_LETTERS = (1 << CandidateIndex.ALPHABET) - 1;
+  /**
+   * Marks an empty entry in {@link HangmanSolver#patternKeys}.
+   */
+  private static final long EMPTY = 0;
+
+  /**
+   * The dictionary.
+   */
+  private final CandidateIndex index;
+  /**
+   * The words with the secret word's length, or {@code null} if there are none.
+   */
+  private CandidateIndex.Group group;
+  /**
+   * A bit for every word in {@link HangmanSolver#group} that still fits the board.
+   */
+  private final long[] candidates;
+  /**
+   * The first block of {@link HangmanSolver#candidates} that may have a bit set.
+   */
+  private int from;
+  /**
+   * One past the last block of {@link HangmanSolver#candidates} that may have a bit set.
+   */
+  private int to;
+  /**
+   * The number of bits set in {@link HangmanSolver#candidates}.
+   */
+  private int remaining;
+  /**
+   * Bit {@code letter - 'A'} is set once the result of guessing {@code letter} has been applied.
+   */
+  private int learned;
+  /**
+   * Where a letter was revealed, filled in by the game.
+   */
+  private int[] positions = new int[16];
+  /**
+   * Whether each position was revealed by the letter being applied.
+   */
+  private boolean[] revealed = new boolean[16];
+  /**
+   * For each letter, the number of candidates containing it.
+   */
+  private final int[] present = new int[CandidateIndex.ALPHABET];
+  /**
+   * For each letter, the sum of {@code n log2 n} over the sizes of the groups it splits the
+   * candidates into.
+   */
+  private final double[] spread = new double[CandidateIndex.ALPHABET];
+  /**
+   * Where each letter appears in the word being counted.
+   */
+  private final long[] masks = new long[CandidateIndex.ALPHABET];
+  /**
+   * Keys of the pattern table, a letter's positions shifted left by 5 with the letter in the low
+   * bits.  A letter that appears has at least one position, so no key is
+   * {@link HangmanSolver#EMPTY}.
+   */
+  private long[] patternKeys = new long[1024];
+  /**
+   * The number of candidates with each pattern in {@link HangmanSolver#patternKeys}.
+   */
+  private int[] patternCounts = new int[1024];
+  /**
+   * The slots used in the pattern table, so it can be read and cleared without a full pass.
+   */
+  private int[] patternSlots = new int[512];
+  /**
+   * The number of entries in the pattern table.
+   */
+  private int patterns;
+
+  /**
+   * Creates a solver.
+   *
+   * @param index the dictionary the secret words come from.
+   */
+  public HangmanSolver(CandidateIndex index) {
+    this.index = index;
+    candidates = new long[index.maxBlocks()];
+  }
+
+  /**
+   * Starts a new game.  Every word of the given length is a candidate.
+   *
+   * @param length the length of the secret word.
+   */
+  public void reset(int length) {
+    group = index.group(length);
+    learned = 0;
+    if (positions.length < length) {
+      positions = new int[length];
+      revealed = new boolean[length];
+    }
+    if (group == null) {
+      from = to = remaining = 0;
+      return;
+    }
+    from = 0;
+    to = group.blocks;
+    Arrays.fill(candidates, 0, to, -1L);
+    if ((group.size & 63) != 0) {
+      candidates[to - 1] = (1L << group.size) - 1;
+    }
+    remaining = group.size;
+  }
+
+  /**
+   * Applies the result of a guess.  Guessing the same letter again, or anything that is not a
+   * letter, changes nothing.
+   *
+   * @param letter the letter that was guessed, in either case.
+   * @param positions where the letter was revealed, from 0.
+   * @param found the number of entries in {@code positions}.  0 means the guess was a miss.
+   */
+  public void learn(char letter, int[] positions, int found) {
+    int c = Character.toUpperCase(letter) - 'A';
+    if (c < 0 || c >= CandidateIndex.ALPHABET || (learned & (1 << c)) != 0) {
+      return;
+    }
+    learned |= 1 << c;
+    if (remaining == 0) {
+      return;
+    }
+    int blocks = group.blocks;
+    if (found == 0) {
+      long[] has = group.has;
+      int base = c * blocks;
+      for (int b = from; b < to; b++) {
+        candidates[b] &= ~has[base + b];
+      }
+    } else {
+      int length = group.length;
+      long[] at = group.at;
+      for (int i = 0; i < found; i++) {
+        revealed[positions[i]] = true;
+      }
+      for (int b = from; b < to; b++) {
+        long fits = candidates[b];
+        for (int p = 0; p < length && fits != 0; p++) {
+          long bits = at[(p * CandidateIndex.ALPHABET + c) * blocks + b];
+          fits &= revealed[p] ? bits : ~bits;
+        }
+        candidates[b] = fits;
+      }
+      for (int i = 0; i < found; i++) {
+        revealed[positions[i]] = false;
+      }
+    }
+    recount();
+  }
+
+  /**
+   * Picks the letter to guess next.
+   *
+   * @param guessed a bit mask of letters that must not be suggested, bit 0 for 'A'.  Letters that
+   *     have been learned are never suggested.
+   * @return the letter with the most expected information, or the most common letter in English
+   *     that is left if no candidate fits the board.
+   */
+  public char suggest(int guessed) {
+    int open = ~(guessed | learned) & ALL_LETTERS;
+    if (remaining == 0 || open == 0) {
+      return fallback(open);
+    }
+    if (learned == 0 && group.firstGuess != 0 && (open & bit(group.firstGuess)) != 0) {
+      return group.firstGuess;
+    }
+    if (remaining > EXACT_LIMIT || group.length > EXACT_MAX_LENGTH) {
+      countHits(open);
+    } else {
+      countPatterns();
+    }
+    return best(open);
+  }
+
+  /**
+   * Works out the best first guess for a length, counting every split exactly however many words
+   * there are.  Used by {@link CandidateIndex} when it is built.
+   *
+   * @param length a word length with at least one word.
+   * @return the letter with the most expected information.
+   */
+  char bestFirstGuess(int length) {
+    reset(length);
+    if (group.length > EXACT_MAX_LENGTH) {
+      countHits(ALL_LETTERS);
+    } else {
+      countPatterns();
+    }
+    return best(ALL_LETTERS);
+  }
+
+  /**
+   * Used to see how far the candidates have been narrowed.
+   *
+   * @return the number of words that fit the board.
+   */
+  public int remaining() {
+    return remaining;
+  }
+
+  /**
+   * Lists the words that fit the board.
+   *
+   * @return the dictionary index of every candidate, in dictionary order.
+   */
+  public int[] candidates() {
+    int[] result = new int[remaining];
+    int n = 0;
+    for (int b = from; b < to; b++) {
+      for (long bits = candidates[b]; bits != 0; bits &= bits - 1) {
+        result[n++] = group.words[(b << 6) + Long.numberOfTrailingZeros(bits)];
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public void newGame(Hangman game) {
+    reset(game.getWordLength());
+  }
+
+  /**
+   * Applies every letter guessed in {@code game} since the last move, including hints, then
+   * suggests the next letter.
+   *
+   * @param game the game being played.
+   * @param random not used.  The solver always makes the same guess for the same board.
+   * @return the letter to guess.
+   */
+  @Override
+  public char nextGuess(Hangman game, SplittableRandom random) {
+    int guessed = 0;
+    for (int c = 0; c < CandidateIndex.ALPHABET; c++) {
+      char letter = (char) ('A' + c);
+      if (game.hasGuessed(letter)) {
+        guessed |= 1 << c;
+        if ((learned & (1 << c)) == 0) {
+          learn(letter, positions, game.getRevealedPositions(letter, positions));
+        }
+      }
+    }
+    return suggest(guessed);
+  }
+
+  /**
+   * Takes a hint when one more miss would lose and the word is not known yet.
+   *
+   * @param game the game being played.
+   * @return {@code true} to call {@link Hangman#getHint()}.
+   */
+  @Override
+  public boolean wantsHint(Hangman game) {
+    return game.getRemainingGuesses() == 1 && remaining != 1;
+  }
+
+  /**
+   * Counts, for every open letter, how many candidates contain it.  The split is then just hit or
+   * miss.
+   *
+   * @param open the letters to count.
+   */
+  private void countHits(int open) {
+    int blocks = group.blocks;
+    long[] has = group.has;
+    Arrays.fill(present, 0);
+    Arrays.fill(spread, 0);
+    for (int rest = open; rest != 0; rest &= rest - 1) {
+      int c = Integer.numberOfTrailingZeros(rest);
+      int base = c * blocks;
+      int count = 0;
+      for (int b = from; b < to; b++) {
+        count += Long.bitCount(candidates[b] & has[base + b]);
+      }
+      present[c] = count;
+      spread[c] = nLogN(count);
+    }
+    addMisses();
+  }
+
+  /**
+   * Counts, for every letter, how many candidates have it at each set of positions.
+   */
+  private void countPatterns() {
+    int length = group.length;
+    byte[] letters = group.letters;
+    Arrays.fill(present, 0);
+    Arrays.fill(spread, 0);
+    for (int b = from; b < to; b++) {
+      for (long bits = candidates[b]; bits != 0; bits &= bits - 1) {
+        int start = ((b << 6) + Long.numberOfTrailingZeros(bits)) * length;
+        int seen = 0;
+        for (int p = 0; p < length; p++) {
+          int c = letters[start + p];
+          if (c == CandidateIndex.OTHER) {
+            continue;
+          }
+          if ((seen & (1 << c)) == 0) {
+            seen |= 1 << c;
+            masks[c] = 0;
+          }
+          masks[c] |= 1L << p;
+        }
+        for (int rest = seen; rest != 0; rest &= rest - 1) {
+          int c = Integer.numberOfTrailingZeros(rest);
+          present[c]++;
+          countPattern(masks[c] << 5 | c);
+        }
+      }
+    }
+    for (int i = 0; i < patterns; i++) {
+      int slot = patternSlots[i];
+      spread[(int) (patternKeys[slot] & 31)] += nLogN(patternCounts[slot]);
+      patternKeys[slot] = EMPTY;
+    }
+    patterns = 0;
+    addMisses();
+  }
+
+  /**
+   * Adds the group of candidates that do not contain each letter to {@link HangmanSolver#spread}.
+   */
+  private void addMisses() {
+    for (int c = 0; c < CandidateIndex.ALPHABET; c++) {
+      spread[c] += nLogN(remaining - present[c]);
+    }
+  }
+
+  /**
+   * Picks the open letter whose split has the most entropy, which is the one with the least
+   * {@link HangmanSolver#spread}.  Letters are tried from most to least common, so a tie that is
+   * not broken by the number of candidates containing the letter goes to the more common one.
+   *
+   * @param open the letters that may be picked.
+   * @return the best letter.
+   */
+  private char best(int open) {
+    char best = 0;
+    double bestSpread = Double.MAX_VALUE;
+    int bestPresent = -1;
+    for (int i = 0; i < FREQUENCY_ORDER.length(); i++) {
+      char letter = FREQUENCY_ORDER.charAt(i);
+      int c = letter - 'A';
+      if ((open & (1 << c)) == 0) {
+        continue;
+      }
+      if (spread[c] < bestSpread || (spread[c] == bestSpread && present[c] > bestPresent)) {
+        best = letter;
+        bestSpread = spread[c];
+        bestPresent = present[c];
+      }
+    }
+    return bestPresent > 0 ? best : fallback(open);
+  }
+
+  /**
+   * Adds one to the count for a pattern.
+   *
+   * @param key the letter's positions shifted left by 5, with the letter in the low bits.
+   */
+  private void countPattern(long key) {
+    int mask = patternKeys.length - 1;
+    int i = hash(key) & mask;
+    while (patternKeys[i] != EMPTY) {
+      if (patternKeys[i] == key) {
+        patternCounts[i]++;
+        return;
+      }
+      i = (i + 1) & mask;
+    }
+    patternKeys[i] = key;
+    patternCounts[i] = 1;
+    if (patterns == patternSlots.length) {
+      patternSlots = Arrays.copyOf(patternSlots, patterns * 2);
+    }
+    patternSlots[patterns++] = i;
+    if (patterns * 2 > patternKeys.length) {
+      growPatterns();
+    }
+  }
+
+  /**
+   * Doubles the size of the pattern table.
+   */
+  private void growPatterns() {
+    long[] oldKeys = patternKeys;
+    int[] oldCounts = patternCounts;
+    patternKeys = new long[oldKeys.length * 2];
+    patternCounts = new int[oldKeys.length * 2];
+    int mask = patternKeys.length - 1;
+    for (int j = 0; j < patterns; j++) {
+      int old = patternSlots[j];
+      int i = hash(oldKeys[old]) & mask;
+      while (patternKeys[i] != EMPTY) {
+        i = (i + 1) & mask;
+      }
+      patternKeys[i] = oldKeys[old];
+      patternCounts[i] = oldCounts[old];
+      patternSlots[j] = i;
+    }
+  }
+
+  /**
+   * Drops empty blocks from both ends of the candidates and counts what is left.
+   */
+  private void recount() {
+    while (from < to && candidates[from] == 0) {
+      from++;
+    }
+    while (to > from && candidates[to - 1] == 0) {
+      to--;
+    }
+    int count = 0;
+    for (int b = from; b < to; b++) {
+      count += Long.bitCount(candidates[b]);
+    }
+    remaining = count;
+  }
+
+  /**
+   * The most common letter in English that is open, for when the candidates are no help.
+   *
+   * @param open the letters that may be picked.
+   * @return a letter, or 'A' if none is open.
+   */
+  private static char fallback(int open) {
+    for (int i = 0; i < FREQUENCY_ORDER.length(); i++) {
+      char letter = FREQUENCY_ORDER.charAt(i);
+      if ((open & bit(letter)) != 0) {
+        return letter;
+      }
+    }
+    return 'A';
+  }
+
+  /**
+   * The bit for a letter.
+   *
+   * @param letter a letter from 'A' to 'Z'.
+   * @return its bit in a letter mask.
+   */
+  private static int bit(char letter) {
+    return 1 << (letter - 'A');
+  }
+
+  /**
+   * {@code n log2 n}, the part a group of {@code n} candidates takes away from the entropy of a
+   * split.
+   *
+   * @param n the size of a group.
+   * @return {@code n log2 n}, or 0 for an empty group.
+   */
+  private static double nLogN(int n) {
+    return n <= 1 ? 0 : n * Math.log(n) / Math.log(2);
+  }
+
+  /**
+   * Spreads the bits of a pattern key over the table.
+   *
+   * @param key a pattern key.
+   * @return a hash of the key.
+   */
+  private static int hash(long key) {
+    long h = key * 0x9E3779B97F4A7C15L;
+    return (int) (h ^ (h >>> 32));
+  }
+
+  /**
+   * Plays every word with the solver and with {@link GuessStrategy#frequency()} and prints how
+   * many games each wins, and how long a solver move takes.
+   *
+   * @param args optionally a word file, the number of games per word and a seed.  Without a word
+   *     file, 100,000 random words are used.
+   * @throws IOException if the word file cannot be read.
+   */
+  public static void main(String[] args) throws IOException {
+    WordStore words;
+    if (args.length > 0) {
+      words = new WordStore();
+      new WordIngester(words).ingest(Path.of(args[0]));
+    } else {
+      words = RandomWords.of(100_000);
+    }
+    int gamesPerWord = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+    long seed = args.length > 2 ? Long.parseLong(args[2]) : 338;
+
+    long start = System.nanoTime();
+    CandidateIndex index = new CandidateIndex(words);
+    System.out.printf(Locale.ROOT, "indexed %,d words in %.0f ms%n", words.size(),
+        (System.nanoTime() - start) / 1e6);
+
+    LongAdder moves = new LongAdder();
+    GameSimulator solver = new GameSimulator(words, () -> new GuessStrategy() {
+      private final HangmanSolver solver = new HangmanSolver(index);
+
+      @Override
+      public void newGame(Hangman game) {
+        solver.newGame(game);
+      }
+
+      @Override
+      public char nextGuess(Hangman game, SplittableRandom random) {
+        moves.increment();
+        return solver.nextGuess(game, random);
+      }
+
+      @Override
+      public boolean wantsHint(Hangman game) {
+        return solver.wantsHint(game);
+      }
+    });
+    solver.run(1, seed); // warm up
+    moves.reset();
+    start = System.nanoTime();
+    GameSimulator.Result result = solver.run(gamesPerWord, seed);
+    double seconds = (System.nanoTime() - start) / 1e9;
+    System.out.println("solver:    " + result);
+    System.out.printf(Locale.ROOT, "%,.0f games/s, %.2f guesses per game, %.2f us per guess%n",
+        result.getGames() / seconds, moves.doubleValue() / result.getGames(),
+        seconds * 1e6 / moves.doubleValue());
+    System.out.println("frequency: "
+        + new GameSimulator(words, GuessStrategy::frequency).run(gamesPerWord, seed));
+  }
+}
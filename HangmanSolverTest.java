@@ -0,0 +1,108 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link HangmanSolver} and {@link CandidateIndex}.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+class HangmanSolverTest {
+
+  /**
+   * After every guess in a game the candidates are exactly the words a full scan says fit the
+   * board.
+   */
+  @Test
+  void candidatesMatchAScan() {
+    WordStore words = RandomWords.of(5_000, 3, 6);
+    CandidateIndex index = new CandidateIndex(words);
+    HangmanSolver solver = new HangmanSolver(index);
+    Hangman game = new Hangman(false, words, GameOutput.NONE);
+    SplittableRandom random = new SplittableRandom(3);
+    for (int i = 0; i < 200; i++) {
+      game.chooseWord(random.nextInt(words.size()));
+      solver.newGame(game);
+      assertEquals(index.size(game.getWordLength()), solver.remaining());
+      while (!game.isGameOver()) {
+        game.makeGuess(solver.nextGuess(game, random));
+        solver.nextGuess(game, random);
+        String board = game.getGuessedWordString();
+        int[] expected = IntStream.range(0, words.size())
+            .filter(w -> fits(words.get(w), board, game))
+            .toArray();
+        assertArrayEquals(expected, solver.candidates(), board);
+        assertEquals(expected.length, solver.remaining());
+      }
+    }
+  }
+
+  /**
+   * The first guess splits the words the most, and once one word is left the solver only guesses
+   * its letters.
+   */
+  @Test
+  void guessesTheBestSplit() {
+    WordStore words = new WordStore();
+    for (String word : new String[] {"CAT", "BAT", "HAT", "MAT", "COT", "CUT"}) {
+      words.append(word);
+    }
+    CandidateIndex index = new CandidateIndex(words);
+    HangmanSolver solver = new HangmanSolver(index);
+    solver.reset(3);
+    // A splits 4 to 2 and C splits 3 to 3, so C has the most information
+    assertEquals('C', solver.suggest(0));
+    solver.learn('C', new int[] {0}, 1);
+    assertEquals(3, solver.remaining());
+    // each vowel now picks out one word, so the tie goes to the most common letter
+    assertEquals('A', solver.suggest(0));
+    solver.learn('A', new int[0], 0);
+    solver.learn('O', new int[0], 0);
+    assertEquals(1, solver.remaining());
+    assertEquals("CUT", words.get(solver.candidates()[0]));
+    assertEquals('T', solver.suggest(0));
+    assertEquals('U', solver.suggest(1 << ('T' - 'A')));
+  }
+
+  /**
+   * The solver wins more games than guessing by letter frequency, and its results are the same
+   * on every run.
+   */
+  @Test
+  void beatsFrequency() {
+    WordStore words = RandomWords.of(20_000);
+    CandidateIndex index = new CandidateIndex(words);
+    GameSimulator.Result solved = new GameSimulator(words, () -> new HangmanSolver(index))
+        .run(1, 5);
+    GameSimulator.Result frequency = new GameSimulator(words, GuessStrategy::frequency)
+        .run(1, 5);
+    assertTrue(solved.getWinRate() > frequency.getWinRate(), solved + " vs " + frequency);
+    assertEquals(solved, new GameSimulator(words, () -> new HangmanSolver(index)).run(1, 5));
+  }
+
+  /**
+   * Checks a word against a board the slow way.
+   *
+   * @param word a dictionary word.
+   * @param board the revealed letters, with '_' for hidden ones.
+   * @param game the game, for its guessed letters.
+   * @return {@code true} if {@code word} could be the secret word.
+   */
+  private static boolean fits(String word, String board, Hangman game) {
+    if (word.length() != board.length()) {
+      return false;
+    }
+    for (int p = 0; p < word.length(); p++) {
+      char shown = board.charAt(p);
+      if (shown == '_' ? game.hasGuessed(word.charAt(p)) : shown != word.charAt(p)) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -1,15 +1,27 @@
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Random;
+import java.util.Set;
+import java.util.SplittableRandom;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -157,6 +169,135 @@ class HangmanTest {
   }
 
 
+  /**
+   * Once every word has been chosen there is nothing left, and asking for another word fails
+   * instead of looping forever.
+   */
+  @Test
+  void chooseWordExhausted() {
+    List<String> chosen = new ArrayList<>();
+    for (int i = 0; i < DEFAULT_WORDS.size(); i++) {
+      assertEquals(DEFAULT_WORDS.size() - i, game.getCountWordsRemaining());
+      String word = game.chooseWord();
+      assertFalse(chosen.contains(word));
+      chosen.add(word);
+    }
+    assertEquals(0, game.getCountWordsRemaining());
+    assertThrows(IllegalStateException.class, () -> game.chooseWord());
+  }
+
+  /**
+   * Two games with the same seed choose the same words in the same order, so a game can be
+   * replayed from its seed.
+   */
+  @Test
+  void seededChooseWordIsReplayable() {
+    WordStore words = new WordStore();
+    for (String word : DEFAULT_WORDS) {
+      words.append(word);
+    }
+    RandomSource source = RandomSource.seeded(338);
+    Hangman first = new Hangman(false, words, GameOutput.NONE, source.newStream());
+    Hangman second = new Hangman(false, words, GameOutput.NONE, source.newStream());
+    Hangman replay = new Hangman(false, words, GameOutput.NONE, RandomSource.stream(338, 0));
+    List<String> order = new ArrayList<>();
+    for (int i = 0; i < words.size(); i++) {
+      String word = first.chooseWord();
+      order.add(word);
+      assertEquals(word, replay.chooseWord());
+    }
+    List<String> other = new ArrayList<>();
+    for (int i = 0; i < words.size(); i++) {
+      other.add(second.chooseWord());
+    }
+    assertEquals(words.size(), order.stream().distinct().count());
+    assertNotEquals(order, other);
+  }
+
+  /**
+   * Neighbouring streams of a seeded source are not the same sequence shifted by a step, so the
+   * games they choose words for are independent.
+   */
+  @Test
+  void seededStreamsDoNotOverlap() {
+    int length = 64;
+    for (long index = 0; index < 100; index++) {
+      SplittableRandom stream = RandomSource.stream(338, index);
+      SplittableRandom next = RandomSource.stream(338, index + 1);
+      Set<Long> seen = new HashSet<>();
+      Set<Long> nextSeen = new HashSet<>();
+      for (int i = 0; i < length; i++) {
+        seen.add(stream.nextLong());
+        nextSeen.add(next.nextLong());
+      }
+      nextSeen.retainAll(seen);
+      assertTrue(nextSeen.isEmpty(), "streams " + index + " and " + (index + 1) + " overlap");
+    }
+  }
+
+  /**
+   * Words chosen by one game are not chosen again by a later game that uses the same record, as
+   * if the program had been restarted.  A closed game has let go of its record.
+   *
+   * @throws IOException if the record cannot be created or removed.
+   */
+  @Test
+  void usedWordsSurviveRestart() throws IOException {
+    Path record = Files.createTempFile("testWords", ".used");
+    Files.delete(record);
+    try {
+      assertTrue(game.trackUsedWords(record.toString()));
+      List<String> chosen = new ArrayList<>();
+      chosen.add(game.chooseWord());
+      chosen.add(game.chooseWord());
+      game.saveUsedWords();
+      game.close();
+      assertThrows(IllegalStateException.class, () -> game.chooseWord());
+
+      Hangman restarted = new Hangman(debug);
+      restarted.readFile(testFile);
+      assertTrue(restarted.trackUsedWords(record.toString()));
+      assertEquals(DEFAULT_WORDS.size() - 2, restarted.getCountWordsRemaining());
+      for (int i = 2; i < DEFAULT_WORDS.size(); i++) {
+        String word = restarted.chooseWord();
+        assertFalse(chosen.contains(word));
+        chosen.add(word);
+      }
+      assertEquals(0, restarted.getCountWordsRemaining());
+      assertThrows(IllegalStateException.class, () -> restarted.chooseWord());
+      restarted.close();
+    } finally {
+      Files.delete(record);
+    }
+  }
+
+  /**
+   * Used words cannot be tracked by a game that draws from a shared pool, in either order, since
+   * other games would draw the words an earlier run used and the count of words left would be
+   * wrong.
+   *
+   * @throws IOException if the record cannot be created or removed.
+   */
+  @Test
+  void usedWordsNeedOwnPool() throws IOException {
+    Path record = Files.createTempFile("testWords", ".used");
+    Files.delete(record);
+    try {
+      WordStore words = RandomWords.of(10);
+      SharedWordPool pool = new SharedWordPool(words);
+      Hangman pooled = new Hangman(debug, words);
+      pooled.useSharedPool(pool);
+      assertThrows(IllegalStateException.class, () -> pooled.trackUsedWords(record.toString()));
+
+      Hangman tracked = new Hangman(debug, words);
+      assertTrue(tracked.trackUsedWords(record.toString()));
+      assertThrows(IllegalStateException.class, () -> tracked.useSharedPool(pool));
+      tracked.close();
+    } finally {
+      Files.deleteIfExists(record);
+    }
+  }
+
   /**
    * Since this is testing print statement on a randomly chosen word... it's not a great test
    * This SHOULD load a file with a single word, hard code a string with the proper output,
@@ -237,6 +378,140 @@ class HangmanTest {
     System.out.println("Final score: " + game.exit());
   }
 
+  /**
+   * Guessing a letter a second time, in either case, is not counted again.
+   */
+  @Test
+  void repeatGuess() {
+    String word = game.chooseWord();
+    char hit = word.charAt(0);
+    int remaining = game.getRemainingGuesses();
+    assertTrue(game.makeGuess(Character.toLowerCase(hit)));
+    assertFalse(game.makeGuess(hit));
+    assertEquals(remaining, game.getRemainingGuesses());
+    assertFalse(game.makeGuess('1'));
+    assertFalse(game.makeGuess('1'));
+    assertEquals(remaining - 1, game.getRemainingGuesses());
+    assertEquals("[" + hit + ", 1]", game.getGuessedLetters());
+    assertEquals(word.chars().filter(c -> c == hit).count(),
+        game.getGuessedWordString().chars().filter(c -> c == hit).count());
+  }
+
+  /**
+   * A batch of guesses leaves the game exactly where the same guesses one at a time would, and
+   * stops once the game is over.
+   */
+  @Test
+  void batchMatchesSequential() {
+    Random random = new Random(338);
+    for (String word : DEFAULT_WORDS) {
+      WordStore words = new WordStore();
+      words.append(word);
+      for (int round = 0; round < 50; round++) {
+        StringBuilder letters = new StringBuilder();
+        for (int i = 0; i < 12; i++) {
+          letters.append(LETTERS.get(random.nextInt(LETTERS.size())));
+        }
+        Hangman one = new Hangman(false, words, GameOutput.NONE);
+        Hangman batch = new Hangman(false, words, GameOutput.NONE);
+        one.chooseWord();
+        batch.chooseWord();
+
+        byte[] results = batch.makeGuesses(letters);
+        int made = 0;
+        while (made < letters.length() && !one.isGameOver()) {
+          char c = letters.charAt(made);
+          boolean repeat = one.getGuessedLetters().indexOf(c) >= 0;
+          boolean hit = one.makeGuess(c);
+          assertEquals(repeat ? Hangman.GUESS_REPEAT : hit ? Hangman.GUESS_HIT : Hangman.GUESS_MISS,
+              results[made]);
+          made++;
+        }
+        assertEquals(made, results.length);
+        assertEquals(one.displayGameState(), batch.displayGameState());
+        assertEquals(one.getScore(), batch.getScore());
+      }
+    }
+  }
+
+  /**
+   * By default a hint reveals the letter that fills in the most blanks, skipping letters already
+   * guessed, and the policy can be changed.
+   */
+  @Test
+  void hintPolicies() {
+    WordStore words = new WordStore();
+    words.append("BANANAS");
+    Hangman hinted = new Hangman(false, words, GameOutput.NONE);
+    hinted.chooseWord(0);
+    hinted.getHint();
+    assertEquals("_A_A_A_", hinted.getGuessedWordString());
+    hinted.getHint();
+    assertEquals("_ANANA_", hinted.getGuessedWordString());
+
+    hinted.chooseWord(0);
+    hinted.makeGuess('A');
+    hinted.getHint();
+    assertEquals("_ANANA_", hinted.getGuessedWordString());
+
+    hinted.setHintPolicy(HintPolicy.LEFT_TO_RIGHT);
+    hinted.chooseWord(0);
+    hinted.getHint();
+    assertEquals("B______", hinted.getGuessedWordString());
+
+    hinted.setHintPolicy(HintPolicy.RAREST_FIRST);
+    hinted.chooseWord(0);
+    hinted.getHint();
+    assertEquals("B______", hinted.getGuessedWordString());
+    hinted.getHint();
+    assertEquals("B_____S", hinted.getGuessedWordString());
+  }
+
+  /**
+   * The state is only built again after something changes it, and the bytes match the String.
+   *
+   * @throws IOException if the state cannot be written.
+   */
+  @Test
+  void stateIsCached() throws IOException {
+    WordStore words = new WordStore();
+    words.append("BANANAS");
+    Hangman cached = new Hangman(false, words, GameOutput.NONE);
+    cached.chooseWord(0);
+    String state = cached.displayGameState();
+    String board = cached.getGuessedWordString();
+    assertSame(state, cached.displayGameState());
+    assertSame(board, cached.getGuessedWordString());
+
+    cached.makeGuess('A');
+    String afterGuess = cached.displayGameState();
+    assertNotSame(state, afterGuess);
+    assertEquals("Guessed Word: _A_A_A_\nRemaining Guesses: 6\nRemaining hints: 3\n"
+        + "Guessed Letters: [A]", afterGuess);
+    int version = cached.getStateVersion();
+    cached.makeGuess('A');
+    assertEquals(version, cached.getStateVersion());
+    assertSame(afterGuess, cached.displayGameState());
+    assertSame(cached.getGuessedLetters(), cached.getGuessedLetters());
+
+    cached.getHint();
+    cached.makeGuess('Z');
+    assertEquals("Guessed Word: _ANANA_\nRemaining Guesses: 5\nRemaining hints: 2\n"
+        + "Guessed Letters: [A, N, Z]", cached.displayGameState());
+    assertSame(cached.getGameStateBytes(), cached.getGameStateBytes());
+    ByteArrayOutputStream written = new ByteArrayOutputStream();
+    cached.writeGameState(Channels.newChannel(written));
+    cached.writeGameState(Channels.newChannel(written));
+    String twice = cached.displayGameState() + cached.displayGameState();
+    assertEquals(twice, written.toString(StandardCharsets.UTF_8));
+
+    cached.makeGuess('\u00c9');
+    assertEquals(cached.displayGameState(),
+        StandardCharsets.UTF_8.decode(cached.getGameStateBytes()).toString());
+    cached.exit();
+    assertTrue(cached.displayGameState().contains("Remaining Guesses: 0"));
+  }
+
   /**
    * Testing the hint system.
    */
@@ -0,0 +1,44 @@
+/**
+ * Decides which letter {@link Hangman#getHint()} reveals.
+ * <br>
+ * When a word is chosen, every different letter in it is scored once and the letters are ranked
+ * from the highest score down.  Each hint then reveals the best ranked letter that has not been
+ * guessed yet, so a policy is only called when a word is chosen, never while hints are taken.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+@FunctionalInterface
+public interface HintPolicy {
+
+  /**
+   * Reveals the letter that fills in the most blanks.  Ties go to the letter that appears first.
+   * This is the default.
+   */
+  HintPolicy MOST_POSITIONS = (letter, occurrences, firstPosition, length) ->
+      occurrences * length - firstPosition;
+
+  /**
+   * Reveals letters from the left of the word to the right, the way hints used to work.
+   */
+  HintPolicy LEFT_TO_RIGHT = (letter, occurrences, firstPosition, length) -> -firstPosition;
+
+  /**
+   * Reveals the letter a player is least likely to guess, by its place in
+   * {@link GuessStrategy#FREQUENCY_ORDER}.  Ties go to the letter that fills in more blanks.
+   */
+  HintPolicy RAREST_FIRST = (letter, occurrences, firstPosition, length) ->
+      GuessStrategy.FREQUENCY_ORDER.indexOf(letter) * length + occurrences;
+
+  /**
+   * Scores one letter of the secret word.  Higher scores are revealed first, and letters with the
+   * same score are revealed in alphabetical order.
+   *
+   * @param letter an uppercase letter in the word.
+   * @param occurrences how many times the letter appears.
+   * @param firstPosition where the letter first appears, counting from 0.
+   * @param length the length of the word.
+   * @return the letter's score.
+   */
+  int score(char letter, int occurrences, int firstPosition, int length);
+}
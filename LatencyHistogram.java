@@ -0,0 +1,289 @@
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts how long something took, in nanoseconds, in log-linear buckets the way an HDR histogram
+ * does.
+ * <br>
+ * Values below 64 get a bucket each.  Above that, every power of two is split into
+ * {@link LatencyHistogram#SUB_BUCKETS} buckets of equal width, so any value is reported to within
+ * about 3% however large it is, and the whole range of a {@code long} fits in under 2,000 buckets.
+ * Finding a value's bucket is a shift and a count of leading zeros.
+ * <br>
+ * Every bucket is a {@link LongAdder}, so many threads can record at once without contending on
+ * one counter.  Reading a percentile sums every bucket, so it is meant for a metrics poll, not a
+ * hot path.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+public final class LatencyHistogram {
+
+  /**
+   * log2 of {@link LatencyHistogram#SUB_BUCKETS}.
+   */
+  private static final int SUB_BITS = 5;
+  /**
+   * The number of buckets each power of two is split into.
+   */
+  private static final int SUB_BUCKETS = 1 << SUB_BITS;
+  /**
+   * Enough buckets for every non-negative {@code long}.
+   */
+  private static final int BUCKETS = (64 - SUB_BITS) * SUB_BUCKETS;
+
+  /**
+   * The number of values in each bucket.
+   */
+  private final LongAdder[] counts = new LongAdder[BUCKETS];
+  /**
+   * The number of values recorded.
+   */
+  private final LongAdder count = new LongAdder();
+  /**
+   * The sum of the values recorded.
+   */
+  private final LongAdder total = new LongAdder();
+  /**
+   * The largest value recorded.
+   */
+  private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+  /**
+   * Creates an empty histogram.
+   */
+  public LatencyHistogram() {
+    for (int i = 0; i < BUCKETS; i++) {
+      counts[i] = new LongAdder();
+    }
+  }
+
+  /**
+   * Records one value.
+   *
+   * @param nanos how long something took.  Negative values are recorded as 0.
+   */
+  public void record(long nanos) {
+    long value = Math.max(0, nanos);
+    counts[bucket(value)].increment();
+    count.increment();
+    total.add(value);
+    max.accumulate(value);
+  }
+
+  /**
+   * standard getter
+   *
+   * @return the number of values recorded.
+   */
+  public long getCount() {
+    return count.sum();
+  }
+
+  /**
+   * Used to report the average.
+   *
+   * @return the mean of the values recorded, or 0 if there are none.
+   */
+  public double getMean() {
+    long n = count.sum();
+    return n == 0 ? 0 : (double) total.sum() / n;
+  }
+
+  /**
+   * standard getter
+   *
+   * @return the largest value recorded, exactly, or 0 if there are none.
+   */
+  public long getMax() {
+    return max.get();
+  }
+
+  /**
+   * Finds the value that a given fraction of the values are at or below.
+   *
+   * @param percentile from 0 to 100.
+   * @return the highest value in the bucket holding that percentile, which is within about 3% of
+   *     the true value, or 0 if nothing has been recorded.
+   */
+  public long getPercentile(double percentile) {
+    if (percentile < 0 || percentile > 100) {
+      throw new IllegalArgumentException("Percentile must be from 0 to 100: " + percentile);
+    }
+    long[] snapshot = new long[BUCKETS];
+    long n = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      snapshot[i] = counts[i].sum();
+      n += snapshot[i];
+    }
+    if (n == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(percentile / 100 * n));
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += snapshot[i];
+      if (seen >= rank) {
+        return Math.min(highest(i), max.get());
+      }
+    }
+    return max.get();
+  }
+
+  /**
+   * Takes the usual percentiles at once, for reporting.
+   *
+   * @return the count, mean, median, 90th, 99th percentile and max.
+   */
+  public Summary summarize() {
+    return new Summary(getCount(), getMean(), getPercentile(50), getPercentile(90),
+        getPercentile(99), getMax());
+  }
+
+  /**
+   * Forgets every value recorded.  Values recorded while this runs may or may not be kept.
+   */
+  public void reset() {
+    for (LongAdder bucket : counts) {
+      bucket.reset();
+    }
+    count.reset();
+    total.reset();
+    max.reset();
+  }
+
+  /**
+   * Finds the bucket for a value.
+   *
+   * @param value a non-negative value.
+   * @return its bucket.
+   */
+  static int bucket(long value) {
+    int shift = Math.max(0, 63 - Long.numberOfLeadingZeros(value) - SUB_BITS);
+    return (shift << SUB_BITS) + (int) (value >>> shift);
+  }
+
+  /**
+   * Finds the highest value that goes in a bucket.
+   *
+   * @param bucket a bucket.
+   * @return the largest value with that bucket.
+   */
+  static long highest(int bucket) {
+    int shift = Math.max(0, (bucket >>> SUB_BITS) - 1);
+    long lowest = (long) (bucket - (shift << SUB_BITS)) << shift;
+    return lowest + (1L << shift) - 1;
+  }
+
+  /**
+   * The usual percentiles of a histogram at one moment.  Exposed over JMX as composite data.
+   */
+  public static final class Summary {
+
+    /**
+     * The number of values.
+     */
+    private final long count;
+    /**
+     * The mean value.
+     */
+    private final double mean;
+    /**
+     * The median.
+     */
+    private final long p50;
+    /**
+     * The 90th percentile.
+     */
+    private final long p90;
+    /**
+     * The 99th percentile.
+     */
+    private final long p99;
+    /**
+     * The largest value.
+     */
+    private final long max;
+
+    /**
+     * Creates a summary.
+     *
+     * @param count the number of values.
+     * @param mean the mean value.
+     * @param p50 the median.
+     * @param p90 the 90th percentile.
+     * @param p99 the 99th percentile.
+     * @param max the largest value.
+     */
+    public Summary(long count, double mean, long p50, long p90, long p99, long max) {
+      this.count = count;
+      this.mean = mean;
+      this.p50 = p50;
+      this.p90 = p90;
+      this.p99 = p99;
+      this.max = max;
+    }
+
+    /**
+     * standard getter
+     *
+     * @return the number of values.
+     */
+    public long getCount() {
+      return count;
+    }
+
+    /**
+     * standard getter
+     *
+     * @return the mean, in nanoseconds.
+     */
+    public double getMean() {
+      return mean;
+    }
+
+    /**
+     * standard getter
+     *
+     * @return the median, in nanoseconds.
+     */
+    public long getP50() {
+      return p50;
+    }
+
+    /**
+     * standard getter
+     *
+     * @return the 90th percentile, in nanoseconds.
+     */
+    public long getP90() {
+      return p90;
+    }
+
+    /**
+     * standard getter
+     *
+     * @return the 99th percentile, in nanoseconds.
+     */
+    public long getP99() {
+      return p99;
+    }
+
+    /**
+     * standard getter
+     *
+     * @return the largest value, in nanoseconds.
+     */
+    public long getMax() {
+      return max;
+    }
+
+    @Override
+    public String toString() {
+      return String.format(Locale.ROOT,
+          "%,d values, mean %.0f ns, p50 %,d ns, p90 %,d ns, p99 %,d ns, max %,d ns",
+          count, mean, p50, p90, p99, max);
+    }
+  }
+}
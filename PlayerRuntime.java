@@ -0,0 +1,125 @@
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs many players at once, each on its own thread with its own keyboard and screen.
+ * <br>
+ * Every player gets a {@link GameLoader} that reads from the player's {@link InputStream} and
+ * prints to the player's {@link PrintStream}, and all of them share one frozen {@link WordStore}.
+ * A player's {@link GameLoader#gameLoop()} spends nearly all its time waiting for the next line,
+ * so on a JDK with virtual threads each player runs on a virtual thread and a waiting player
+ * costs a few hundred bytes instead of a platform thread.  On older JDKs, such as the Java 17
+ * this project targets, a pool of at most {@link PlayerRuntime#DEFAULT_MAX_THREADS} platform
+ * threads is used instead, so tens of thousands of players do not mean tens of thousands of
+ * threads.  There, a player who joins while every thread is busy waits for another player to
+ * leave before their game starts.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+public class PlayerRuntime implements AutoCloseable {
+
+  /**
+   * The most platform threads used when the JDK has no virtual threads.
+   */
+  public static final int DEFAULT_MAX_THREADS = 1_000;
+
+  /**
+   * The words shared by every player.
+   */
+  private final WordStore words;
+  /**
+   * Runs one task per player.
+   */
+  private final ExecutorService players;
+  /**
+   * {@code true} if {@link PlayerRuntime#players} uses virtual threads.
+   */
+  private final boolean virtual;
+
+  /**
+   * Creates a runtime over a dictionary.  The store is frozen so players can share it.
+   *
+   * @param words the words to play with.
+   */
+  public PlayerRuntime(WordStore words) {
+    this(words, DEFAULT_MAX_THREADS);
+  }
+
+  /**
+   * Creates a runtime over a dictionary.  The store is frozen so players can share it.
+   *
+   * @param words the words to play with.
+   * @param maxThreads the most platform threads to use if the JDK has no virtual threads.
+   */
+  public PlayerRuntime(WordStore words, int maxThreads) {
+    this.words = words.freeze();
+    ExecutorService executor = virtualThreadExecutor();
+    virtual = executor != null;
+    if (virtual) {
+      players = executor;
+    } else {
+      ThreadPoolExecutor pool = new ThreadPoolExecutor(maxThreads, maxThreads, 30,
+          TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+      pool.allowCoreThreadTimeOut(true);
+      players = pool;
+    }
+  }
+
+  /**
+   * Starts a player's {@link GameLoader#gameLoop()}.  The player leaves when they choose "zz" or
+   * their input runs out.
+   *
+   * @param in the player's keyboard.
+   * @param out the player's screen.
+   * @return completes when the player has left.
+   */
+  public Future<?> join(InputStream in, PrintStream out) {
+    return players.submit(() -> new GameLoader(words, in, out).gameLoop());
+  }
+
+  /**
+   * standard getter
+   *
+   * @return {@code true} if each player runs on a virtual thread.
+   */
+  public boolean isVirtual() {
+    return virtual;
+  }
+
+  /**
+   * Waits for every player to leave and stops the threads.  If the waiting thread is interrupted
+   * the players are interrupted too.
+   */
+  @Override
+  public void close() {
+    players.shutdown();
+    try {
+      players.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      players.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Looks up {@code Executors.newVirtualThreadPerTaskExecutor()}, which only exists on JDKs that
+   * have virtual threads.
+   *
+   * @return a virtual thread per task executor, or {@code null} if this JDK does not have one.
+   */
+  private static ExecutorService virtualThreadExecutor() {
+    try {
+      return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+          .invoke(null);
+    } catch (ReflectiveOperationException e) {
+      return null;
+    }
+  }
+}
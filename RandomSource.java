@@ -0,0 +1,132 @@
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out the random number streams that games use to choose words.
+ * <br>
+ * Every game gets its own {@link SplittableRandom}, so games on different threads never share
+ * (and never wait on) the same seed, and choosing a word allocates nothing.  Without a seed each
+ * stream is seeded on its own.  With a seed, stream {@code n} is always seeded the same way from
+ * the seed and {@code n}, so a run can be played again exactly.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+public final class RandomSource {
+
+  /**
+   * Steps from one stream number to the next before they are mixed, from
+   * {@link SplittableRandom}'s own constant.
+   */
+  private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+  /**
+   * {@code true} if the streams come from {@link RandomSource#seed}.
+   */
+  private final boolean seeded;
+  /**
+   * The seed of the whole source.  Unused if {@link RandomSource#seeded} is {@code false}.
+   */
+  private final long seed;
+  /**
+   * The number of streams handed out so far.
+   */
+  private final AtomicLong streams = new AtomicLong();
+
+  /**
+   * Creates a source.
+   *
+   * @param seeded whether to use the seed.
+   * @param seed the seed.
+   */
+  private RandomSource(boolean seeded, long seed) {
+    this.seeded = seeded;
+    this.seed = seed;
+  }
+
+  /**
+   * Creates a source whose streams are all seeded independently.
+   *
+   * @return a new source.
+   */
+  public static RandomSource unseeded() {
+    return new RandomSource(false, 0);
+  }
+
+  /**
+   * Creates a source whose streams are all derived from one seed.
+   *
+   * @param seed the seed.
+   * @return a new source.
+   */
+  public static RandomSource seeded(long seed) {
+    return new RandomSource(true, seed);
+  }
+
+  /**
+   * The stream numbered {@code index} of a seeded source.  This is what
+   * {@link RandomSource#newStream()} returns for that stream, and can be used to replay one game
+   * without replaying the ones before it.
+   *
+   * @param seed the seed of the source.
+   * @param index the number of the stream.
+   * @return a new stream.
+   */
+  public static SplittableRandom stream(long seed, long index) {
+    return new SplittableRandom(mix64(seed + GOLDEN_GAMMA * (index + 1)));
+  }
+
+  /**
+   * Scrambles every bit of a value into every other bit (the finaliser {@link SplittableRandom}
+   * uses on its own output).  A {@link SplittableRandom} seeded with {@code s + GOLDEN_GAMMA} gives
+   * the same numbers as one seeded with {@code s}, one step later, so neighbouring stream numbers
+   * are mixed first to give seeds that have nothing to do with each other.
+   *
+   * @param z the value to mix.
+   * @return the mixed value.
+   */
+  private static long mix64(long z) {
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+
+  /**
+   * Creates the next stream.  This is safe to call from any thread, but the stream itself must
+   * only be used by one thread at a time.
+   *
+   * @return a new stream.
+   */
+  public SplittableRandom newStream() {
+    return streamFor(streams.getAndIncrement());
+  }
+
+  /**
+   * Creates a particular stream, for callers that number their own games.
+   *
+   * @param index the number of the stream.
+   * @return {@link RandomSource#stream(long, long)} if this source is seeded, otherwise an
+   *     independently seeded stream.
+   */
+  public SplittableRandom streamFor(long index) {
+    return seeded ? stream(seed, index) : new SplittableRandom();
+  }
+
+  /**
+   * standard getter
+   *
+   * @return {@code true} if the streams can be replayed from the seed.
+   */
+  public boolean isSeeded() {
+    return seeded;
+  }
+
+  /**
+   * standard getter
+   *
+   * @return the seed, or 0 if the source is not seeded.
+   */
+  public long getSeed() {
+    return seed;
+  }
+}
@@ -0,0 +1,50 @@
+import java.util.Random;
+
+/**
+ * Makes dictionaries of random words, for the simulator and the solver when they are run without a
+ * word file, and for the benchmarks and tests.  The same size always gives the same words.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+final class RandomWords {
+
+  /**
+   * Not for creating.
+   */
+  private RandomWords() {
+  }
+
+  /**
+   * Creates a dictionary of random words from 3 to 12 letters long.
+   *
+   * @param size the number of words.
+   * @return the words.
+   */
+  static WordStore of(int size) {
+    return of(size, 3, 12);
+  }
+
+  /**
+   * Creates a dictionary of random upper case words.
+   *
+   * @param size the number of words.
+   * @param minLength the shortest word.
+   * @param maxLength the longest word.
+   * @return the words.
+   */
+  static WordStore of(int size, int minLength, int maxLength) {
+    WordStore words = new WordStore();
+    Random rand = new Random(size);
+    StringBuilder word = new StringBuilder();
+    for (int i = 0; i < size; i++) {
+      word.setLength(0);
+      int length = minLength + rand.nextInt(maxLength - minLength + 1);
+      for (int j = 0; j < length; j++) {
+        word.append((char) ('A' + rand.nextInt(26)));
+      }
+      words.append(word.toString());
+    }
+    return words;
+  }
+}
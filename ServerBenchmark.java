@@ -0,0 +1,289 @@
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A load generator for {@link GameServer} over loopback.  It is not a test, run it by hand with
+ * {@code java ServerBenchmark [connections] [server threads]}.
+ * <br>
+ * Starts a server on a free port over one shared dictionary, then runs two scenarios for a few
+ * seconds each:
+ * <ol>
+ *   <li>A few threads connect, start a game, exit and close, over and over, and the connections
+ *   per second are reported.</li>
+ *   <li>1, 10, 100... up to the number of connections (2,000 by default) are opened at once from
+ *   one client thread, and each plays game after game, one command at a time.  The guesses per
+ *   second are reported with the 50th and 99th percentile time from sending a guess to reading its
+ *   answer.  Once the server is saturated, each added connection only adds waiting time, so the
+ *   small counts show the latency of a guess and the large ones show the throughput.</li>
+ * </ol>
+ * The clients run in the same process as the server, so on a machine with few cores they compete
+ * with it for the CPU.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+public class ServerBenchmark {
+
+  /**
+   * The number of connections playing at once when none is given.
+   */
+  private static final int DEFAULT_CONNECTIONS = 2_000;
+  /**
+   * The number of words in the shared dictionary.
+   */
+  private static final int WORDS = 200_000;
+  /**
+   * The number of threads opening and closing connections.
+   */
+  private static final int CHURN_THREADS = 4;
+  /**
+   * How long each scenario is run for, after warming up for as long again.
+   */
+  private static final long RUN_MILLIS = 3_000;
+  /**
+   * The order letters are guessed in, most common English letters first.
+   */
+  private static final String GUESS_ORDER = "ETAOINSHRDLUCMFWYPVBGKJQXZ";
+
+  /**
+   * Runs the load test.
+   *
+   * @param args optionally, the number of connections and the number of server threads.
+   * @throws IOException if the server or a connection fails.
+   * @throws InterruptedException if interrupted while waiting for the clients.
+   */
+  public static void main(String[] args) throws IOException, InterruptedException {
+    int connections = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_CONNECTIONS;
+    int threads = args.length > 1 ? Integer.parseInt(args[1])
+        : Runtime.getRuntime().availableProcessors();
+    WordStore words = RandomWords.of(WORDS);
+    InetSocketAddress loopback = new InetSocketAddress(InetAddress.getLoopbackAddress(), 0);
+    try (GameServer server = new GameServer(words, loopback, threads)) {
+      InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(),
+          server.getPort());
+      System.out.printf(Locale.ROOT, "server with %d threads%n", threads);
+      churn(address);
+      double rate = churn(address);
+      System.out.printf(Locale.ROOT, "%,14.0f connections/s%n", rate);
+      for (int count = 1; count < connections; count *= 10) {
+        play(address, count);
+      }
+      play(address, connections);
+    }
+  }
+
+  /**
+   * Connects, starts a game, exits and closes, on {@link ServerBenchmark#CHURN_THREADS} threads.
+   *
+   * @param address the server.
+   * @return connections per second.
+   * @throws InterruptedException if interrupted while waiting for the threads.
+   */
+  private static double churn(InetSocketAddress address) throws InterruptedException {
+    LongAdder done = new LongAdder();
+    long deadline = System.nanoTime() + RUN_MILLIS * 1_000_000;
+    List<Thread> clients = new ArrayList<>();
+    for (int t = 0; t < CHURN_THREADS; t++) {
+      clients.add(new Thread(() -> {
+        ByteBuffer commands = ByteBuffer.wrap("N\nX\n".getBytes(StandardCharsets.US_ASCII));
+        ByteBuffer answers = ByteBuffer.allocate(256);
+        while (System.nanoTime() < deadline) {
+          try (SocketChannel channel = SocketChannel.open(address)) {
+            // reset rather than wait in TIME_WAIT, so the loopback ports are not used up
+            channel.setOption(StandardSocketOptions.SO_LINGER, 0);
+            commands.clear();
+            channel.write(commands);
+            answers.clear();
+            int lines = 0;
+            while (lines < 3 && channel.read(answers) > 0) {
+              lines = countLines(answers);
+            }
+            if (lines < 3) {
+              throw new IOException("The server closed early");
+            }
+          } catch (IOException e) {
+            throw new IllegalStateException(e);
+          }
+          done.increment();
+        }
+      }));
+    }
+    long start = System.nanoTime();
+    clients.forEach(Thread::start);
+    for (Thread client : clients) {
+      client.join();
+    }
+    return done.sum() / ((System.nanoTime() - start) / 1e9);
+  }
+
+  /**
+   * Opens the connections and has each play games until the time is up, timing every guess.
+   *
+   * @param address the server.
+   * @param connections the number of connections.
+   * @throws IOException if a connection fails.
+   */
+  private static void play(InetSocketAddress address, int connections) throws IOException {
+    LatencyHistogram latency = new LatencyHistogram();
+    try (Selector selector = Selector.open()) {
+      List<Client> clients = new ArrayList<>();
+      for (int i = 0; i < connections; i++) {
+        SocketChannel channel = SocketChannel.open();
+        channel.configureBlocking(false);
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        channel.connect(address);
+        Client client = new Client(channel, latency);
+        clients.add(client);
+        channel.register(selector, SelectionKey.OP_CONNECT, client);
+      }
+      long warmUp = System.nanoTime() + RUN_MILLIS * 1_000_000;
+      long end = warmUp + RUN_MILLIS * 1_000_000;
+      boolean warm = false;
+      while (System.nanoTime() < end) {
+        if (!warm && System.nanoTime() >= warmUp) {
+          latency.reset();
+          warm = true;
+        }
+        selector.select(100);
+        Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+        while (keys.hasNext()) {
+          SelectionKey key = keys.next();
+          keys.remove();
+          Client client = (Client) key.attachment();
+          if (key.isConnectable()) {
+            client.channel.finishConnect();
+            key.interestOps(SelectionKey.OP_READ);
+          } else {
+            client.read();
+          }
+        }
+      }
+      for (Client client : clients) {
+        client.channel.close();
+      }
+    }
+    System.out.printf(Locale.ROOT,
+        "%,d connections %,14.0f guesses/s, latency p50 %,d ns, p99 %,d ns, max %,d ns%n",
+        connections, latency.getCount() / (RUN_MILLIS / 1e3), latency.getPercentile(50),
+        latency.getPercentile(99), latency.getMax());
+  }
+
+  /**
+   * Counts the line breaks in a buffer being filled.
+   *
+   * @param buffer the buffer, with its data before its position.
+   * @return the number of line breaks.
+   */
+  private static int countLines(ByteBuffer buffer) {
+    int lines = 0;
+    for (int i = 0; i < buffer.position(); i++) {
+      if (buffer.get(i) == '\n') {
+        lines++;
+      }
+    }
+    return lines;
+  }
+
+  /**
+   * One connection playing games: it answers every line from the server with its next command.
+   */
+  private static final class Client {
+
+    /**
+     * The connection.
+     */
+    private final SocketChannel channel;
+    /**
+     * Where guess times are recorded.
+     */
+    private final LatencyHistogram latency;
+    /**
+     * Bytes read and not yet handled.
+     */
+    private final ByteBuffer in = ByteBuffer.allocate(256);
+    /**
+     * The command being sent.
+     */
+    private final ByteBuffer out = ByteBuffer.allocate(8);
+    /**
+     * The next letter of {@link ServerBenchmark#GUESS_ORDER} to guess.
+     */
+    private int next;
+    /**
+     * When the last guess was sent, or 0 if the last command was not a guess.
+     */
+    private long sentAt;
+
+    /**
+     * Creates a client.
+     *
+     * @param channel the connection.
+     * @param latency where guess times are recorded.
+     */
+    Client(SocketChannel channel, LatencyHistogram latency) {
+      this.channel = channel;
+      this.latency = latency;
+    }
+
+    /**
+     * Reads what the server sent and answers each whole line.
+     *
+     * @throws IOException if the connection fails.
+     */
+    void read() throws IOException {
+      if (channel.read(in) < 0) {
+        throw new IOException("The server closed a connection");
+      }
+      in.flip();
+      int start = in.position();
+      for (int i = start; i < in.limit(); i++) {
+        if (in.get(i) == '\n') {
+          answer(start, i);
+          start = i + 1;
+        }
+      }
+      in.position(start);
+      in.compact();
+    }
+
+    /**
+     * Sends the command that follows an answer: a guess while the game is being played, or a new
+     * game otherwise.
+     *
+     * @param start where the answer starts in {@link Client#in}.
+     * @param end where its line break is.
+     * @throws IOException if the connection fails.
+     */
+    private void answer(int start, int end) throws IOException {
+      long now = System.nanoTime();
+      if (sentAt != 0) {
+        latency.record(now - sentAt);
+        sentAt = 0;
+      }
+      out.clear();
+      if (in.get(end - 1) == 'Y' && next < GUESS_ORDER.length()) {
+        out.put((byte) 'G').put((byte) ' ').put((byte) GUESS_ORDER.charAt(next++));
+        sentAt = now;
+      } else {
+        out.put((byte) 'N');
+        next = 0;
+      }
+      out.put((byte) '\n').flip();
+      while (out.hasRemaining()) {
+        channel.write(out);
+      }
+    }
+  }
+}
@@ -0,0 +1,356 @@
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A load test for {@link SessionManager}.  It is not a test, run it by hand with
+ * {@code java SessionBenchmark [sessions]}.
+ * <br>
+ * Opens the sessions (100,000 by default) over one shared dictionary and reports the heap used
+ * per session, and how long it takes to checkpoint them all to a file and restore them.  Then, for
+ * 1, 2, 4... up to the number of cores, that many threads play games
+ * across all the sessions for a few seconds, and the games per second are reported so the
+ * scaling can be seen.
+ * <br>
+ * Then one thread plays as many sessions again with every event written to a
+ * {@link GameEventLog}, the games per second are compared with the first run, and the log is
+ * replayed with {@link GameReplay} to report events replayed per second.
+ * <br>
+ * Then one game is played on its own, and again with {@link SessionBenchmark#SPECTATORS}
+ * spectators watching it through a {@link GameBroadcast} from two threads.  The player's CPU time
+ * per guess is reported for both, since on a machine with few cores the spectator threads take
+ * wall clock time from the player without slowing its guesses.
+ * <br>
+ * Last, 1, 2, 4... up to {@link SessionBenchmark#MAX_POOL_THREADS} threads drain one
+ * {@link SharedWordPool} together, and the draws per second are reported.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+public class SessionBenchmark {
+
+  /**
+   * The number of sessions opened when none is given.
+   */
+  private static final int DEFAULT_SESSIONS = 100_000;
+  /**
+   * The number of words in the shared dictionary.
+   */
+  private static final int WORDS = 200_000;
+  /**
+   * The number of words in the shared pool scenario.
+   */
+  private static final int POOL_WORDS = 10_000_000;
+  /**
+   * The most threads that drain the shared pool at once.
+   */
+  private static final int MAX_POOL_THREADS = 64;
+  /**
+   * The number of spectators watching the broadcast game.
+   */
+  private static final int SPECTATORS = 10_000;
+  /**
+   * The number of threads polling the spectators.
+   */
+  private static final int SPECTATOR_THREADS = 2;
+  /**
+   * How long each thread count is run for.
+   */
+  private static final long RUN_MILLIS = 3_000;
+  /**
+   * The order letters are guessed in, most common English letters first.
+   */
+  private static final String GUESS_ORDER = "ETAOINSHRDLUCMFWYPVBGKJQXZ";
+  /**
+   * Where the results are printed.  {@link System#out} is swapped out while the games run.
+   */
+  private static final PrintStream CONSOLE = System.out;
+
+  /**
+   * Runs the load test.
+   *
+   * @param args optionally, the number of sessions to open.
+   * @throws InterruptedException if interrupted while waiting for the players.
+   * @throws IOException if the checkpoint or event log file cannot be written.
+   */
+  public static void main(String[] args) throws InterruptedException, IOException {
+    int sessionCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SESSIONS;
+    System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    try {
+      SessionManager manager = new SessionManager(RandomWords.of(WORDS));
+      long before = usedHeap();
+      long[] ids = new long[sessionCount];
+      for (int i = 0; i < sessionCount; i++) {
+        ids[i] = manager.open();
+      }
+      long after = usedHeap();
+      CONSOLE.printf(Locale.ROOT, "%d sessions, about %d bytes each%n", manager.size(),
+          (after - before) / sessionCount);
+      checkpoint(manager);
+
+      int cores = Runtime.getRuntime().availableProcessors();
+      double oneThread = 0;
+      for (int threads = 1; threads <= cores; threads *= 2) {
+        double rate = play(manager, ids, threads);
+        CONSOLE.printf(Locale.ROOT, "%3d threads %,14.0f games/s%n", threads, rate);
+        if (threads == 1) {
+          oneThread = rate;
+        }
+      }
+      eventLog(manager.getWords(), sessionCount, oneThread);
+      broadcast(manager.getWords());
+
+      WordStore poolWords = RandomWords.of(POOL_WORDS);
+      for (int threads = 1; threads <= MAX_POOL_THREADS; threads *= 2) {
+        double rate = drain(new SharedWordPool(poolWords), threads);
+        CONSOLE.printf(Locale.ROOT, "%3d threads %,14.0f shared pool draws/s%n", threads, rate);
+      }
+    } finally {
+      System.setOut(CONSOLE);
+    }
+  }
+
+  /**
+   * Plays games on every session with {@code threads} threads.  Thread {@code t} plays the
+   * sessions {@code t, t + threads, t + 2 * threads...} so no two threads share a session.
+   *
+   * @param manager the sessions.
+   * @param ids the id of every session.
+   * @param threads the number of threads.
+   * @return games finished per second.
+   * @throws InterruptedException if interrupted while waiting for the players.
+   */
+  private static double play(SessionManager manager, long[] ids, int threads)
+      throws InterruptedException {
+    AtomicBoolean running = new AtomicBoolean(true);
+    LongAdder games = new LongAdder();
+    List<Thread> players = new ArrayList<>();
+    for (int t = 0; t < threads; t++) {
+      int first = t;
+      Thread player = new Thread(() -> {
+        while (running.get()) {
+          for (int i = first; i < ids.length && running.get(); i += threads) {
+            playOne(manager, ids[i]);
+            games.increment();
+          }
+        }
+      });
+      players.add(player);
+    }
+    long start = System.nanoTime();
+    players.forEach(Thread::start);
+    Thread.sleep(RUN_MILLIS);
+    running.set(false);
+    for (Thread player : players) {
+      player.join();
+    }
+    return games.sum() / ((System.nanoTime() - start) / 1e9);
+  }
+
+  /**
+   * Saves every session to a temporary file and restores them into a new manager, and reports
+   * how long each took.
+   *
+   * @param manager the sessions.
+   * @throws IOException if the file cannot be written.
+   */
+  private static void checkpoint(SessionManager manager) throws IOException {
+    Path file = Files.createTempFile("sessions", ".snap");
+    try {
+      long start = System.nanoTime();
+      int saved = manager.checkpoint(file);
+      double saveMillis = (System.nanoTime() - start) / 1e6;
+      SessionManager restored = new SessionManager(manager.getWords());
+      start = System.nanoTime();
+      restored.restore(file);
+      double restoreMillis = (System.nanoTime() - start) / 1e6;
+      CONSOLE.printf(Locale.ROOT,
+          "checkpoint %,d sessions in %.0f ms (%.1f bytes each), restore in %.0f ms%n", saved,
+          saveMillis, (double) (Files.size(file) - 16) / saved, restoreMillis);
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  /**
+   * Plays games on new sessions with one thread while logging every event, then replays the log,
+   * and reports the cost of each event logged and how fast the log replays.
+   *
+   * @param words the dictionary.
+   * @param sessionCount the number of sessions to open.
+   * @param unlogged games per second with one thread and no log.
+   * @throws InterruptedException if interrupted while waiting for the player.
+   * @throws IOException if the log cannot be written.
+   */
+  private static void eventLog(WordStore words, int sessionCount, double unlogged)
+      throws InterruptedException, IOException {
+    Path file = Files.createTempFile("sessions", ".log");
+    try {
+      SessionManager manager = new SessionManager(words);
+      long events;
+      double logged;
+      try (GameEventLog log = new GameEventLog(file, words)) {
+        manager.setEventLog(log);
+        long[] ids = new long[sessionCount];
+        for (int i = 0; i < sessionCount; i++) {
+          ids[i] = manager.open();
+        }
+        logged = play(manager, ids, 1);
+        events = log.getCount();
+      }
+      double eventsPerGame = events / (logged * RUN_MILLIS / 1e3);
+      CONSOLE.printf(Locale.ROOT,
+          "event log %,14.0f games/s, %.0f ns per event added, %.1f bytes per event%n", logged,
+          (1e9 / logged - 1e9 / unlogged) / eventsPerGame, (double) Files.size(file) / events);
+
+      GameReplay replay = new GameReplay(words);
+      long start = System.nanoTime();
+      Map<Long, Hangman> games = replay.replay(file);
+      double seconds = (System.nanoTime() - start) / 1e9;
+      CONSOLE.printf(Locale.ROOT, "replay %,d sessions, %,14.0f events/s%n", games.size(),
+          replay.getPlayed() / seconds);
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  /**
+   * Plays one game alone and then while spectators watch it, and reports the player's CPU time per
+   * guess for each, and how many states the spectators read.
+   *
+   * @param words the dictionary.
+   * @throws InterruptedException if interrupted while waiting for the spectators.
+   */
+  private static void broadcast(WordStore words) throws InterruptedException {
+    Hangman game = new Hangman(false, words, GameOutput.NONE);
+    double alone = guessCpuNanos(game, words.size());
+    CONSOLE.printf(Locale.ROOT, "no spectators %,10.1f ns CPU per guess%n", alone);
+
+    GameBroadcast broadcast = new GameBroadcast();
+    game.setBroadcast(broadcast);
+    GameBroadcast.Viewer[] viewers = new GameBroadcast.Viewer[SPECTATORS];
+    for (int i = 0; i < SPECTATORS; i++) {
+      viewers[i] = broadcast.subscribe();
+    }
+    AtomicBoolean watching = new AtomicBoolean(true);
+    LongAdder reads = new LongAdder();
+    List<Thread> spectators = new ArrayList<>();
+    for (int t = 0; t < SPECTATOR_THREADS; t++) {
+      int first = t;
+      spectators.add(new Thread(() -> {
+        long read = 0;
+        while (watching.get()) {
+          for (int i = first; i < viewers.length; i += SPECTATOR_THREADS) {
+            while (viewers[i].poll()) {
+              read++;
+            }
+          }
+        }
+        reads.add(read);
+      }));
+    }
+    spectators.forEach(Thread::start);
+    double watched = guessCpuNanos(game, words.size());
+    watching.set(false);
+    for (Thread spectator : spectators) {
+      spectator.join();
+    }
+    long dropped = 0;
+    for (GameBroadcast.Viewer viewer : viewers) {
+      dropped += viewer.getDropped();
+    }
+    CONSOLE.printf(Locale.ROOT,
+        "%,d spectators %,10.1f ns CPU per guess, %,d states published, %,d read, %,d skipped%n",
+        SPECTATORS, watched, broadcast.getPublished(), reads.sum(), dropped);
+  }
+
+  /**
+   * Plays games for {@link SessionBenchmark#RUN_MILLIS}, guessing letters in
+   * {@link SessionBenchmark#GUESS_ORDER}, and measures the CPU time of this thread.
+   *
+   * @param game the game to play.
+   * @param words the number of words in its dictionary.
+   * @return CPU nanoseconds per guess.
+   */
+  private static double guessCpuNanos(Hangman game, int words) {
+    ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    long guesses = 0;
+    long end = System.nanoTime() + RUN_MILLIS * 1_000_000;
+    long start = threads.getCurrentThreadCpuTime();
+    for (int word = 0; System.nanoTime() < end; word++) {
+      game.chooseWord(word % words);
+      for (int j = 0; !game.isGameOver(); j++) {
+        game.makeGuess(GUESS_ORDER.charAt(j));
+        guesses++;
+      }
+    }
+    return (threads.getCurrentThreadCpuTime() - start) / (double) guesses;
+  }
+
+  /**
+   * Empties a shared pool with {@code threads} threads.
+   *
+   * @param pool the pool, full.
+   * @param threads the number of threads.
+   * @return words drawn per second.
+   * @throws InterruptedException if interrupted while waiting for the threads.
+   */
+  private static double drain(SharedWordPool pool, int threads) throws InterruptedException {
+    int words = pool.remaining();
+    LongAdder sink = new LongAdder();
+    List<Thread> drainers = new ArrayList<>();
+    for (int t = 0; t < threads; t++) {
+      drainers.add(new Thread(() -> {
+        long sum = 0;
+        for (int index = pool.draw(); index >= 0; index = pool.draw()) {
+          sum += index;
+        }
+        sink.add(sum);
+      }));
+    }
+    long start = System.nanoTime();
+    drainers.forEach(Thread::start);
+    for (Thread drainer : drainers) {
+      drainer.join();
+    }
+    double rate = words / ((System.nanoTime() - start) / 1e9);
+    if (sink.sum() != (long) words * (words - 1) / 2) {
+      throw new IllegalStateException("The pool handed out the wrong words");
+    }
+    return rate;
+  }
+
+  /**
+   * Finishes the current game in a session and starts the next one.
+   *
+   * @param manager the sessions.
+   * @param id the session to play.
+   */
+  private static void playOne(SessionManager manager, long id) {
+    for (int j = 0; !manager.isGameOver(id); j++) {
+      manager.guess(id, GUESS_ORDER.charAt(j));
+    }
+    manager.nextWord(id);
+  }
+
+  /**
+   * Measures the heap in use after a garbage collection.
+   *
+   * @return the used heap in bytes.
+   */
+  private static long usedHeap() {
+    Runtime runtime = Runtime.getRuntime();
+    System.gc();
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
@@ -0,0 +1,321 @@
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hosts many independent games of Hangman at once.
+ * <br>
+ * Every session is its own {@link Hangman} with its own guesses, score and record of used words,
+ * but all of them share one frozen {@link WordStore}, so the dictionary is loaded once no matter
+ * how many players there are.  A session costs the Hangman object and its small primitive arrays,
+ * a few hundred bytes, whatever the size of the dictionary.
+ * <br>
+ * Sessions have no console; their results come back from the methods here and their messages are
+ * thrown away.  Any thread may call any method.  Calls for the same session are serialized on that session,
+ * calls for different sessions never wait on each other.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+public class SessionManager {
+
+  /**
+   * The dictionary shared by every session.
+   */
+  private final WordStore words;
+  /**
+   * The open sessions, by id.
+   */
+  private final ConcurrentHashMap<Long, Hangman> sessions = new ConcurrentHashMap<>();
+  /**
+   * The id of the next session.
+   */
+  private final AtomicLong nextId = new AtomicLong(1);
+  /**
+   * Gives each session its own random number stream, numbered by the session id.
+   */
+  private final RandomSource randomness;
+  /**
+   * The pool every session draws from, or {@code null} if each session has its own.
+   */
+  private final SharedWordPool sharedPool;
+  /**
+   * Where sessions opened from now on log their events.
+   */
+  private volatile GameEventLog events = GameEventLog.NONE;
+
+  /**
+   * Loads a word file once and shares it between every session.  Only playable words are kept,
+   * once each (see {@link WordIngester}).
+   *
+   * @param wordsFile a String representing a filename.
+   * @throws IOException if the file cannot be read.
+   */
+  public SessionManager(String wordsFile) throws IOException {
+    this(loadWords(wordsFile));
+  }
+
+  /**
+   * Shares a dictionary between every session.  The store is frozen so that it cannot change
+   * while it is being read.
+   *
+   * @param words the dictionary.
+   */
+  public SessionManager(WordStore words) {
+    this(words, RandomSource.unseeded());
+  }
+
+  /**
+   * Shares a dictionary between every session and has them all draw from one pool, so no two
+   * sessions ever get the same word.  A session that finds the pool empty fails to start its next
+   * game with {@link IllegalStateException}.
+   *
+   * @param pool the pool, over the dictionary to share.
+   */
+  public SessionManager(SharedWordPool pool) {
+    this(pool.getWords(), RandomSource.unseeded(), pool);
+  }
+
+  /**
+   * Shares a dictionary between every session and chooses their words from {@code randomness}.
+   * With a seeded source, the session with a given id always gets the same words.
+   *
+   * @param words the dictionary.
+   * @param randomness where each session's random number stream comes from.
+   */
+  public SessionManager(WordStore words, RandomSource randomness) {
+    this(words, randomness, null);
+  }
+
+  /**
+   * Sets every field.
+   *
+   * @param words the dictionary.
+   * @param randomness where each session's random number stream comes from.
+   * @param sharedPool the pool every session draws from, or {@code null}.
+   */
+  private SessionManager(WordStore words, RandomSource randomness, SharedWordPool sharedPool) {
+    this.words = words.freeze();
+    this.randomness = randomness;
+    this.sharedPool = sharedPool;
+  }
+
+  /**
+   * Opens a session and chooses its first word.
+   *
+   * @return the id of the new session.
+   */
+  public long open() {
+    long id = nextId.getAndIncrement();
+    Hangman game = newGame(id);
+    game.chooseWord();
+    sessions.put(id, game);
+    return id;
+  }
+
+  /**
+   * Starts another game in a session, with a word that session has not had before.
+   *
+   * @param id the session.
+   * @return the new secret word.
+   * @throws IllegalStateException if the session has used every word.
+   */
+  public String nextWord(long id) {
+    Hangman game = session(id);
+    synchronized (game) {
+      return game.chooseWord();
+    }
+  }
+
+  /**
+   * Calls {@link Hangman#makeGuess(char)} for a session.
+   *
+   * @param id the session.
+   * @param letter the character to guess.
+   * @return true if the character exists in the secret word and has not been guessed.
+   */
+  public boolean guess(long id, char letter) {
+    Hangman game = session(id);
+    synchronized (game) {
+      return game.makeGuess(letter);
+    }
+  }
+
+  /**
+   * Calls {@link Hangman#getHint()} for a session.
+   *
+   * @param id the session.
+   * @return the number of hints remaining.
+   */
+  public int hint(long id) {
+    Hangman game = session(id);
+    synchronized (game) {
+      return game.getHint();
+    }
+  }
+
+  /**
+   * Calls {@link Hangman#displayGameState()} for a session.
+   *
+   * @param id the session.
+   * @return A String representation of the game state.
+   */
+  public String state(long id) {
+    Hangman game = session(id);
+    synchronized (game) {
+      return game.displayGameState();
+    }
+  }
+
+  /**
+   * Checks whether the current game in a session is over.
+   *
+   * @param id the session.
+   * @return {@code true} if the game has been won or lost.
+   */
+  public boolean isGameOver(long id) {
+    Hangman game = session(id);
+    synchronized (game) {
+      return game.isGameOver();
+    }
+  }
+
+  /**
+   * Calls {@link Hangman#exit()} for a session and closes it.
+   *
+   * @param id the session.
+   * @return the score from {@link Hangman#exit()}.
+   */
+  public int close(long id) {
+    Hangman game = sessions.remove(id);
+    if (game == null) {
+      throw new IllegalArgumentException("No session " + id);
+    }
+    synchronized (game) {
+      return game.exit();
+    }
+  }
+
+  /**
+   * Saves every open session's current game to a file with {@link GameSnapshot.Writer}.  Each
+   * session is saved between moves, but sessions that are played while this runs may be saved
+   * before or after their move.
+   *
+   * @param file the file to create or replace.
+   * @return the number of sessions saved.
+   * @throws IOException if the file cannot be written.
+   */
+  public int checkpoint(Path file) throws IOException {
+    try (GameSnapshot.Writer writer = new GameSnapshot.Writer(file, words)) {
+      for (Map.Entry<Long, Hangman> session : sessions.entrySet()) {
+        Hangman game = session.getValue();
+        synchronized (game) {
+          writer.write(session.getKey(), game);
+        }
+      }
+      return writer.getCount();
+    }
+  }
+
+  /**
+   * Opens the sessions saved by {@link SessionManager#checkpoint(Path)}, with the ids they were
+   * saved with and their games exactly as they were.  A session that is already open with one of
+   * those ids is replaced.  New sessions are numbered after the highest id restored.
+   * <br>
+   * Only the games are saved, so each restored session starts a fresh record of used words and a
+   * fresh random stream for its id.
+   *
+   * @param file a file written by {@link SessionManager#checkpoint(Path)} over the same words.
+   * @return the number of sessions restored.
+   * @throws IOException if the file cannot be read or was saved with other words.
+   */
+  public int restore(Path file) throws IOException {
+    try (GameSnapshot.Reader reader = new GameSnapshot.Reader(file, words)) {
+      long highest = 0;
+      while (reader.hasNext()) {
+        long id = reader.peekId();
+        Hangman game = newGame(id);
+        reader.next(game);
+        sessions.put(id, game);
+        highest = Math.max(highest, id);
+      }
+      nextId.accumulateAndGet(highest + 1, Math::max);
+      return reader.getCount();
+    }
+  }
+
+  /**
+   * Logs every event of the sessions opened or restored from now on, under their session ids, so
+   * that {@link GameReplay} can rebuild them.  Sessions already open are not logged.  A restored
+   * session's game before the restore is not in the log, so only sessions opened after this can be
+   * replayed.
+   *
+   * @param events the log, over the same words, or {@link GameEventLog#NONE} to stop.
+   */
+  public void setEventLog(GameEventLog events) {
+    this.events = events;
+  }
+
+  /**
+   * Used to check how many sessions are open.
+   *
+   * @return the number of open sessions.
+   */
+  public int size() {
+    return sessions.size();
+  }
+
+  /**
+   * standard getter
+   *
+   * @return the dictionary shared by every session.
+   */
+  public WordStore getWords() {
+    return words;
+  }
+
+  /**
+   * Creates the game for a session, before its first word.
+   *
+   * @param id the session.
+   * @return a game with the session's random stream, drawing from the shared pool if there is
+   *     one, and logging to the event log.
+   */
+  private Hangman newGame(long id) {
+    Hangman game = new Hangman(false, words, GameOutput.NONE, randomness.streamFor(id));
+    game.setEventLog(events, id);
+    if (sharedPool != null) {
+      game.useSharedPool(sharedPool);
+    }
+    return game;
+  }
+
+  /**
+   * Finds a session.
+   *
+   * @param id the session.
+   * @return the game for that session.
+   */
+  private Hangman session(long id) {
+    Hangman game = sessions.get(id);
+    if (game == null) {
+      throw new IllegalArgumentException("No session " + id);
+    }
+    return game;
+  }
+
+  /**
+   * Loads the playable words of a word file into a new store.
+   *
+   * @param wordsFile a String representing a filename.
+   * @return the words.
+   * @throws IOException if the file cannot be read.
+   */
+  private static WordStore loadWords(String wordsFile) throws IOException {
+    WordStore words = new WordStore();
+    new WordIngester(words).ingest(Path.of(wordsFile));
+    return words;
+  }
+}
@@ -0,0 +1,121 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link SessionManager}.  Sessions share a dictionary but nothing else.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+class SessionManagerTest {
+
+  /**
+   * The sessions under test, over the same words as {@link HangmanTest#DEFAULT_WORDS}.
+   */
+  private SessionManager manager;
+
+  /**
+   * Creates a fresh manager before each test.
+   */
+  @BeforeEach
+  void setUp() {
+    WordStore words = new WordStore();
+    for (String word : HangmanTest.DEFAULT_WORDS) {
+      words.append(word);
+    }
+    manager = new SessionManager(words);
+  }
+
+  /**
+   * The shared dictionary cannot be changed once sessions can read it.
+   */
+  @Test
+  void wordsAreFrozen() {
+    assertTrue(manager.getWords().isFrozen());
+    assertThrows(IllegalStateException.class, () -> manager.getWords().append("TREE"));
+  }
+
+  /**
+   * A manager made from a word file keeps only its playable words, once each, so no session
+   * starts on a blank line.
+   *
+   * @throws IOException if the file cannot be written or read.
+   */
+  @Test
+  void wordFileIsCleaned() throws IOException {
+    Path file = Files.createTempFile("sessionWords", ".txt");
+    try {
+      Files.writeString(file, "fish\n\nFISH\ncaf\u00e9\ncake\n");
+      SessionManager loaded = new SessionManager(file.toString());
+      assertEquals(List.of("FISH", "CAKE"), loaded.getWords());
+      long id = loaded.open();
+      assertTrue(loaded.state(id).contains("Remaining Guesses: 3"));
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  /**
+   * A guess in one session does not show up in another.
+   */
+  @Test
+  void sessionsAreIndependent() {
+    long first = manager.open();
+    long second = manager.open();
+    assertNotEquals(first, second);
+    manager.guess(first, 'Q');
+    assertTrue(manager.state(first).contains("[Q]"));
+    assertTrue(manager.state(second).contains("[]"));
+    manager.close(first);
+    assertEquals(1, manager.size());
+    assertThrows(IllegalArgumentException.class, () -> manager.guess(first, 'A'));
+  }
+
+  /**
+   * Each session gets every word once, even while other sessions are drawing words on other
+   * threads.
+   *
+   * @throws Exception if a session fails.
+   */
+  @Test
+  void concurrentSessions() throws Exception {
+    int wordCount = HangmanTest.DEFAULT_WORDS.size();
+    ExecutorService pool = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<Set<String>>> results = new ArrayList<>();
+      for (int i = 0; i < 64; i++) {
+        results.add(pool.submit(() -> {
+          long id = manager.open(); // uses the first word
+          Set<String> seen = new HashSet<>();
+          for (int w = 1; w < wordCount; w++) {
+            seen.add(manager.nextWord(id));
+          }
+          assertThrows(IllegalStateException.class, () -> manager.nextWord(id));
+          manager.close(id);
+          return seen;
+        }));
+      }
+      for (Future<Set<String>> result : results) {
+        assertEquals(wordCount - 1, result.get().size());
+      }
+    } finally {
+      pool.shutdown();
+    }
+    assertEquals(0, manager.size());
+  }
+}
@@ -0,0 +1,104 @@
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+
+/**
+ * A pool of words that any number of games on any number of threads draw from together, so no
+ * two of them ever get the same word.
+ * <br>
+ * The word indices are shuffled once, when the pool is created, and a draw just takes the next
+ * index from the shuffled order by moving an atomic cursor forward.  There are no locks, and a
+ * draw is one atomic add whatever the number of threads.  The pool runs out at one well defined
+ * moment: the draw that takes the last word.  Every draw after that returns -1, on every thread.
+ * <br>
+ * The shuffle costs four bytes per word.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+public final class SharedWordPool implements WordSelector {
+
+  /**
+   * The dictionary.
+   */
+  private final WordStore words;
+  /**
+   * Every word index, in the order they will be drawn.
+   */
+  private final int[] order;
+  /**
+   * The number of draws so far, including draws after the pool ran out.  This can pass
+   * {@code order.length} but a long will not overflow.
+   */
+  private final AtomicLong cursor = new AtomicLong();
+
+  /**
+   * Creates a pool with its own random order.
+   *
+   * @param words the dictionary.  It is frozen, since words added later would never be drawn.
+   */
+  public SharedWordPool(WordStore words) {
+    this(words, new SplittableRandom());
+  }
+
+  /**
+   * Creates a pool.
+   *
+   * @param words the dictionary.  It is frozen, since words added later would never be drawn.
+   * @param shuffle decides the order of the words.  The same seed gives the same order.
+   */
+  public SharedWordPool(WordStore words, RandomGenerator shuffle) {
+    this.words = words.freeze();
+    order = new int[words.size()];
+    for (int i = 0; i < order.length; i++) {
+      order[i] = i;
+    }
+    for (int i = order.length - 1; i > 0; i--) {
+      int j = shuffle.nextInt(i + 1);
+      int swap = order[i];
+      order[i] = order[j];
+      order[j] = swap;
+    }
+  }
+
+  /**
+   * Takes the next word.  Safe to call from any thread.
+   *
+   * @param random ignored, the order was decided when the pool was created.
+   * @return the index of a word no other draw has returned, or -1 if the pool has run out.
+   */
+  @Override
+  public int draw(RandomGenerator random) {
+    return draw();
+  }
+
+  /**
+   * Takes the next word.  Safe to call from any thread.
+   *
+   * @return the index of a word no other draw has returned, or -1 if the pool has run out.
+   */
+  public int draw() {
+    long position = cursor.getAndIncrement();
+    return position < order.length ? order[(int) position] : -1;
+  }
+
+  /**
+   * Used to check how many words are left.  Other threads may take some before the caller can act
+   * on the answer.
+   *
+   * @return the number of words that have not been drawn.
+   */
+  @Override
+  public int remaining() {
+    return (int) Math.max(0, order.length - cursor.get());
+  }
+
+  /**
+   * standard getter
+   *
+   * @return the dictionary.
+   */
+  public WordStore getWords() {
+    return words;
+  }
+}
@@ -0,0 +1,145 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link SharedWordPool}.  However many threads draw at once, every word comes out
+ * exactly once and then the pool is empty for everyone.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+class SharedWordPoolTest {
+
+  /**
+   * The number of threads in the stress tests.
+   */
+  private static final int THREADS = 64;
+
+  /**
+   * 64 threads draining one pool get every word exactly once, and once one of them sees the pool
+   * empty it stays empty.
+   *
+   * @throws Exception if a thread fails.
+   */
+  @Test
+  void concurrentDraws() throws Exception {
+    int size = 200_000;
+    SharedWordPool pool = new SharedWordPool(RandomWords.of(size),
+        new SplittableRandom(338));
+    AtomicIntegerArray drawn = new AtomicIntegerArray(size);
+    List<Callable<Integer>> players = new ArrayList<>();
+    for (int t = 0; t < THREADS; t++) {
+      players.add(() -> {
+        int count = 0;
+        for (int index = pool.draw(); index >= 0; index = pool.draw()) {
+          drawn.incrementAndGet(index);
+          count++;
+        }
+        // exhaustion is final
+        for (int i = 0; i < 100; i++) {
+          assertEquals(-1, pool.draw());
+        }
+        return count;
+      });
+    }
+    int total = 0;
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      for (Future<Integer> player : executor.invokeAll(players)) {
+        total += player.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+    assertEquals(size, total);
+    for (int i = 0; i < size; i++) {
+      assertEquals(1, drawn.get(i), "word " + i);
+    }
+    assertEquals(0, pool.remaining());
+  }
+
+  /**
+   * Games on 64 threads choosing from one pool never choose the same word, and run out together.
+   *
+   * @throws Exception if a thread fails.
+   */
+  @Test
+  void gamesNeverShareAWord() throws Exception {
+    int size = 20_000;
+    WordStore words = new WordStore();
+    for (int i = 0; i < size; i++) {
+      words.append(Integer.toString(i, 26).toUpperCase());
+    }
+    SharedWordPool pool = new SharedWordPool(words);
+    List<Callable<List<String>>> players = new ArrayList<>();
+    for (int t = 0; t < THREADS; t++) {
+      players.add(() -> {
+        Hangman game = new Hangman(false, words, GameOutput.NONE);
+        game.useSharedPool(pool);
+        List<String> chosen = new ArrayList<>();
+        while (game.getCountWordsRemaining() > 0) {
+          try {
+            chosen.add(game.chooseWord());
+          } catch (IllegalStateException e) {
+            // another game took the last word between the check and the draw
+          }
+        }
+        assertThrows(IllegalStateException.class, game::chooseWord);
+        return chosen;
+      });
+    }
+    Set<String> all = new HashSet<>();
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      for (Future<List<String>> player : executor.invokeAll(players)) {
+        for (String word : player.get()) {
+          assertTrue(all.add(word), word + " was chosen twice");
+        }
+      }
+    } finally {
+      executor.shutdown();
+    }
+    assertEquals(size, all.size());
+  }
+
+  /**
+   * Sessions opened over a shared pool draw from it.
+   */
+  @Test
+  void sessionsUseThePool() {
+    SharedWordPool pool = new SharedWordPool(RandomWords.of(3));
+    SessionManager manager = new SessionManager(pool);
+    long id = manager.open();
+    manager.nextWord(id);
+    assertEquals(1, pool.remaining());
+    manager.open();
+    assertThrows(IllegalStateException.class, manager::open);
+  }
+
+  /**
+   * A game cannot switch to a shared pool once it has chosen a word, or use a pool over another
+   * dictionary.
+   */
+  @Test
+  void hangmanChecks() {
+    WordStore words = RandomWords.of(10);
+    Hangman game = new Hangman(false, words, GameOutput.NONE);
+    assertThrows(IllegalArgumentException.class,
+        () -> game.useSharedPool(new SharedWordPool(RandomWords.of(10))));
+    game.chooseWord();
+    assertThrows(IllegalStateException.class, () -> game.useSharedPool(new SharedWordPool(words)));
+  }
+}
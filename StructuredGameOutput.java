@@ -0,0 +1,129 @@
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * A {@link GameOutput} that writes each message as one line of JSON, so game output can be read
+ * by a program instead of a person.
+ * <br>
+ * Every record has a sequence number and the message.  Prompts are marked with
+ * {@code "prompt": true}, and messages about a single letter also carry that letter, for example
+ * <pre>{"seq": 3, "message": "E was present!", "letter": "E"}</pre>
+ * <br>
+ * Each game should have its own; this class is not thread safe.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+public class StructuredGameOutput implements GameOutput {
+
+  /**
+   * Where the records are written.
+   */
+  private final Appendable target;
+  /**
+   * Reused to build each record.
+   */
+  private final StringBuilder record = new StringBuilder();
+  /**
+   * The number of records written so far.
+   */
+  private long sequence;
+
+  /**
+   * Creates a structured output.
+   *
+   * @param target where to write the records, for example a {@link java.io.Writer} or a
+   *     {@link StringBuilder}.
+   */
+  public StructuredGameOutput(Appendable target) {
+    this.target = target;
+  }
+
+  @Override
+  public void print(String text) {
+    start().append(", \"message\": ");
+    quote(text).append(", \"prompt\": true");
+    end();
+  }
+
+  @Override
+  public void println(String text) {
+    start().append(", \"message\": ");
+    quote(text);
+    end();
+  }
+
+  @Override
+  public void println(String prefix, char letter, String suffix) {
+    start().append(", \"message\": ");
+    quote(prefix + letter + suffix).append(", \"letter\": ");
+    quote(String.valueOf(letter));
+    end();
+  }
+
+  /**
+   * Flushes the target if it can be flushed.
+   *
+   * @throws UncheckedIOException if the target cannot be flushed.
+   */
+  @Override
+  public void flush() {
+    if (target instanceof Flushable) {
+      try {
+        ((Flushable) target).flush();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+
+  /**
+   * Begins a record.
+   *
+   * @return {@link StructuredGameOutput#record}.
+   */
+  private StringBuilder start() {
+    record.setLength(0);
+    return record.append("{\"seq\": ").append(++sequence);
+  }
+
+  /**
+   * Finishes a record and writes it.
+   *
+   * @throws UncheckedIOException if the target cannot be written.
+   */
+  private void end() {
+    record.append("}\n");
+    try {
+      target.append(record);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Appends a JSON string.
+   *
+   * @param text the text to quote.
+   * @return {@link StructuredGameOutput#record}.
+   */
+  private StringBuilder quote(String text) {
+    record.append('"');
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c == '"' || c == '\\') {
+        record.append('\\').append(c);
+      } else if (c == '\n') {
+        record.append("\\n");
+      } else if (c == '\t') {
+        record.append("\\t");
+      } else if (c < ' ') {
+        record.append(String.format("\\u%04x", (int) c));
+      } else {
+        record.append(c);
+      }
+    }
+    return record.append('"');
+  }
+}
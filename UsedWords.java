@@ -0,0 +1,329 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A record of which words have been played, kept on disk so it survives a restart.
+ * <br>
+ * The file is a 16 byte header (a magic number, a version, the number of words and the
+ * {@link WordStore#checksum()} of those words) followed by one bit per word, set once the word at
+ * that index of the dictionary has been chosen.  The whole file is memory mapped, so opening it
+ * takes the same time however many words have been used, and marking a word is a single byte
+ * write into the mapping.
+ * <br>
+ * The operating system writes the mapping out on its own, so the bits survive the program being
+ * killed.  To survive the machine going down too, the mapping is forced to disk after every
+ * {@code flushEvery} words and on {@link UsedWords#flush()}.
+ * <br>
+ * A file that was cut short keeps every bit that made it to disk.  The words whose bits were lost
+ * are simply treated as unused, and a header that was cut short starts the record again.
+ * Words may be appended to the dictionary between runs.  If it has fewer words than the record, or
+ * its first words are not the ones the record was made for, the dictionary has changed and the
+ * record starts again.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+public final class UsedWords implements Closeable {
+
+  /**
+   * The first four bytes of every file, "HMUW".
+   */
+  static final int MAGIC = 0x484D5557;
+  /**
+   * The version of the file layout.
+   */
+  static final int VERSION = 2;
+  /**
+   * The size of the header, where the bits start.
+   */
+  static final int HEADER = 16;
+  /**
+   * How many words are marked between forced writes, unless told otherwise.
+   */
+  public static final int DEFAULT_FLUSH_EVERY = 64;
+
+  /**
+   * The open file.
+   */
+  private final FileChannel channel;
+  /**
+   * The dictionary the record is for.
+   */
+  private final WordStore dictionary;
+  /**
+   * The whole file, mapped.
+   */
+  private MappedByteBuffer map;
+  /**
+   * How many words the record covers.
+   */
+  private int wordCount;
+  /**
+   * How many words are marked.
+   */
+  private int used;
+  /**
+   * How many words have been marked since the last forced write.
+   */
+  private int pending;
+  /**
+   * How many words to mark between forced writes.
+   */
+  private final int flushEvery;
+
+  /**
+   * Opens a record.
+   *
+   * @param channel the open file.
+   * @param dictionary the dictionary the record is for.
+   * @param flushEvery how many words to mark between forced writes.
+   */
+  private UsedWords(FileChannel channel, WordStore dictionary, int flushEvery) {
+    this.channel = channel;
+    this.dictionary = dictionary;
+    this.flushEvery = flushEvery;
+  }
+
+  /**
+   * Opens or creates a record, forcing it to disk every {@link UsedWords#DEFAULT_FLUSH_EVERY}
+   * words.
+   *
+   * @param file the record.
+   * @param dictionary the words the record is for.
+   * @return the record.
+   * @throws IOException if the file cannot be opened or is not a record of used words.
+   */
+  public static UsedWords open(Path file, WordStore dictionary) throws IOException {
+    return open(file, dictionary, DEFAULT_FLUSH_EVERY);
+  }
+
+  /**
+   * Opens or creates a record.
+   *
+   * @param file the record.
+   * @param dictionary the words the record is for.
+   * @param flushEvery how many words to mark between forced writes.  1 forces every word.
+   * @return the record.
+   * @throws IOException if the file cannot be opened or is not a record of used words.
+   */
+  public static UsedWords open(Path file, WordStore dictionary, int flushEvery)
+      throws IOException {
+    if (flushEvery < 1) {
+      throw new IllegalArgumentException("flushEvery must be at least 1: " + flushEvery);
+    }
+    FileChannel channel = FileChannel.open(file, StandardOpenOption.READ,
+        StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+    try {
+      UsedWords words = new UsedWords(channel, dictionary, flushEvery);
+      words.recover(file);
+      return words;
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Checks the header, keeps what can be kept and maps the file.
+   *
+   * @param file the record, for error messages.
+   * @throws IOException if the file cannot be read or is not a record of used words.
+   */
+  private void recover(Path file) throws IOException {
+    int wordCount = dictionary.size();
+    long size = channel.size();
+    int kept = 0;
+    if (size >= 4) {
+      MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+          Math.min(size, HEADER));
+      if (header.getInt(0) != MAGIC) {
+        throw new IOException(file + " is not a record of used words");
+      }
+      if (size >= HEADER && header.getInt(4) == VERSION) {
+        int words = header.getInt(8);
+        if (words >= 0 && words <= wordCount
+            && header.getInt(12) == dictionary.checksum(words)) {
+          kept = words;
+        }
+      }
+    }
+    channel.truncate(kept == 0 ? 0 : HEADER + bytesFor(Math.max(kept, wordCount)));
+    this.wordCount = kept;
+    grow(wordCount);
+    // anything past the kept words is not ours, so clear it
+    clearFrom(kept);
+    used = countUsed();
+  }
+
+  /**
+   * Makes room for words appended to the dictionary since the record was opened.  The new words
+   * are unused.
+   *
+   * @throws IOException if the file cannot be grown.
+   */
+  public void ensureCapacity() throws IOException {
+    if (dictionary.size() > wordCount) {
+      grow(dictionary.size());
+    }
+  }
+
+  /**
+   * Checks whether a word has been used.
+   *
+   * @param index the word's index in the dictionary.
+   * @return {@code true} if the word has been marked.
+   */
+  public boolean isUsed(int index) {
+    checkIndex(index);
+    return (map.get(HEADER + (index >>> 3)) & (1 << (index & 7))) != 0;
+  }
+
+  /**
+   * Marks a word as used.
+   *
+   * @param index the word's index in the dictionary.
+   * @return {@code true} if the word was not already marked.
+   * @throws IllegalStateException if the record is closed.
+   */
+  public boolean markUsed(int index) {
+    checkOpen();
+    checkIndex(index);
+    int position = HEADER + (index >>> 3);
+    byte bits = map.get(position);
+    int bit = 1 << (index & 7);
+    if ((bits & bit) != 0) {
+      return false;
+    }
+    map.put(position, (byte) (bits | bit));
+    used++;
+    if (++pending >= flushEvery) {
+      flush();
+    }
+    return true;
+  }
+
+  /**
+   * Forces every mark made so far to disk.
+   */
+  public void flush() {
+    if (pending > 0) {
+      map.force();
+      pending = 0;
+    }
+  }
+
+  /**
+   * standard getter
+   *
+   * @return the number of words that have been marked.
+   */
+  public int usedCount() {
+    return used;
+  }
+
+  /**
+   * standard getter
+   *
+   * @return the number of words the record covers.
+   */
+  public int wordCount() {
+    return wordCount;
+  }
+
+  /**
+   * Forces the record to disk and closes it.
+   *
+   * @throws IOException if the file cannot be closed.
+   */
+  @Override
+  public void close() throws IOException {
+    if (channel.isOpen()) {
+      flush();
+      channel.close();
+    }
+  }
+
+  /**
+   * Remaps the file with room for {@code words} words and writes the header.  The word count and
+   * checksum are written last, together, so a crash part way leaves the old ones.
+   *
+   * @param words the number of words to cover.
+   * @throws IOException if the file cannot be grown.
+   */
+  private void grow(int words) throws IOException {
+    checkOpen();
+    map = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER + bytesFor(words));
+    map.putInt(0, MAGIC);
+    map.putInt(4, VERSION);
+    map.putLong(8, (long) words << 32 | (dictionary.checksum(words) & 0xFFFFFFFFL));
+    wordCount = words;
+    map.force();
+  }
+
+  /**
+   * Clears the bit of every word from {@code first} on.
+   *
+   * @param first the first word to clear.
+   */
+  private void clearFrom(int first) {
+    int position = HEADER + (first >>> 3);
+    if ((first & 7) != 0) {
+      map.put(position, (byte) (map.get(position) & ((1 << (first & 7)) - 1)));
+      position++;
+    }
+    for (; position < map.limit(); position++) {
+      map.put(position, (byte) 0);
+    }
+  }
+
+  /**
+   * Counts the set bits.
+   *
+   * @return the number of marked words.
+   */
+  private int countUsed() {
+    int count = 0;
+    int position = HEADER;
+    for (; position + Long.BYTES <= map.limit(); position += Long.BYTES) {
+      count += Long.bitCount(map.getLong(position));
+    }
+    for (; position < map.limit(); position++) {
+      count += Integer.bitCount(map.get(position) & 0xFF);
+    }
+    return count;
+  }
+
+  /**
+   * Throws if the record has been closed.
+   */
+  private void checkOpen() {
+    if (!channel.isOpen()) {
+      throw new IllegalStateException("UsedWords is closed");
+    }
+  }
+
+  /**
+   * Throws if {@code index} is not the index of a word.
+   *
+   * @param index the index to check.
+   */
+  private void checkIndex(int index) {
+    if (index < 0 || index >= wordCount) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + wordCount);
+    }
+  }
+
+  /**
+   * The size of the bits for a number of words.
+   *
+   * @param words the number of words.
+   * @return the number of bytes.
+   */
+  private static int bytesFor(int words) {
+    return (words + 7) >>> 3;
+  }
+}
@@ -0,0 +1,205 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link UsedWords}.  Marks have to survive reopening the file, and a file that was cut
+ * short has to keep what it can instead of failing.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+class UsedWordsTest {
+
+  /**
+   * A temporary record, created before each test.
+   */
+  private Path file;
+
+  /**
+   * Creates the record's file name.
+   *
+   * @throws IOException if the file cannot be created.
+   */
+  @BeforeEach
+  void setUp() throws IOException {
+    file = Files.createTempFile("usedWords", ".used");
+    Files.delete(file);
+  }
+
+  /**
+   * Removes the record.
+   *
+   * @throws IOException if the file cannot be removed.
+   */
+  @AfterEach
+  void tearDown() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  /**
+   * Marks made before closing are there after opening again, and a closed record takes no more.
+   *
+   * @throws IOException if the record cannot be written.
+   */
+  @Test
+  void marksSurviveReopen() throws IOException {
+    UsedWords closed;
+    try (UsedWords used = UsedWords.open(file, dictionary(100))) {
+      closed = used;
+      assertEquals(0, used.usedCount());
+      assertTrue(used.markUsed(3));
+      assertTrue(used.markUsed(64));
+      assertFalse(used.markUsed(3));
+      assertEquals(2, used.usedCount());
+    }
+    assertThrows(IllegalStateException.class, () -> closed.markUsed(5));
+    try (UsedWords used = UsedWords.open(file, dictionary(100))) {
+      assertEquals(2, used.usedCount());
+      assertTrue(used.isUsed(3));
+      assertTrue(used.isUsed(64));
+      assertFalse(used.isUsed(4));
+      assertThrows(IndexOutOfBoundsException.class, () -> used.isUsed(100));
+    }
+  }
+
+  /**
+   * A record cut off part way through the bits keeps the bits before the cut.
+   *
+   * @throws IOException if the record cannot be written.
+   */
+  @Test
+  void truncatedBitsKeepPrefix() throws IOException {
+    try (UsedWords used = UsedWords.open(file, dictionary(100), 1)) {
+      used.markUsed(1);
+      used.markUsed(7);
+      used.markUsed(50);
+    }
+    truncate(UsedWords.HEADER + 1);
+    try (UsedWords used = UsedWords.open(file, dictionary(100))) {
+      assertEquals(100, used.wordCount());
+      assertEquals(2, used.usedCount());
+      assertTrue(used.isUsed(1));
+      assertTrue(used.isUsed(7));
+      assertFalse(used.isUsed(50));
+    }
+    assertEquals(UsedWords.HEADER + 13, Files.size(file));
+  }
+
+  /**
+   * A record cut off inside the header starts again, empty.
+   *
+   * @throws IOException if the record cannot be written.
+   */
+  @Test
+  void truncatedHeaderStartsAgain() throws IOException {
+    try (UsedWords used = UsedWords.open(file, dictionary(100))) {
+      used.markUsed(1);
+    }
+    truncate(10);
+    try (UsedWords used = UsedWords.open(file, dictionary(100))) {
+      assertEquals(0, used.usedCount());
+      assertTrue(used.markUsed(1));
+    }
+  }
+
+  /**
+   * Words appended to the dictionary start unused and the old marks are kept, even when they were
+   * appended between runs.  A smaller dictionary is a different dictionary, so the record starts
+   * again.
+   *
+   * @throws IOException if the record cannot be written.
+   */
+  @Test
+  void dictionaryChanges() throws IOException {
+    WordStore words = dictionary(10);
+    try (UsedWords used = UsedWords.open(file, words)) {
+      used.markUsed(9);
+      for (int i = 10; i < 20; i++) {
+        words.append("WORD" + i);
+      }
+      used.ensureCapacity();
+      assertEquals(20, used.wordCount());
+      used.markUsed(19);
+    }
+    try (UsedWords used = UsedWords.open(file, dictionary(30))) {
+      assertEquals(2, used.usedCount());
+      assertFalse(used.isUsed(29));
+    }
+    try (UsedWords used = UsedWords.open(file, dictionary(15))) {
+      assertEquals(0, used.usedCount());
+    }
+  }
+
+  /**
+   * A dictionary with the same number of words, but different ones, is a different dictionary, so
+   * the record starts again.
+   *
+   * @throws IOException if the record cannot be written.
+   */
+  @Test
+  void changedWordsStartAgain() throws IOException {
+    try (UsedWords used = UsedWords.open(file, dictionary(10))) {
+      used.markUsed(3);
+    }
+    WordStore changed = new WordStore();
+    for (int i = 0; i < 10; i++) {
+      changed.append(i == 5 ? "CHANGED" : "WORD" + i);
+    }
+    try (UsedWords used = UsedWords.open(file, changed)) {
+      assertEquals(0, used.usedCount());
+      assertEquals(10, used.wordCount());
+    }
+    try (UsedWords used = UsedWords.open(file, dictionary(10))) {
+      assertEquals(0, used.usedCount());
+    }
+  }
+
+  /**
+   * A file that is not a record is left alone.
+   *
+   * @throws IOException if the file cannot be written.
+   */
+  @Test
+  void foreignFileRejected() throws IOException {
+    Files.writeString(file, "SQUARE\nCIRCLE\n");
+    assertThrows(IOException.class, () -> UsedWords.open(file, dictionary(10)));
+    assertEquals("SQUARE\nCIRCLE\n", Files.readString(file));
+  }
+
+  /**
+   * Creates a dictionary.  Dictionaries of different sizes start with the same words.
+   *
+   * @param size the number of words.
+   * @return the words "WORD0" to "WORD{size - 1}".
+   */
+  private static WordStore dictionary(int size) {
+    WordStore words = new WordStore();
+    for (int i = 0; i < size; i++) {
+      words.append("WORD" + i);
+    }
+    return words;
+  }
+
+  /**
+   * Cuts the record short, as a crash part way through writing it would.
+   *
+   * @param size the new size of the file.
+   * @throws IOException if the file cannot be truncated.
+   */
+  private void truncate(long size) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+      channel.truncate(size);
+    }
+  }
+}
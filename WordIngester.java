@@ -0,0 +1,467 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Reads word lists of any size into a {@link WordStore}, keeping only words that can be played.
+ * <br>
+ * The file is read a chunk at a time, so it may be far larger than memory (or than the 2GB that
+ * can be mapped at once).  Each line is trimmed and upper cased.  It is dropped if it is blank,
+ * has anything but the letters A to Z, is shorter than {@link WordIngester#MIN_LENGTH} (a one
+ * letter word is lost before the first guess) or longer than {@link WordIngester#MAX_LENGTH}, or
+ * is a word that is already in the store.  How many lines were dropped for each reason is
+ * returned as a {@link Report}.
+ * <br>
+ * Duplicates are found with a table of 64 bit fingerprints rather than the words themselves, which
+ * is 16 bytes of heap per word at most.  Two different words sharing a fingerprint is possible
+ * but would take billions of words to be likely.  The table and the read buffer are all the heap
+ * the ingester uses, and it refuses to grow the table past its heap budget.  Use an off-heap
+ * store to keep the words themselves off the heap too.
+ * <br>
+ * Compiled files (see {@link DictionaryCompiler}) are told apart from text the same way
+ * {@link WordStore#load(Path)} does it.  They are already clean, so an empty store takes one over
+ * as it is.  A store that already has words gets each compiled word checked like a line of text,
+ * so a word it has is dropped as a duplicate.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+public final class WordIngester {
+
+  /**
+   * Why a line was not added.
+   */
+  public enum Rejection {
+    /**
+     * Nothing but whitespace.
+     */
+    BLANK,
+    /**
+     * Longer than {@link WordIngester#MAX_LENGTH}.
+     */
+    TOO_LONG,
+    /**
+     * Has a character that is not a letter from A to Z.
+     */
+    INVALID_CHARACTER,
+    /**
+     * Shorter than {@link WordIngester#MIN_LENGTH}.
+     */
+    TOO_SHORT,
+    /**
+     * Already in the store.
+     */
+    DUPLICATE
+  }
+
+  /**
+   * The shortest word that can be played.
+   */
+  public static final int MIN_LENGTH = 2;
+  /**
+   * The longest word that is kept.
+   */
+  public static final int MAX_LENGTH = 32;
+  /**
+   * The size of each read.
+   */
+  private static final int CHUNK = 1 << 20;
+  /**
+   * Marks an empty entry in {@link WordIngester#fingerprints}.  No word hashes to this.
+   */
+  private static final long EMPTY = 0;
+
+  /**
+   * Where words are added.
+   */
+  private final WordStore target;
+  /**
+   * The most heap the ingester may use, in bytes.
+   */
+  private final long heapBudget;
+  /**
+   * The fingerprint of every word in {@link WordIngester#target}, in an open addressing table.
+   */
+  private long[] fingerprints = new long[0];
+  /**
+   * The number of fingerprints in the table.
+   */
+  private int entries;
+  /**
+   * The number of words in {@link WordIngester#target} that have been fingerprinted.
+   */
+  private int fingerprinted;
+  /**
+   * The current word, upper cased.
+   */
+  private final byte[] word = new byte[MAX_LENGTH];
+  /**
+   * Wraps {@link WordIngester#word} to hand to the store.
+   */
+  private final ByteBuffer wordBuffer = ByteBuffer.wrap(word);
+
+  /**
+   * Creates an ingester that may use a quarter of the maximum heap.
+   *
+   * @param target where words are added.
+   */
+  public WordIngester(WordStore target) {
+    this(target, Runtime.getRuntime().maxMemory() / 4);
+  }
+
+  /**
+   * Creates an ingester.  Words already in {@code target} count as duplicates.
+   *
+   * @param target where words are added.
+   * @param heapBudget the most heap the ingester may use, in bytes.
+   */
+  public WordIngester(WordStore target, long heapBudget) {
+    if (heapBudget < CHUNK) {
+      throw new IllegalArgumentException("The heap budget must be at least " + CHUNK + " bytes");
+    }
+    this.target = target;
+    this.heapBudget = heapBudget;
+  }
+
+  /**
+   * Adds the playable words of a file.
+   *
+   * @param file the word list, as text or compiled.
+   * @return how many lines were read, added and dropped.
+   * @throws IOException if the file cannot be read.
+   * @throws IllegalStateException if removing duplicates would need more than the heap budget.
+   */
+  public Report ingest(Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      ByteBuffer header = ByteBuffer.allocate(4 * Integer.BYTES);
+      channel.read(header, 0);
+      header.flip();
+      if (WordStore.isCompiled(header, channel.size())) {
+        return target.isEmpty() ? takeOver(file) : readCompiled(file);
+      }
+      catchUp();
+      // most words are short, so this is about the number of lines; growing later is still allowed
+      reserve(entries + channel.size() / 8);
+      return readText(channel);
+    }
+  }
+
+  /**
+   * Loads a compiled file into the empty store, which reads it straight from the mapping.
+   *
+   * @param file the compiled file.
+   * @return every word read and added.
+   * @throws IOException if the file cannot be read or is damaged.
+   */
+  private Report takeOver(Path file) throws IOException {
+    int added = target.load(file);
+    Report report = new Report();
+    report.lines = added;
+    report.accepted = added;
+    return report;
+  }
+
+  /**
+   * Adds the words of a compiled file to a store that already has words, checking each one like a
+   * line of text so that words already in the store are dropped.
+   *
+   * @param file the compiled file.
+   * @return how many words were read, added and dropped.
+   * @throws IOException if the file cannot be read or is damaged.
+   */
+  private Report readCompiled(Path file) throws IOException {
+    WordStore compiled = new WordStore();
+    compiled.load(file);
+    catchUp();
+    reserve(entries + (long) compiled.size());
+    Report report = new Report();
+    byte[] bytes = new byte[MAX_LENGTH];
+    for (int i = 0; i < compiled.size(); i++) {
+      int length = compiled.byteLength(i);
+      if (length > bytes.length) {
+        bytes = new byte[length];
+      }
+      compiled.getBytes(i, bytes);
+      addLine(bytes, 0, length, report);
+    }
+    return report;
+  }
+
+  /**
+   * Reads a text file a chunk at a time and adds each line.
+   *
+   * @param channel the file.
+   * @return how many lines were read, added and dropped.
+   * @throws IOException if the file cannot be read.
+   */
+  private Report readText(FileChannel channel) throws IOException {
+    Report report = new Report();
+    byte[] chunk = new byte[CHUNK];
+    ByteBuffer buffer = ByteBuffer.wrap(chunk);
+    // true while the rest of a line that did not fit in a chunk is being thrown away
+    boolean skipping = false;
+    int filled = 0;
+    boolean done = false;
+    while (!done) {
+      buffer.limit(CHUNK).position(filled);
+      done = channel.read(buffer) < 0;
+      filled = buffer.position();
+      int lineStart = 0;
+      for (int i = 0; i < filled; i++) {
+        if (chunk[i] == '\n') {
+          if (skipping) {
+            skipping = false;
+          } else {
+            addLine(chunk, lineStart, i, report);
+          }
+          lineStart = i + 1;
+        }
+      }
+      if (done) {
+        if (!skipping && lineStart < filled) {
+          addLine(chunk, lineStart, filled, report);
+        }
+      } else if (lineStart == 0 && filled == CHUNK) {
+        if (!skipping) {
+          report.lines++;
+          report.reject(Rejection.TOO_LONG);
+        }
+        skipping = true;
+        filled = 0;
+      } else {
+        System.arraycopy(chunk, lineStart, chunk, 0, filled - lineStart);
+        filled -= lineStart;
+      }
+    }
+    return report;
+  }
+
+  /**
+   * Checks one line and adds it if it is a playable word.
+   *
+   * @param bytes holds the line.
+   * @param start where the line starts.
+   * @param end where the line ends, not counting the line break.
+   * @param report where to count the line.
+   */
+  private void addLine(byte[] bytes, int start, int end, Report report) {
+    report.lines++;
+    while (start < end && bytes[start] >= 0 && bytes[start] <= ' ') {
+      start++;
+    }
+    while (end > start && bytes[end - 1] >= 0 && bytes[end - 1] <= ' ') {
+      end--;
+    }
+    int length = end - start;
+    if (length == 0) {
+      report.reject(Rejection.BLANK);
+      return;
+    }
+    if (length > MAX_LENGTH) {
+      report.reject(Rejection.TOO_LONG);
+      return;
+    }
+    long hash = 0xCBF29CE484222325L;
+    for (int i = 0; i < length; i++) {
+      int b = bytes[start + i];
+      if (b >= 'a' && b <= 'z') {
+        b -= 'a' - 'A';
+      } else if (b < 'A' || b > 'Z') {
+        report.reject(Rejection.INVALID_CHARACTER);
+        return;
+      }
+      word[i] = (byte) b;
+      hash = (hash ^ b) * 0x100000001B3L;
+    }
+    if (length < MIN_LENGTH) {
+      report.reject(Rejection.TOO_SHORT);
+      return;
+    }
+    if (!addFingerprint(hash)) {
+      report.reject(Rejection.DUPLICATE);
+      return;
+    }
+    target.append(wordBuffer, 0, length);
+    fingerprinted++;
+    report.accepted++;
+  }
+
+  /**
+   * Fingerprints the words that were added to the store by something other than this ingester.
+   */
+  private void catchUp() {
+    for (; fingerprinted < target.size(); fingerprinted++) {
+      String existing = target.get(fingerprinted).trim().toUpperCase(Locale.ROOT);
+      long hash = 0xCBF29CE484222325L;
+      for (int i = 0; i < existing.length(); i++) {
+        hash = (hash ^ existing.charAt(i)) * 0x100000001B3L;
+      }
+      addFingerprint(hash);
+    }
+  }
+
+  /**
+   * Adds a fingerprint to the table.
+   *
+   * @param hash the FNV-1a hash of the word.
+   * @return {@code false} if the fingerprint was already there.
+   */
+  private boolean addFingerprint(long hash) {
+    // FNV-1a is weak in the low bits, so mix it before using them to pick a slot
+    long fingerprint = hash ^ (hash >>> 33);
+    fingerprint *= 0xFF51AFD7ED558CCDL;
+    fingerprint ^= fingerprint >>> 33;
+    if (fingerprint == EMPTY) {
+      fingerprint = 1;
+    }
+    if ((entries + 1) * 2L > fingerprints.length) {
+      grow();
+    }
+    int mask = fingerprints.length - 1;
+    int i = (int) fingerprint & mask;
+    while (fingerprints[i] != EMPTY) {
+      if (fingerprints[i] == fingerprint) {
+        return false;
+      }
+      i = (i + 1) & mask;
+    }
+    fingerprints[i] = fingerprint;
+    entries++;
+    return true;
+  }
+
+  /**
+   * Makes the table big enough for {@code words} fingerprints up front, as far as the heap budget
+   * allows, so it is not copied over and over while a large file is read.
+   *
+   * @param words the expected number of words.
+   */
+  private void reserve(long words) {
+    long capacity = Long.highestOneBit(Math.max(1, words * 2 - 1)) << 1;
+    while (capacity > fingerprints.length
+        && Long.BYTES * (capacity + fingerprints.length) + CHUNK > heapBudget) {
+      capacity >>= 1;
+    }
+    if (capacity > fingerprints.length && capacity <= 1 << 30) {
+      resize((int) capacity);
+    }
+  }
+
+  /**
+   * Doubles the fingerprint table.
+   *
+   * @throws IllegalStateException if the bigger table would not fit in the heap budget.
+   */
+  private void grow() {
+    resize(Math.max(1024, fingerprints.length * 2));
+  }
+
+  /**
+   * Moves the fingerprints to a table of a new size.
+   *
+   * @param capacity the new size, a power of two.
+   * @throws IllegalStateException if the new table would not fit in the heap budget.
+   */
+  private void resize(int capacity) {
+    // the old and the new table are both alive while the entries are copied
+    long bytes = (long) Long.BYTES * (capacity + fingerprints.length) + CHUNK;
+    if (bytes > heapBudget || capacity < 0) {
+      throw new IllegalStateException("Removing duplicates from " + entries
+          + " words needs more than the heap budget of " + heapBudget + " bytes");
+    }
+    long[] old = fingerprints;
+    fingerprints = new long[capacity];
+    int mask = capacity - 1;
+    for (long fingerprint : old) {
+      if (fingerprint != EMPTY) {
+        int i = (int) fingerprint & mask;
+        while (fingerprints[i] != EMPTY) {
+          i = (i + 1) & mask;
+        }
+        fingerprints[i] = fingerprint;
+      }
+    }
+  }
+
+  /**
+   * What happened to the lines of one file.
+   */
+  public static final class Report {
+
+    /**
+     * The number of lines read.
+     */
+    private long lines;
+    /**
+     * The number of words added.
+     */
+    private long accepted;
+    /**
+     * The number of lines dropped, by {@link Rejection#ordinal()}.
+     */
+    private final long[] rejected = new long[Rejection.values().length];
+
+    /**
+     * Counts a dropped line.
+     *
+     * @param reason why it was dropped.
+     */
+    private void reject(Rejection reason) {
+      rejected[reason.ordinal()]++;
+    }
+
+    /**
+     * standard getter
+     *
+     * @return the number of lines read.
+     */
+    public long getLines() {
+      return lines;
+    }
+
+    /**
+     * standard getter
+     *
+     * @return the number of words added.
+     */
+    public long getAccepted() {
+      return accepted;
+    }
+
+    /**
+     * Used to see why lines were dropped.
+     *
+     * @param reason a reason for dropping a line.
+     * @return the number of lines dropped for that reason.
+     */
+    public long getRejected(Rejection reason) {
+      return rejected[reason.ordinal()];
+    }
+
+    /**
+     * Used to see how many lines were dropped.
+     *
+     * @return the number of lines dropped for any reason.
+     */
+    public long getRejectedTotal() {
+      return Arrays.stream(rejected).sum();
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder text = new StringBuilder();
+      text.append(lines).append(" lines, ").append(accepted).append(" words added");
+      for (Rejection reason : Rejection.values()) {
+        if (rejected[reason.ordinal()] > 0) {
+          text.append(", ").append(rejected[reason.ordinal()]).append(' ')
+              .append(reason.name().toLowerCase(Locale.ROOT).replace('_', ' '));
+        }
+      }
+      return text.toString();
+    }
+  }
+}
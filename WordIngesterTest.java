@@ -0,0 +1,186 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link WordIngester}.  Only playable words get in, each once, and every dropped line
+ * is counted.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+class WordIngesterTest {
+
+  /**
+   * A temporary word file, created before each test.
+   */
+  private Path file;
+
+  /**
+   * Creates the word file.
+   *
+   * @throws IOException if the file cannot be created.
+   */
+  @BeforeEach
+  void setUp() throws IOException {
+    file = Files.createTempFile("ingestWords", ".txt");
+  }
+
+  /**
+   * Removes the word file.
+   *
+   * @throws IOException if the file cannot be removed.
+   */
+  @AfterEach
+  void tearDown() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  /**
+   * Each kind of bad line is dropped and counted, and good lines are trimmed and upper cased.
+   *
+   * @throws IOException if the file cannot be written or read.
+   */
+  @Test
+  void rejectsAndCounts() throws IOException {
+    Files.writeString(file, "square\r\n  Circle \n\n12ab\nX\nfish\nFISH\ncake!\n"
+        + "A".repeat(WordIngester.MAX_LENGTH + 1) + "\n" + "B".repeat(WordIngester.MAX_LENGTH));
+    WordStore store = new WordStore();
+    WordIngester.Report report = new WordIngester(store).ingest(file);
+    assertEquals(List.of("SQUARE", "CIRCLE", "FISH", "B".repeat(WordIngester.MAX_LENGTH)), store);
+    assertEquals(10, report.getLines());
+    assertEquals(4, report.getAccepted());
+    assertEquals(6, report.getRejectedTotal());
+    assertEquals(1, report.getRejected(WordIngester.Rejection.BLANK));
+    assertEquals(2, report.getRejected(WordIngester.Rejection.INVALID_CHARACTER));
+    assertEquals(1, report.getRejected(WordIngester.Rejection.TOO_SHORT));
+    assertEquals(1, report.getRejected(WordIngester.Rejection.TOO_LONG));
+    assertEquals(1, report.getRejected(WordIngester.Rejection.DUPLICATE));
+  }
+
+  /**
+   * Lines that cross the edge of a read are put back together, a line longer than a whole read is
+   * dropped, and words already in the store or read from an earlier file are duplicates.
+   *
+   * @throws IOException if the file cannot be written or read.
+   */
+  @Test
+  void largeFileAcrossChunks() throws IOException {
+    int words = 300_000;
+    try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+      for (int i = 0; i < words; i++) {
+        writer.write(word(i));
+        writer.write('\n');
+        if (i == words / 2) {
+          writer.write("Q".repeat(3 << 20));
+          writer.write('\n');
+        }
+      }
+    }
+    WordStore store = new WordStore(true);
+    store.append(word(7));
+    WordIngester ingester = new WordIngester(store);
+    WordIngester.Report report = ingester.ingest(file);
+    assertEquals(words + 1, report.getLines());
+    assertEquals(words - 1, report.getAccepted());
+    assertEquals(1, report.getRejected(WordIngester.Rejection.TOO_LONG));
+    assertEquals(1, report.getRejected(WordIngester.Rejection.DUPLICATE));
+    assertEquals(words, store.size());
+    assertEquals(word(words - 1), store.get(words - 1));
+
+    report = ingester.ingest(file);
+    assertEquals(0, report.getAccepted());
+    assertEquals(words, report.getRejected(WordIngester.Rejection.DUPLICATE));
+  }
+
+  /**
+   * A compiled file loaded into a store that already has words only adds the words it does not
+   * have, whether they came from text or from another compiled file.
+   *
+   * @throws IOException if the files cannot be written or read.
+   */
+  @Test
+  void compiledIntoFullStore() throws IOException {
+    Files.writeString(file, "fish\ncake\n");
+    WordStore compiledWords = new WordStore();
+    for (String word : List.of("CAKE", "TEA", "SQUARE")) {
+      compiledWords.append(word);
+    }
+    Path compiled = Files.createTempFile("ingestWords", ".bin");
+    try {
+      compiledWords.writeCompiled(compiled);
+      WordStore store = new WordStore();
+      WordIngester ingester = new WordIngester(store);
+      ingester.ingest(file);
+      WordIngester.Report report = ingester.ingest(compiled);
+      assertEquals(3, report.getLines());
+      assertEquals(2, report.getAccepted());
+      assertEquals(1, report.getRejected(WordIngester.Rejection.DUPLICATE));
+      report = ingester.ingest(compiled);
+      assertEquals(0, report.getAccepted());
+      assertEquals(List.of("FISH", "CAKE", "TEA", "SQUARE"), store);
+
+      WordStore fromCompiled = new WordStore();
+      new WordIngester(fromCompiled).ingest(compiled);
+      assertEquals(3, new WordIngester(fromCompiled).ingest(compiled).getRejectedTotal());
+      assertEquals(3, fromCompiled.size());
+    } finally {
+      Files.delete(compiled);
+    }
+  }
+
+  /**
+   * Deduping more words than the heap budget allows fails instead of using more memory.
+   *
+   * @throws IOException if the file cannot be written or read.
+   */
+  @Test
+  void heapBudget() throws IOException {
+    try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+      for (int i = 0; i < 5_000; i++) {
+        writer.write(word(i));
+        writer.write('\n');
+      }
+    }
+    WordIngester ingester = new WordIngester(new WordStore(), (1 << 20) + 32 * 1024);
+    assertThrows(IllegalStateException.class, () -> ingester.ingest(file));
+  }
+
+  /**
+   * Hangman only chooses from the playable words of a file.
+   *
+   * @throws IOException if the file cannot be written.
+   */
+  @Test
+  void hangmanSkipsBadLines() throws IOException {
+    Files.writeString(file, "fish\nFISH\n\nF1SH\n");
+    Hangman game = new Hangman();
+    game.readFile(file.toString());
+    assertEquals(1, game.getCountWordsRemaining());
+    assertEquals(3, game.getLoadReport().getRejectedTotal());
+    assertEquals("FISH", game.chooseWord());
+  }
+
+  /**
+   * A distinct word of letters for each number.
+   *
+   * @param i the number.
+   * @return "W" followed by {@code i} written in base 26 with the letters A to Z.
+   */
+  private static String word(int i) {
+    StringBuilder word = new StringBuilder("W");
+    do {
+      word.append((char) ('A' + i % 26));
+      i /= 26;
+    } while (i > 0);
+    return word.toString();
+  }
+}
@@ -0,0 +1,242 @@
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * A pool of word indices that hands each index out exactly once, in random order.
+ * <br>
+ * This is a Fisher-Yates shuffle that is run one step at a time.  The pool is thought of as an
+ * array of slots where slot {@code i} holds index {@code i}.  Drawing picks a random slot below
+ * {@link WordPool#remaining()}, returns its index and moves the last unused slot into its place.
+ * <br>
+ * Only the slots that have been swapped are remembered (in a small open addressing table), so a
+ * pool over ten million words costs nothing until words are drawn, and every draw is O(1).  A slot
+ * is forgotten again once it is past {@link WordPool#remaining()}, so the table only holds the
+ * unused slots that were swapped.  That is at most about a quarter of the words, when half have
+ * been drawn, so draining the pool takes a table about the size of a plain {@code int[]} of every
+ * index rather than several times it.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+public class WordPool implements WordSelector {
+
+  /**
+   * Marks an empty entry in {@link WordPool#table}.  No slot is -1, so no entry is this.
+   */
+  private static final long EMPTY = -1;
+  /**
+   * The number of slots that still hold unused indices.  These are slots 0 to remaining - 1.
+   */
+  private int remaining;
+  /**
+   * The number of indices that have ever been added to the pool.
+   */
+  private int size;
+  /**
+   * The swap table.  Each entry is a slot in the high 32 bits and the index it holds in the low 32
+   * bits, so a lookup reads one array.  A slot that is not in the table still holds its own index.
+   */
+  private long[] table = newTable(16);
+  /**
+   * The number of entries in the swap table.
+   */
+  private int entries;
+
+  /**
+   * No parameter constructor.  Creates an empty pool.
+   */
+  public WordPool() {
+    this(0);
+  }
+
+  /**
+   * Creates a pool that already holds the indices 0 to {@code size - 1}.  This takes the same time
+   * for any size, since nothing has been swapped yet.
+   *
+   * @param size the number of indices to start with.
+   */
+  public WordPool(int size) {
+    remaining = size;
+    this.size = size;
+  }
+
+  /**
+   * Adds the next index (the number of indices added so far) to the pool.
+   */
+  public void add() {
+    if (remaining != size) {
+      put(remaining, size);
+    }
+    remaining++;
+    size++;
+  }
+
+  /**
+   * Removes a random index from the pool.
+   *
+   * @param rand the source of randomness.
+   * @return an index that has not been drawn before, or -1 if the pool is empty.
+   */
+  @Override
+  public int draw(RandomGenerator rand) {
+    if (remaining == 0) {
+      return -1;
+    }
+    int slot = rand.nextInt(remaining);
+    int index = get(slot);
+    int last = --remaining;
+    int moved = take(last);
+    if (slot != last) {
+      put(slot, moved);
+    }
+    return index;
+  }
+
+  /**
+   * Used to check how many indices can still be drawn.
+   *
+   * @return the number of indices that have not been drawn.
+   */
+  @Override
+  public int remaining() {
+    return remaining;
+  }
+
+  /**
+   * standard getter
+   *
+   * @return the number of indices that have ever been added.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Looks up the index held by a slot.
+   *
+   * @param slot the slot to read.
+   * @return the index in {@code slot}.
+   */
+  private int get(int slot) {
+    int mask = table.length - 1;
+    for (int i = hash(slot) & mask; ; i = (i + 1) & mask) {
+      long entry = table[i];
+      if (entry == EMPTY) {
+        return slot;
+      }
+      if ((int) (entry >>> 32) == slot) {
+        return (int) entry;
+      }
+    }
+  }
+
+  /**
+   * Records that {@code slot} now holds {@code index}.
+   *
+   * @param slot the slot to write.
+   * @param index the index it holds.
+   */
+  private void put(int slot, int index) {
+    int mask = table.length - 1;
+    int i = hash(slot) & mask;
+    while (table[i] != EMPTY && (int) (table[i] >>> 32) != slot) {
+      i = (i + 1) & mask;
+    }
+    boolean added = table[i] == EMPTY;
+    table[i] = entry(slot, index);
+    if (added && ++entries * 4 > table.length * 3) {
+      grow();
+    }
+  }
+
+  /**
+   * Looks up the index held by a slot and forgets the slot, since it is past
+   * {@link WordPool#remaining()} and will not be read again.  The entries after it in its run are
+   * shifted back, so no lookup has to step over a deleted entry.
+   *
+   * @param slot the slot to take.
+   * @return the index that was in {@code slot}.
+   */
+  private int take(int slot) {
+    int mask = table.length - 1;
+    int i = hash(slot) & mask;
+    while ((int) (table[i] >>> 32) != slot) {
+      if (table[i] == EMPTY) {
+        return slot;
+      }
+      i = (i + 1) & mask;
+    }
+    int index = (int) table[i];
+    entries--;
+    for (int j = (i + 1) & mask; table[j] != EMPTY; j = (j + 1) & mask) {
+      // an entry may fill the hole only if the hole is between its home and where it is now
+      if (((j - hash((int) (table[j] >>> 32))) & mask) >= ((j - i) & mask)) {
+        table[i] = table[j];
+        i = j;
+      }
+    }
+    table[i] = EMPTY;
+    return index;
+  }
+
+  /**
+   * Used to check how much memory the swap table takes.
+   *
+   * @return the bytes in the swap table.
+   */
+  long tableBytes() {
+    return (long) Long.BYTES * table.length;
+  }
+
+  /**
+   * Doubles the size of the swap table.
+   */
+  private void grow() {
+    long[] old = table;
+    table = newTable(old.length * 2);
+    int mask = table.length - 1;
+    for (long entry : old) {
+      if (entry != EMPTY) {
+        int i = hash((int) (entry >>> 32)) & mask;
+        while (table[i] != EMPTY) {
+          i = (i + 1) & mask;
+        }
+        table[i] = entry;
+      }
+    }
+  }
+
+  /**
+   * Packs a slot and the index it holds into a table entry.
+   *
+   * @param slot the slot.
+   * @param index the index.
+   * @return the entry.
+   */
+  private static long entry(int slot, int index) {
+    return (long) slot << 32 | (index & 0xFFFFFFFFL);
+  }
+
+  /**
+   * Creates an empty table.
+   *
+   * @param capacity a power of two.
+   * @return an array filled with {@link WordPool#EMPTY}.
+   */
+  private static long[] newTable(int capacity) {
+    long[] table = new long[capacity];
+    Arrays.fill(table, EMPTY);
+    return table;
+  }
+
+  /**
+   * Spreads the bits of a slot number so neighbouring slots do not collide.
+   *
+   * @param slot the slot number.
+   * @return a hash of the slot.
+   */
+  private static int hash(int slot) {
+    int h = slot * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+}
@@ -0,0 +1,67 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link WordPool}.  The pool has to give out every index once and then stop.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+class WordPoolTest {
+
+  /**
+   * Every index comes out exactly once, then the pool reports that it is empty, and the swap table
+   * never grew much past an {@code int[]} of every index.
+   */
+  @Test
+  void drawsEveryIndexOnce() {
+    int size = 1000;
+    WordPool pool = new WordPool();
+    for (int i = 0; i < size; i++) {
+      pool.add();
+    }
+    boolean[] seen = new boolean[size];
+    Random rand = new Random(42);
+    for (int i = 0; i < size; i++) {
+      assertEquals(size - i, pool.remaining());
+      int index = pool.draw(rand);
+      assertTrue(index >= 0 && index < size);
+      assertTrue(!seen[index], index + " was drawn twice");
+      seen[index] = true;
+    }
+    assertEquals(0, pool.remaining());
+    assertEquals(-1, pool.draw(rand));
+    assertTrue(pool.tableBytes() <= 2L * Integer.BYTES * size, pool.tableBytes() + " bytes");
+  }
+
+  /**
+   * Indices added after some draws are still handed out, and nothing is repeated.
+   */
+  @Test
+  void addAfterDraw() {
+    WordPool pool = new WordPool();
+    for (int i = 0; i < 10; i++) {
+      pool.add();
+    }
+    Random rand = new Random(7);
+    boolean[] seen = new boolean[20];
+    for (int i = 0; i < 5; i++) {
+      seen[pool.draw(rand)] = true;
+    }
+    for (int i = 0; i < 10; i++) {
+      pool.add();
+    }
+    assertEquals(15, pool.remaining());
+    for (int i = 0; i < 15; i++) {
+      int index = pool.draw(rand);
+      assertTrue(!seen[index], index + " was drawn twice");
+      seen[index] = true;
+    }
+    for (boolean b : seen) {
+      assertTrue(b);
+    }
+  }
+}
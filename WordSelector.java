@@ -0,0 +1,26 @@
+import java.util.random.RandomGenerator;
+
+/**
+ * Somewhere {@link Hangman} can draw unused words from.  Each index is handed out at most once.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+public interface WordSelector {
+
+  /**
+   * Removes an unused word.
+   *
+   * @param random the caller's source of randomness.  A selector that is already shuffled may
+   *     ignore it.
+   * @return the index of a word that has not been drawn before, or -1 if there are none left.
+   */
+  int draw(RandomGenerator random);
+
+  /**
+   * Used to check how many words can still be drawn.
+   *
+   * @return the number of words that have not been drawn.
+   */
+  int remaining();
+}
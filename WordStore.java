@@ -0,0 +1,582 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+import java.util.zip.CRC32C;
+
+/**
+ * The words that Hangman may choose from, packed end to end.
+ * <br>
+ * All the words live in one contiguous {@link ByteBuffer}, and word {@code i} is the bytes from
+ * {@code offsets[i]} up to {@code offsets[i + 1]}.  That is the word's own bytes plus four bytes
+ * of offset, instead of a String, a byte[] and a list reference per word.  The buffer may be
+ * allocated off-heap, which leaves only the offset table for the garbage collector to look at.
+ * <br>
+ * Word files are memory mapped with {@link FileChannel#map} while they are loaded, and each
+ * trimmed line is copied straight from the mapping into the buffer.  A word is decoded when it is
+ * asked for with {@link WordStore#get(int)}.
+ * <br>
+ * A store can also be written out in a compiled form (see {@link WordStore#writeCompiled(Path)}):
+ * <pre>
+ *   header   magic "HMWD", version, word count, data bytes, CRC32C of the rest, 0   (6 ints)
+ *            words of each length 0 to 63, the last counting 63 and longer       (64 ints)
+ *   offsets  word count + 1 ints
+ *   data     the bytes of every word, end to end
+ * </pre>
+ * Loading a compiled file into an empty store copies nothing.  The store checks the offsets once
+ * and then reads them and the words straight out of the mapping, so loading only reads four bytes
+ * a word.  Adding words afterwards copies the mapping into memory first.
+ * <br>
+ * This is a read only {@link java.util.List} of the words, in the order they were added.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+public class WordStore extends AbstractList<String> implements RandomAccess {
+
+  /**
+   * The first four bytes of a compiled file, "HMWD".
+   */
+  static final int MAGIC = 0x484D5744;
+  /**
+   * The version of the compiled layout.
+   */
+  static final int VERSION = 1;
+  /**
+   * The number of buckets in the length histogram.  Longer words are counted in the last one.
+   */
+  public static final int HISTOGRAM_LENGTHS = 64;
+  /**
+   * The size of a compiled file's header, where the offsets start.
+   */
+  static final int HEADER = (6 + HISTOGRAM_LENGTHS) * Integer.BYTES;
+
+  /**
+   * {@code true} if {@link WordStore#data} is allocated off-heap.
+   */
+  private final boolean offHeap;
+  /**
+   * The bytes of every word, end to end.  Only the first {@code offsets[count]} bytes are used.
+   * This is a read only mapping if a compiled file was loaded.
+   */
+  private ByteBuffer data;
+  /**
+   * Where each word starts in {@link WordStore#data}.  There is one extra entry at the end so
+   * that word {@code i} always ends at {@code offsets[i + 1]}.  This is a read only view of the
+   * mapping if a compiled file was loaded.
+   */
+  private IntBuffer offsets = IntBuffer.allocate(32);
+  /**
+   * The length histogram, if it is known.  Cleared whenever a word is added.
+   */
+  private int[] histogram;
+  /**
+   * The checksum of every word, if it is known.  Cleared whenever a word is added.
+   */
+  private Integer checksum;
+  /**
+   * The number of words.
+   */
+  private int count;
+  /**
+   * Set by {@link WordStore#freeze()}.  A frozen store cannot be changed, so any number of threads
+   * can read it.
+   */
+  private boolean frozen;
+
+  /**
+   * No parameter constructor.  Keeps the words on the heap.
+   */
+  public WordStore() {
+    this(false);
+  }
+
+  /**
+   * Creates an empty store.
+   *
+   * @param offHeap if this is {@code true} the words are kept in a direct buffer, outside the
+   *     Java heap.
+   */
+  public WordStore(boolean offHeap) {
+    this.offHeap = offHeap;
+    data = allocate(256);
+  }
+
+  /**
+   * Maps a word file and adds its words.  A compiled file (see
+   * {@link WordStore#writeCompiled(Path)}) is recognised by its header, where the magic, the
+   * version and the size of the file must all match, and its words are added as they are.  Any
+   * other file, including a text list whose first word is "HMWD", is read as text, and each line
+   * is added with leading and trailing whitespace removed.
+   * <br>
+   * The offsets of a compiled file are checked, but its checksum is not, since that means reading
+   * all of it; use {@link WordStore#verifyCompiled(Path)} for that.
+   *
+   * @param file the file to load.
+   * @return the number of words added.
+   * @throws IOException if the file cannot be opened or mapped, or is a compiled file with a
+   *     damaged offset table.
+   */
+  public int load(Path file) throws IOException {
+    checkWritable();
+    MappedByteBuffer source;
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      if (channel.size() > Integer.MAX_VALUE) {
+        throw new IOException(file + " is larger than 2GB");
+      }
+      source = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+    if (isCompiled(source, source.limit())) {
+      return loadCompiled(file, source);
+    }
+    return loadText(source);
+  }
+
+  /**
+   * Writes the words to a file in the compiled form.  The words are written as they are, so they
+   * should already be checked and unique (see {@link DictionaryCompiler}).
+   *
+   * @param file the file to write.
+   * @throws IOException if the file cannot be written.
+   */
+  public void writeCompiled(Path file) throws IOException {
+    int dataBytes = byteSize();
+    ByteBuffer header = ByteBuffer.allocate(HEADER);
+    header.putInt(MAGIC).putInt(VERSION).putInt(count).putInt(dataBytes).putInt(0).putInt(0);
+    for (int bucket : lengthHistogram()) {
+      header.putInt(bucket);
+    }
+    CRC32C crc = new CRC32C();
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE,
+        StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+      writeFully(channel, header.flip());
+      ByteBuffer chunk = ByteBuffer.allocate(1 << 16);
+      for (int i = 0; i <= count; i++) {
+        if (!chunk.hasRemaining()) {
+          writeChunk(channel, chunk, crc);
+        }
+        chunk.putInt(offsets.get(i));
+      }
+      writeChunk(channel, chunk, crc);
+      ByteBuffer words = data.slice(0, dataBytes);
+      crc.update(words.duplicate());
+      writeFully(channel, words);
+      // the checksum goes in last, so a file that was not finished never matches it
+      channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, (int) crc.getValue()), 16);
+    }
+  }
+
+  /**
+   * Writes a filled buffer, adds it to a checksum and empties it.
+   *
+   * @param channel where to write.
+   * @param chunk the bytes to write, from 0 to its position.
+   * @param crc the checksum to update.
+   * @throws IOException if the bytes cannot be written.
+   */
+  private static void writeChunk(FileChannel channel, ByteBuffer chunk, CRC32C crc)
+      throws IOException {
+    chunk.flip();
+    crc.update(chunk.duplicate());
+    writeFully(channel, chunk);
+    chunk.clear();
+  }
+
+  /**
+   * Writes all of a buffer.
+   *
+   * @param channel where to write.
+   * @param buffer the bytes to write.
+   * @throws IOException if the bytes cannot be written.
+   */
+  private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+  }
+
+  /**
+   * Reads all of a compiled file and checks it against its checksum.
+   *
+   * @param file the compiled file.
+   * @return {@code true} if the file is a complete, undamaged compiled file.
+   * @throws IOException if the file cannot be read.
+   */
+  public static boolean verifyCompiled(Path file) throws IOException {
+    MappedByteBuffer source;
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      if (channel.size() > Integer.MAX_VALUE || channel.size() < HEADER) {
+        return false;
+      }
+      source = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+    if (!isCompiled(source, source.limit())) {
+      return false;
+    }
+    CRC32C crc = new CRC32C();
+    crc.update(source.slice(HEADER, source.limit() - HEADER));
+    return (int) crc.getValue() == source.getInt(16);
+  }
+
+  /**
+   * Checks whether a file is in the compiled form: it starts with the magic and the version, and is
+   * exactly as long as its header says.
+   *
+   * @param start the start of the file, at least 16 bytes of it if the file is that long.
+   * @param size the size of the file.
+   * @return {@code true} if the file should be read as compiled.
+   */
+  static boolean isCompiled(ByteBuffer start, long size) {
+    return size >= HEADER && start.limit() >= 4 * Integer.BYTES && start.getInt(0) == MAGIC
+        && start.getInt(4) == VERSION && compiledSize(start) == size;
+  }
+
+  /**
+   * Adds the words of a compiled file.  An empty store takes over the mapping instead of copying.
+   * Either way the offsets are checked first, so a damaged table is refused before any word is
+   * added.
+   *
+   * @param file the file, for error messages.
+   * @param source the mapped file, already checked with
+   *     {@link WordStore#isCompiled(ByteBuffer, long)}.
+   * @return the number of words added.
+   * @throws IOException if the offset table is damaged.
+   */
+  private int loadCompiled(Path file, MappedByteBuffer source) throws IOException {
+    int words = source.getInt(8);
+    int dataBytes = source.getInt(12);
+    int dataStart = HEADER + Integer.BYTES * (words + 1);
+    IntBuffer starts = source.slice(HEADER, dataStart - HEADER).asIntBuffer();
+    if (starts.get(0) != 0 || starts.get(words) != dataBytes) {
+      throw new IOException(file + " is not a complete compiled word file");
+    }
+    int previous = 0;
+    for (int i = 1; i < words; i++) {
+      int start = starts.get(i);
+      if (start < previous || start > dataBytes) {
+        throw new IOException(file + " has a damaged offset table at word " + i);
+      }
+      previous = start;
+    }
+    ByteBuffer bytes = source.slice(dataStart, dataBytes);
+    if (count == 0) {
+      data = bytes;
+      offsets = starts;
+      count = words;
+      checksum = null;
+      histogram = new int[HISTOGRAM_LENGTHS];
+      source.slice(24, HISTOGRAM_LENGTHS * Integer.BYTES).asIntBuffer().get(histogram);
+      return words;
+    }
+    ensureBytes(dataBytes);
+    for (int i = 0; i < words; i++) {
+      copyIn(bytes, starts.get(i), starts.get(i + 1) - starts.get(i));
+    }
+    return words;
+  }
+
+  /**
+   * The size a compiled file should be, from its header.
+   *
+   * @param source the mapped file, at least a header long.
+   * @return the expected size in bytes, or -1 if the header makes no sense.
+   */
+  private static long compiledSize(ByteBuffer source) {
+    int words = source.getInt(8);
+    int dataBytes = source.getInt(12);
+    if (words < 0 || dataBytes < 0) {
+      return -1;
+    }
+    return HEADER + Integer.BYTES * (words + 1L) + dataBytes;
+  }
+
+  /**
+   * Adds each line of a text file, with leading and trailing whitespace removed.
+   *
+   * @param source the mapped file.
+   * @return the number of words added.
+   */
+  private int loadText(MappedByteBuffer source) {
+    int limit = source.limit();
+    ensureBytes(limit);
+
+    int added = 0;
+    int lineStart = 0;
+    while (lineStart < limit) {
+      int lineEnd = lineStart;
+      while (lineEnd < limit && source.get(lineEnd) != '\n') {
+        lineEnd++;
+      }
+      int start = lineStart;
+      int end = lineEnd;
+      while (start < end && isSpace(source.get(start))) {
+        start++;
+      }
+      while (end > start && isSpace(source.get(end - 1))) {
+        end--;
+      }
+      copyIn(source, start, end - start);
+      added++;
+      lineStart = lineEnd + 1;
+    }
+    return added;
+  }
+
+  /**
+   * Adds one word to the end of the store.
+   *
+   * @param word the word to add.
+   */
+  public void append(String word) {
+    checkWritable();
+    byte[] bytes = word.getBytes(StandardCharsets.UTF_8);
+    ensureBytes(bytes.length);
+    copyIn(ByteBuffer.wrap(bytes), 0, bytes.length);
+  }
+
+  /**
+   * Adds one word to the end of the store, straight from a buffer.  The bytes must already be
+   * UTF-8.
+   *
+   * @param source the buffer holding the word.
+   * @param start the offset of the word in {@code source}.
+   * @param length the number of bytes in the word.
+   */
+  void append(ByteBuffer source, int start, int length) {
+    checkWritable();
+    ensureBytes(length);
+    copyIn(source, start, length);
+  }
+
+  /**
+   * Decodes a word.
+   *
+   * @param index the position of the word.
+   * @return the word at {@code index}.
+   */
+  @Override
+  public String get(int index) {
+    checkIndex(index);
+    int start = offsets.get(index);
+    byte[] bytes = new byte[offsets.get(index + 1) - start];
+    data.get(start, bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Used to read a word without decoding it.
+   *
+   * @param index the position of the word.
+   * @return the number of bytes in the word.
+   */
+  int byteLength(int index) {
+    checkIndex(index);
+    return offsets.get(index + 1) - offsets.get(index);
+  }
+
+  /**
+   * Copies the bytes of a word without decoding it.
+   *
+   * @param index the position of the word.
+   * @param into where to copy them, at least {@link WordStore#byteLength(int)} long.
+   */
+  void getBytes(int index, byte[] into) {
+    data.get(offsets.get(index), into, 0, byteLength(index));
+  }
+
+  /**
+   * standard getter
+   *
+   * @return the number of words.
+   */
+  @Override
+  public int size() {
+    return count;
+  }
+
+  /**
+   * Used to check how much memory the words take.
+   *
+   * @return the number of bytes used by the words themselves.
+   */
+  public int byteSize() {
+    return offsets.get(count);
+  }
+
+  /**
+   * Counts the words of each length, in bytes.  This is read from the header of a compiled file
+   * and worked out otherwise.
+   *
+   * @return a new array where entry {@code n} is the number of words {@code n} bytes long, and
+   *     the last entry also counts every longer word.
+   */
+  public int[] lengthHistogram() {
+    if (histogram == null) {
+      int[] counts = new int[HISTOGRAM_LENGTHS];
+      for (int i = 0; i < count; i++) {
+        counts[Math.min(offsets.get(i + 1) - offsets.get(i), HISTOGRAM_LENGTHS - 1)]++;
+      }
+      histogram = counts;
+    }
+    return histogram.clone();
+  }
+
+  /**
+   * Works out a checksum of the words and their order, so that a file written against this
+   * dictionary can tell whether it is being read against the same one.  This is the CRC32C of the
+   * offsets and then the bytes of the words, the same one a compiled file written from this store
+   * holds.
+   *
+   * @return the checksum of every word.
+   */
+  public int checksum() {
+    if (checksum == null) {
+      checksum = checksum(count);
+    }
+    return checksum;
+  }
+
+  /**
+   * Works out the checksum of the first few words, as {@link WordStore#checksum()} would if they
+   * were the only words.  Words added later do not change it.
+   *
+   * @param words the number of words to include.
+   * @return the checksum of words 0 to {@code words - 1}.
+   */
+  int checksum(int words) {
+    if (words < 0 || words > count) {
+      throw new IndexOutOfBoundsException("Words: " + words + ", Size: " + count);
+    }
+    if (words == count && checksum != null) {
+      return checksum;
+    }
+    CRC32C crc = new CRC32C();
+    ByteBuffer chunk = ByteBuffer.allocate(1 << 16);
+    for (int i = 0; i <= words; i++) {
+      if (!chunk.hasRemaining()) {
+        crc.update(chunk.flip());
+        chunk.clear();
+      }
+      chunk.putInt(offsets.get(i));
+    }
+    crc.update(chunk.flip());
+    crc.update(data.slice(0, offsets.get(words)));
+    return (int) crc.getValue();
+  }
+
+  /**
+   * Makes the store read only.  After this, {@link WordStore#load(Path)} and
+   * {@link WordStore#append(String)} throw, and the store can be shared between threads.
+   *
+   * @return this store.
+   */
+  public WordStore freeze() {
+    frozen = true;
+    return this;
+  }
+
+  /**
+   * standard getter
+   *
+   * @return {@code true} if the store has been frozen.
+   */
+  public boolean isFrozen() {
+    return frozen;
+  }
+
+  /**
+   * standard getter
+   *
+   * @return {@code true} if the words are kept outside the Java heap, either because the store
+   *     was created off-heap or because it is reading a mapped compiled file.
+   */
+  public boolean isOffHeap() {
+    return offHeap || data.isDirect();
+  }
+
+  /**
+   * Copies a word from {@code source} onto the end of {@link WordStore#data}.  The caller must
+   * have already made room with {@link WordStore#ensureBytes(int)}.
+   *
+   * @param source the buffer holding the word.
+   * @param start the offset of the word in {@code source}.
+   * @param length the number of bytes in the word.
+   */
+  private void copyIn(ByteBuffer source, int start, int length) {
+    if (count + 2 > offsets.capacity() || offsets.isReadOnly()) {
+      int[] bigger = new int[Math.max(32, offsets.capacity() * 2)];
+      offsets.get(0, bigger, 0, count + 1);
+      offsets = IntBuffer.wrap(bigger);
+    }
+    int end = offsets.get(count);
+    data.put(end, source, start, length);
+    offsets.put(++count, end + length);
+    histogram = null;
+    checksum = null;
+  }
+
+  /**
+   * Makes sure that {@code extra} more bytes fit in {@link WordStore#data}.
+   *
+   * @param extra the number of bytes about to be added.
+   */
+  private void ensureBytes(int extra) {
+    long needed = (long) offsets.get(count) + extra;
+    if (needed <= data.capacity() && !data.isReadOnly()) {
+      return;
+    }
+    if (needed > Integer.MAX_VALUE) {
+      throw new IllegalStateException("WordStore cannot hold more than 2GB of words");
+    }
+    int capacity = (int) Math.min(Integer.MAX_VALUE, Math.max(needed, 2L * data.capacity()));
+    ByteBuffer bigger = allocate(capacity);
+    bigger.put(0, data, 0, offsets.get(count));
+    data = bigger;
+  }
+
+  /**
+   * Creates a buffer on or off the heap, depending on {@link WordStore#offHeap}.
+   *
+   * @param capacity the size of the buffer.
+   * @return a new buffer.
+   */
+  private ByteBuffer allocate(int capacity) {
+    return offHeap ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+  }
+
+  /**
+   * Throws if the store has been frozen.
+   */
+  private void checkWritable() {
+    if (frozen) {
+      throw new IllegalStateException("WordStore is read only");
+    }
+  }
+
+  /**
+   * Throws if {@code index} is not the position of a word.
+   *
+   * @param index the position to check.
+   */
+  private void checkIndex(int index) {
+    if (index < 0 || index >= count) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + count);
+    }
+  }
+
+  /**
+   * Matches the characters that {@link String#trim()} removes.
+   *
+   * @param b a byte from a word file.
+   * @return {@code true} if {@code b} is whitespace.
+   */
+  private static boolean isSpace(byte b) {
+    return b >= 0 && b <= ' ';
+  }
+}
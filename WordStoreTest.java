@@ -0,0 +1,213 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link WordStore}.  Loading a file should give the same words that reading it line
+ * by line and trimming each line would.
+ *
+ * @author Ryan Riggs
+ * @since 17 - Oct - 2026
+ */
+class WordStoreTest {
+
+  /**
+   * A temporary word file, created before each test.
+   */
+  private Path file;
+
+  /**
+   * Creates the word file.
+   *
+   * @throws IOException if the file cannot be created.
+   */
+  @BeforeEach
+  void setUp() throws IOException {
+    file = Files.createTempFile("storeWords", ".txt");
+  }
+
+  /**
+   * Removes the word file.
+   *
+   * @throws IOException if the file cannot be removed.
+   */
+  @AfterEach
+  void tearDown() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  /**
+   * Lines are trimmed, Windows line endings are handled and the last line does not need a line
+   * break.
+   *
+   * @throws IOException if the file cannot be written or loaded.
+   */
+  @Test
+  void loadTrimsLines() throws IOException {
+    Files.writeString(file, "SQUARE\r\n  circle \n\nFISH\nCAKE");
+    WordStore store = new WordStore();
+    assertEquals(5, store.load(file));
+    assertEquals(List.of("SQUARE", "circle", "", "FISH", "CAKE"), store);
+  }
+
+  /**
+   * Loading a second file adds to the words that are already there.
+   *
+   * @throws IOException if the file cannot be written or loaded.
+   */
+  @Test
+  void loadAppends() throws IOException {
+    Files.writeString(file, "SQUARE\nCIRCLE\n");
+    WordStore store = new WordStore();
+    store.load(file);
+    store.load(file);
+    assertEquals(List.of("SQUARE", "CIRCLE", "SQUARE", "CIRCLE"), store);
+    assertThrows(IndexOutOfBoundsException.class, () -> store.get(4));
+  }
+
+  /**
+   * An off-heap store grows as words are added and gives back the same words.
+   */
+  @Test
+  void offHeapAppend() {
+    WordStore store = new WordStore(true);
+    StringBuilder expected = new StringBuilder();
+    for (int i = 0; i < 1000; i++) {
+      store.append("WORD" + i);
+      expected.append("WORD").append(i);
+    }
+    assertTrue(store.isOffHeap());
+    assertEquals(1000, store.size());
+    assertEquals("WORD999", store.get(999));
+    assertEquals(expected.length(), store.byteSize());
+  }
+
+  /**
+   * A compiled file gives back the same words and histogram, and loading it into an empty store
+   * reads them straight from the mapping.
+   *
+   * @throws IOException if the files cannot be written or loaded.
+   */
+  @Test
+  void compiledRoundTrip() throws IOException {
+    Files.writeString(file, "square\n CIRCLE\n\nFISH\nfish\nCAKE\n");
+    Path compiled = Files.createTempFile("storeWords", ".bin");
+    try {
+      assertEquals(4, DictionaryCompiler.compile(file, compiled).getAccepted());
+      assertTrue(WordStore.verifyCompiled(compiled));
+      WordStore store = new WordStore();
+      assertEquals(4, store.load(compiled));
+      assertEquals(List.of("SQUARE", "CIRCLE", "FISH", "CAKE"), store);
+      assertTrue(store.isOffHeap());
+      int[] histogram = store.lengthHistogram();
+      assertEquals(2, histogram[4]);
+      assertEquals(2, histogram[6]);
+      int checksum = store.checksum();
+      assertEquals(ByteBuffer.wrap(Files.readAllBytes(compiled)).getInt(16), checksum);
+
+      store.append("TEA");
+      assertEquals("TEA", store.get(4));
+      assertEquals("CAKE", store.get(3));
+      assertEquals(1, store.lengthHistogram()[3]);
+      assertNotEquals(checksum, store.checksum());
+      assertEquals(checksum, store.checksum(4));
+
+      WordStore text = new WordStore();
+      text.load(file);
+      text.load(compiled);
+      assertEquals(10, text.size());
+      assertEquals("SQUARE", text.get(6));
+    } finally {
+      Files.delete(compiled);
+    }
+  }
+
+  /**
+   * A compiled file with a changed byte fails its checksum, one that was cut short is no longer
+   * taken for compiled and its lines are all dropped by {@link WordIngester}, and one with a
+   * damaged offset table is refused before any word is added.
+   *
+   * @throws IOException if the files cannot be written or loaded.
+   */
+  @Test
+  void damagedCompiledFile() throws IOException {
+    WordStore words = new WordStore();
+    words.append("SQUARE");
+    words.append("CIRCLE");
+    Path compiled = Files.createTempFile("storeWords", ".bin");
+    try {
+      words.writeCompiled(compiled);
+      byte[] bytes = Files.readAllBytes(compiled);
+      bytes[bytes.length - 1] = 'X';
+      Files.write(compiled, bytes);
+      assertFalse(WordStore.verifyCompiled(compiled));
+      // load does not read the whole file, so only the checksum notices
+      WordStore damaged = new WordStore();
+      assertEquals(2, damaged.load(compiled));
+      assertEquals("CIRCLX", damaged.get(1));
+
+      Files.write(compiled, Arrays.copyOf(bytes, bytes.length - 1));
+      assertFalse(WordStore.verifyCompiled(compiled));
+      assertEquals(0, new WordIngester(new WordStore()).ingest(compiled).getAccepted());
+
+      for (int offset : new int[] {-4, 13}) {
+        byte[] table = bytes.clone();
+        ByteBuffer.wrap(table).putInt(WordStore.HEADER + Integer.BYTES, offset);
+        Files.write(compiled, table);
+        assertThrows(IOException.class, () -> new WordStore().load(compiled));
+        WordStore copied = new WordStore();
+        copied.append("TEA");
+        assertThrows(IOException.class, () -> copied.load(compiled));
+        assertEquals(List.of("TEA"), copied);
+      }
+    } finally {
+      Files.delete(compiled);
+    }
+  }
+
+  /**
+   * A text list whose first word is the compiled magic, "HMWD", is still read as text.
+   *
+   * @throws IOException if the file cannot be written or loaded.
+   */
+  @Test
+  void magicWordIsText() throws IOException {
+    Files.writeString(file, "HMWD\nFISH\nCAKE\nSQUARE\n");
+    WordStore store = new WordStore();
+    assertEquals(4, store.load(file));
+    assertEquals(List.of("HMWD", "FISH", "CAKE", "SQUARE"), store);
+    assertFalse(WordStore.verifyCompiled(file));
+    Hangman game = new Hangman(false, new WordStore(), GameOutput.NONE);
+    assertTrue(game.readFile(file.toString()));
+    assertEquals(4, game.getCountWordsRemaining());
+  }
+
+  /**
+   * Hangman can choose every word from a store it was given.
+   */
+  @Test
+  void hangmanUsesStore() {
+    WordStore store = new WordStore(true);
+    store.append("fish");
+    store.append("cake");
+    Hangman game = new Hangman(false, store);
+    assertEquals(2, game.getCountWordsRemaining());
+    String first = game.chooseWord();
+    String second = game.chooseWord();
+    assertEquals(Set.of("FISH", "CAKE"), Set.of(first, second));
+    assertEquals(0, game.getCountWordsRemaining());
+  }
+}